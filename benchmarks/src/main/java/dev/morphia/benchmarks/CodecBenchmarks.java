@@ -0,0 +1,91 @@
+package dev.morphia.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.models.Audited;
+import dev.morphia.benchmarks.models.Book;
+import dev.morphia.benchmarks.models.Drawing;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Person;
+import dev.morphia.mapping.AccessorStrategy;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures encoding and decoding entities of varying shapes through the codecs Morphia registers for them, with each of the strategies
+ * for reading and writing their properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmarks {
+    @Param({ "flat", "nested", "polymorphic", "lifecycle", "references" })
+    private String model;
+
+    @Param({ "REFLECTION", "METHOD_HANDLES" })
+    private AccessorStrategy accessors;
+
+    private MongoClient client;
+    private Codec<Object> codec;
+    private Object entity;
+    private RawBsonDocument document;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        client = Fixtures.client();
+        MorphiaDatastore datastore = Fixtures.datastore(client, Fixtures.config().accessorStrategy(accessors));
+        entity = switch (model) {
+            case "flat" -> new Flat("flat", 42);
+            case "nested" -> new Person("Homer");
+            case "polymorphic" -> new Drawing("sketch");
+            case "lifecycle" -> new Audited("audited");
+            case "references" -> new Book("Dune");
+            default -> throw new IllegalArgumentException(model);
+        };
+        codec = (Codec<Object>) datastore.getCodecRegistry().get(entity.getClass());
+        document = new RawBsonDocument(entity, codec);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public BasicOutputBuffer encode() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        codec.encode(new BsonBinaryWriter(buffer), entity, EncoderContext.builder().build());
+        return buffer;
+    }
+
+    @Benchmark
+    public Object decode() {
+        return codec.decode(new BsonBinaryReader(document.getByteBuffer().asNIO()), DecoderContext.builder().build());
+    }
+}
@@ -0,0 +1,40 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+
+import dev.morphia.Morphia;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.config.ManualMorphiaConfig;
+import dev.morphia.config.MorphiaConfig;
+
+/**
+ * Builds the datastores the benchmarks run against. The client is never used to talk to a server so none is needed.
+ */
+final class Fixtures {
+    static final String MODELS = Flat.class.getPackageName();
+
+    private Fixtures() {
+    }
+
+    static MorphiaConfig config() {
+        return ManualMorphiaConfig.configure()
+                .database("benchmarks")
+                .packages(List.of(MODELS));
+    }
+
+    static MorphiaDatastore datastore(MongoClient client) {
+        return datastore(client, config());
+    }
+
+    static MorphiaDatastore datastore(MongoClient client, MorphiaConfig config) {
+        return (MorphiaDatastore) Morphia.createDatastore(client, config);
+    }
+
+    static MongoClient client() {
+        return MongoClients.create("mongodb://localhost:27017");
+    }
+}
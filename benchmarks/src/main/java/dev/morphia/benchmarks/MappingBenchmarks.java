@@ -0,0 +1,90 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.benchmarks.models.Address;
+import dev.morphia.benchmarks.models.Audited;
+import dev.morphia.benchmarks.models.Author;
+import dev.morphia.benchmarks.models.Book;
+import dev.morphia.benchmarks.models.Circle;
+import dev.morphia.benchmarks.models.Drawing;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Location;
+import dev.morphia.benchmarks.models.Person;
+import dev.morphia.benchmarks.models.Square;
+import dev.morphia.config.MorphiaConfig;
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving property paths against mapped entities and the cost of mapping entities at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmarks {
+    private static final List<Class<?>> MODELS = List.of(Address.class, Audited.class, Author.class, Book.class, Circle.class,
+            Drawing.class, Flat.class, Location.class, Person.class, Square.class);
+
+    private MongoClient client;
+    private MorphiaConfig config;
+    private Mapper mapper;
+    private EntityModel personModel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = Fixtures.client();
+        MorphiaDatastore datastore = Fixtures.datastore(client);
+        config = Fixtures.config();
+        mapper = datastore.getMapper();
+        personModel = mapper.getEntityModel(Person.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public String pathTarget() {
+        return new PathTarget(mapper, personModel, "home.location.latitude", true).translatedPath();
+    }
+
+    @Benchmark
+    public String pathTargetThroughCollection() {
+        return new PathTarget(mapper, personModel, "previous.$.street", true).translatedPath();
+    }
+
+    @Benchmark
+    public List<EntityModel> mapClasses() {
+        return new Mapper(config).map(MODELS);
+    }
+
+    @Benchmark
+    public Mapper mapPackage() {
+        Mapper fresh = new Mapper(config);
+        fresh.map(Fixtures.MODELS);
+        return fresh;
+    }
+}
@@ -0,0 +1,103 @@
+package dev.morphia.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.client.MongoClient;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.aggregation.AggregationImpl;
+import dev.morphia.benchmarks.models.Flat;
+import dev.morphia.benchmarks.models.Person;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.Operations;
+
+import org.bson.BsonDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.expressions.Expressions.field;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.aggregation.stages.Limit.limit;
+import static dev.morphia.aggregation.stages.Match.match;
+import static dev.morphia.aggregation.stages.Sort.sort;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.exists;
+import static dev.morphia.query.filters.Filters.gt;
+import static dev.morphia.query.filters.Filters.in;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static dev.morphia.query.updates.UpdateOperators.push;
+import static dev.morphia.query.updates.UpdateOperators.set;
+import static dev.morphia.query.updates.UpdateOperators.unset;
+
+/**
+ * Measures translating queries, updates, and aggregation pipelines in to the documents sent to the server. Each benchmark builds its
+ * query from scratch since path validation and translation happen as it is built as well as when it is rendered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryBenchmarks {
+    private MongoClient client;
+    private MorphiaDatastore datastore;
+    private EntityModel flatModel;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = Fixtures.client();
+        datastore = Fixtures.datastore(client);
+        flatModel = datastore.getMapper().getEntityModel(Flat.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public BsonDocument query() {
+        return ((MorphiaQuery<Person>) datastore.find(Person.class)
+                .filter(eq("name", "Homer"),
+                        gt("home.location.latitude", 10),
+                        in("previous.city", List.of("Springfield", "Shelbyville")),
+                        exists("others")))
+                .toBsonDocument();
+    }
+
+    @Benchmark
+    public BsonDocument update() {
+        return new Operations(flatModel, List.of(
+                set("name", "updated"),
+                inc("count", 1),
+                push("tags", "yellow"),
+                unset("ratio")), true)
+                .toBsonDocument(datastore);
+    }
+
+    @Benchmark
+    public List<BsonDocument> aggregation() {
+        return ((AggregationImpl<Flat>) datastore.aggregate(Flat.class)
+                .pipeline(match(eq("active", true)),
+                        group(id(field("name")))
+                                .field("total", sum(field("count"))),
+                        sort().descending("total"),
+                        limit(10)))
+                .pipeline();
+    }
+}
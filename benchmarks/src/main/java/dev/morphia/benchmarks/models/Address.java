@@ -0,0 +1,23 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Property;
+
+@Entity
+public class Address {
+    @Property("st")
+    private String street;
+    private String city;
+    private String postCode;
+    private Location location;
+
+    public Address() {
+    }
+
+    public Address(String street, String city, String postCode, Location location) {
+        this.street = street;
+        this.city = city;
+        this.postCode = postCode;
+        this.location = location;
+    }
+}
@@ -0,0 +1,43 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.Date;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.Transient;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+/**
+ * Has lifecycle callbacks, one of which needs the document and so takes the slower decoding path.
+ */
+@Entity("audited")
+public class Audited {
+    @Id
+    private ObjectId id;
+    private String name;
+    private Date lastModified;
+    @Transient
+    private boolean loaded;
+
+    public Audited() {
+    }
+
+    public Audited(String name) {
+        this.id = new ObjectId();
+        this.name = name;
+    }
+
+    @PrePersist
+    void prePersist() {
+        lastModified = new Date(1_700_000_000_000L);
+    }
+
+    @PostLoad
+    void postLoad(Document document) {
+        loaded = document.containsKey("lastModified");
+    }
+}
@@ -0,0 +1,21 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+@Entity("authors")
+public class Author {
+    @Id
+    private ObjectId id;
+    private String name;
+
+    public Author() {
+    }
+
+    public Author(String name) {
+        this.id = new ObjectId();
+        this.name = name;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+
+import org.bson.types.ObjectId;
+
+/**
+ * References other entities lazily so that decoding creates proxies rather than querying for them.
+ */
+@Entity("books")
+public class Book {
+    @Id
+    private ObjectId id;
+    private String title;
+    @Reference(lazy = true)
+    private Author author;
+    @Reference(lazy = true)
+    private List<Author> editors;
+
+    public Book() {
+    }
+
+    public Book(String title) {
+        this.id = new ObjectId();
+        this.title = title;
+        this.author = new Author("Herbert");
+        this.editors = List.of(new Author("Campbell"), new Author("Gold"));
+    }
+}
@@ -0,0 +1,34 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Holds shapes of several types which are told apart by their discriminators when decoded.
+ */
+@Entity("drawings")
+public class Drawing {
+    @Id
+    private ObjectId id;
+    private String title;
+    private Shape background;
+    private List<Shape> shapes;
+
+    public Drawing() {
+    }
+
+    public Drawing(String title) {
+        this.id = new ObjectId();
+        this.title = title;
+        this.background = new Square("white", 100);
+        this.shapes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            shapes.add(i % 2 == 0 ? new Circle("red", i) : new Square("blue", i));
+        }
+    }
+}
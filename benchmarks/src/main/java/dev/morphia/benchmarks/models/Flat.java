@@ -0,0 +1,36 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.Date;
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+@Entity("flat")
+public class Flat {
+    @Id
+    private ObjectId id;
+    private String name;
+    private int count;
+    private long total;
+    private double ratio;
+    private boolean active;
+    private Date created;
+    private List<String> tags;
+
+    public Flat() {
+    }
+
+    public Flat(String name, int count) {
+        this.id = new ObjectId();
+        this.name = name;
+        this.count = count;
+        this.total = count * 1_000L;
+        this.ratio = count / 7.0;
+        this.active = count % 2 == 0;
+        this.created = new Date(1_700_000_000_000L + count);
+        this.tags = List.of("red", "green", "blue");
+    }
+}
@@ -0,0 +1,17 @@
+package dev.morphia.benchmarks.models;
+
+import dev.morphia.annotations.Entity;
+
+@Entity
+public class Location {
+    private double latitude;
+    private double longitude;
+
+    public Location() {
+    }
+
+    public Location(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
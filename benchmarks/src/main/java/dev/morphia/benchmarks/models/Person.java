@@ -0,0 +1,40 @@
+package dev.morphia.benchmarks.models;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+
+import org.bson.types.ObjectId;
+
+/**
+ * Nests embedded entities directly, in a list, and in a map.
+ */
+@Entity("people")
+public class Person {
+    @Id
+    private ObjectId id;
+    private String name;
+    private Address home;
+    private List<Address> previous;
+    private Map<String, Address> others;
+
+    public Person() {
+    }
+
+    public Person(String name) {
+        this.id = new ObjectId();
+        this.name = name;
+        this.home = new Address("1 Main St", "Springfield", "12345", new Location(39.8, -89.6));
+        this.previous = new ArrayList<>();
+        this.others = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            Address address = new Address(i + " Elm St", "Shelbyville", "5432" + i, new Location(39.4 + i, -88.8 - i));
+            previous.add(address);
+            others.put("address" + i, address);
+        }
+    }
+}
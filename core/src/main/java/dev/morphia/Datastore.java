@@ -11,6 +11,8 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.aggregation.Aggregation;
 import dev.morphia.annotations.internal.MorphiaExperimental;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.CacheStatistics;
+import dev.morphia.changestream.EntityChangeStream;
 import dev.morphia.query.Query;
 import dev.morphia.transactions.MorphiaSession;
 import dev.morphia.transactions.MorphiaTransaction;
@@ -84,6 +86,15 @@ public interface Datastore {
     @MorphiaExperimental
     <T> Query<T> find(Class<T> type, Document nativeQuery);
 
+    /**
+     * Reports the activity of the cache for a {@link dev.morphia.annotations.Cached} entity. Types sharing a collection share a cache.
+     *
+     * @param type the cached type
+     * @return the statistics for the type's collection
+     * @since 3.0
+     */
+    CacheStatistics getCacheStatistics(Class<?> type);
+
     /**
      * @param type the type look up
      * @param <T>  the class type
@@ -308,4 +319,14 @@ public interface Datastore {
      */
     @Nullable
     <T> T withTransaction(ClientSessionOptions options, MorphiaTransaction<T> transaction);
+
+    /**
+     * Watches the changes made to a type's collection. The documents of the events are decoded as entities.
+     *
+     * @param type the type to watch
+     * @param <T>  the type
+     * @return the change stream, to be configured and then opened with {@link EntityChangeStream#iterator()}
+     * @since 3.0
+     */
+    <T> EntityChangeStream<T> watch(Class<T> type);
 }
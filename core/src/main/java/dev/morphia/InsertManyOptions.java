@@ -1,6 +1,7 @@
 package dev.morphia;
 
 import com.mongodb.WriteConcern;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
@@ -18,6 +19,7 @@ public class InsertManyOptions implements WriteConfigurable<InsertManyOptions>,
     private com.mongodb.client.model.InsertManyOptions options = new com.mongodb.client.model.InsertManyOptions();
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private String collection;
+    private int batchSize;
 
     /**
      * Creates a new options wrapper
@@ -36,6 +38,31 @@ public class InsertManyOptions implements WriteConfigurable<InsertManyOptions>,
         this.options = that.options;
         this.writeConcern = that.writeConcern;
         this.collection = that.collection;
+        this.batchSize = that.batchSize;
+    }
+
+    /**
+     * Sets the maximum number of entities sent to the server in a single bulk write when saving a list of entities. A value of 0, the
+     * default, sends all the entities for a collection in one request and lets the driver split it as needed.
+     *
+     * @param batchSize the maximum number of entities per bulk write
+     * @return this
+     * @since 3.0
+     */
+    public InsertManyOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of entities per bulk write
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int batchSize() {
+        return batchSize;
     }
 
     /**
@@ -131,6 +158,23 @@ public class InsertManyOptions implements WriteConfigurable<InsertManyOptions>,
         return options;
     }
 
+    /**
+     * @return the bulk write version of this instance
+     * @morphia.internal
+     * @hidden
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public BulkWriteOptions bulkWriteOptions() {
+        BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                .ordered(options.isOrdered())
+                .bypassDocumentValidation(options.getBypassDocumentValidation());
+        if (options.getComment() != null) {
+            bulkWriteOptions.comment(options.getComment());
+        }
+        return bulkWriteOptions;
+    }
+
     /**
      * Sets whether the server should insert the documents in the order provided.
      *
@@ -35,6 +35,7 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
     private com.mongodb.client.model.InsertOneOptions options = new com.mongodb.client.model.InsertOneOptions();
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private boolean unset;
+    private boolean refresh = true;
     private String collection;
 
     /**
@@ -53,6 +54,7 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
     public InsertOneOptions(InsertOneOptions that) {
         this.options = that.options;
         this.writeConcern = that.writeConcern;
+        this.refresh = that.refresh;
     }
 
     /**
@@ -133,6 +135,30 @@ public class InsertOneOptions implements WriteConfigurable<InsertOneOptions>,
         return options;
     }
 
+    /**
+     * @return true if a merged entity should be read back from the database
+     * @since 3.0
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public boolean refresh() {
+        return refresh;
+    }
+
+    /**
+     * Sets whether {@link Datastore#merge(Object, InsertOneOptions)} reads the merged document back from the database. When disabled,
+     * the entity passed in is returned rather than a fresh copy read back after the update.
+     *
+     * @param refresh false to skip reading the merged document
+     * @return this
+     * @since 3.0
+     */
+    public InsertOneOptions refresh(boolean refresh) {
+        this.refresh = refresh;
+        return this;
+    }
+
     /**
      * Applies the rules for storing null/empty values for fields not present in the object to be merged.
      *
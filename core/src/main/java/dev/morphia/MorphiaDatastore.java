@@ -1,26 +1,43 @@
 package dev.morphia;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoException;
 import com.mongodb.MongoWriteException;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -33,12 +50,17 @@ import dev.morphia.aggregation.AggregationImpl;
 import dev.morphia.aggregation.codecs.AggregationCodecProvider;
 import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.LoadOnly;
 import dev.morphia.annotations.ShardKeys;
 import dev.morphia.annotations.ShardOptions;
 import dev.morphia.annotations.Validation;
 import dev.morphia.annotations.internal.IndexHelper;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.CacheStatistics;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.changestream.EntityChangeStream;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.internal.ChangeTracker;
 import dev.morphia.internal.CollectionConfigurable;
 import dev.morphia.internal.CollectionConfiguration;
 import dev.morphia.internal.ReadConfigurable;
@@ -59,6 +81,9 @@ import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.metrics.MeasuredCursor;
+import dev.morphia.metrics.MeasuredOperations;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
@@ -70,11 +95,21 @@ import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.MorphiaTransaction;
 import dev.morphia.transactions.SessionDatastore;
 
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -98,13 +133,28 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class MorphiaDatastore implements Datastore {
     private static final Logger LOG = LoggerFactory.getLogger(Datastore.class);
+    /**
+     * The datastore whose work the codecs are doing on this thread when it shares them with the datastore they were built for
+     */
+    private static final ThreadLocal<MorphiaDatastore> BOUND = new ThreadLocal<>();
+    /**
+     * The most collections to apply indexes to at once
+     */
+    private static final int INDEX_THREADS = 8;
     private final MongoClient mongoClient;
     private final Mapper mapper;
     private final QueryFactory queryFactory;
     private final CodecRegistry codecRegistry;
+    private final EntityCache entityCache;
+    private final ChangeTracker changeTracker;
+    private final MorphiaMetrics metrics;
     public List<MorphiaCodecProvider> morphiaCodecProviders = new ArrayList<>();
     private MongoDatabase database;
     private DatastoreOperations operations;
+    /**
+     * The datastore the codecs in the registry were built for and so the one they call back in to.
+     */
+    private final MorphiaDatastore codecOwner;
 
     /**
      * @param client the mongo client
@@ -117,13 +167,17 @@ public class MorphiaDatastore implements Datastore {
         this.mongoClient = client;
         this.mapper = new Mapper(config);
         this.queryFactory = mapper.getConfig().queryFactory();
+        this.metrics = config.metrics().orElse(MorphiaMetrics.NONE);
+        this.codecOwner = this;
         importModels();
 
         MongoDatabase clientDatabase = mongoClient.getDatabase(config.database());
         codecRegistry = buildRegistry(clientDatabase.getCodecRegistry());
+        entityCache = new EntityCache(codecRegistry);
+        changeTracker = new ChangeTracker();
 
         this.database = clientDatabase.withCodecRegistry(this.codecRegistry);
-        operations = new CollectionOperations();
+        operations = measured(new CollectionOperations());
 
         config.packages().forEach(packageName -> {
             Sofia.logMappingPackage(packageName);
@@ -154,9 +208,40 @@ public class MorphiaDatastore implements Datastore {
         this.mapper = datastore.mapper.copy();
         this.queryFactory = datastore.queryFactory;
         this.operations = datastore.operations;
+        this.entityCache = datastore.entityCache;
+        this.changeTracker = datastore.changeTracker;
+        this.metrics = datastore.metrics;
+        this.codecOwner = this;
         codecRegistry = buildRegistry(mongoClient.getDatabase(mapper.getConfig().database()).getCodecRegistry());
     }
 
+    /**
+     * Creates a datastore which shares the mapping, codecs, and caches of another and differs only in how it talks to the database. Nothing
+     * is copied or rebuilt so this is cheap enough to do per unit of work such as a session. The codecs still belong to the other
+     * datastore, so those handed out by this one mark their work as done {@link #active() for this datastore} and anything they do
+     * against the database, e.g. running lifecycle listeners or loading references, goes through its operations.
+     *
+     * @param datastore  the datastore to share with
+     * @param operations creates the operations to use given the client of the shared datastore
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    protected MorphiaDatastore(MorphiaDatastore datastore, Function<MongoClient, DatastoreOperations> operations) {
+        this.mongoClient = datastore.mongoClient;
+        this.mapper = datastore.mapper;
+        this.queryFactory = datastore.queryFactory;
+        this.entityCache = datastore.entityCache;
+        this.changeTracker = datastore.changeTracker;
+        this.metrics = datastore.metrics;
+        this.codecOwner = datastore.codecOwner;
+        this.morphiaCodecProviders = codecOwner.morphiaCodecProviders;
+        this.codecRegistry = new BoundRegistry(this, codecOwner.codecRegistry);
+        this.database = datastore.database.withCodecRegistry(codecRegistry);
+        this.operations = measured(operations.apply(mongoClient));
+    }
+
     private CodecRegistry buildRegistry(CodecRegistry codecRegistry) {
         morphiaCodecProviders.add(new MorphiaCodecProvider(this));
 
@@ -180,6 +265,7 @@ public class MorphiaDatastore implements Datastore {
     public <T> void insert(T entity, InsertOneOptions options) {
         MongoCollection<T> collection = (MongoCollection<T>) configureCollection(options, getCollection(entity.getClass()));
         VersionBumpInfo info = updateVersioning(entity);
+        changeTracker.forget(entity);
 
         try {
             operations.insertOne(collection, entity, options);
@@ -206,6 +292,7 @@ public class MorphiaDatastore implements Datastore {
             List<VersionBumpInfo> infos = list.stream()
                     .map(this::updateVersioning)
                     .collect(Collectors.toList());
+            list.forEach(changeTracker::forget);
 
             try {
                 MongoCollection<T> collection = configureCollection(options,
@@ -296,11 +383,53 @@ public class MorphiaDatastore implements Datastore {
             LOG.warn(Sofia.noMappedClasses());
         }
         final IndexHelper indexHelper = new IndexHelper(mapper);
+        Map<String, List<EntityModel>> byCollection = new LinkedHashMap<>();
         for (EntityModel model : mapper.getMappedEntities()) {
             if (model.getIdProperty() != null) {
-                indexHelper.createIndex(getCollection(model.getType()), model);
+                byCollection.computeIfAbsent(model.collectionName(), name -> new ArrayList<>()).add(model);
             }
         }
+        List<Runnable> tasks = byCollection.values().stream()
+                .<Runnable> map(models -> () -> indexHelper.createIndexes(getCollection(models.get(0).getType()), models, true))
+                .collect(Collectors.toList());
+        if (tasks.size() < 2) {
+            tasks.forEach(Runnable::run);
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), INDEX_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "morphia-indexes");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = tasks.stream()
+                    .<Future<?>> map(executor::submit)
+                    .collect(Collectors.toList());
+            RuntimeException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    RuntimeException cause = e.getCause() instanceof RuntimeException runtime
+                            ? runtime
+                            : new MappingException(e.getCause().getMessage(), e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MappingException(e.getMessage(), e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     public <T> void ensureIndexes(Class<T> type) {
@@ -348,6 +477,102 @@ public class MorphiaDatastore implements Datastore {
         return codecRegistry;
     }
 
+    @Override
+    public CacheStatistics getCacheStatistics(Class<?> type) {
+        return entityCache.statistics(mapper.getEntityModel(type).collectionName());
+    }
+
+    @Override
+    public <T> EntityChangeStream<T> watch(Class<T> type) {
+        return new EntityChangeStream<>(this, type);
+    }
+
+    /**
+     * @return the cache of {@link dev.morphia.annotations.Cached} entities
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Drops a written document, or every document of a collection, from the entity cache. A datastore writing within a transaction also
+     * drops them again once the transaction ends, so a copy read by others before the write was committed does not outlive it.
+     *
+     * @param collection the collection written to
+     * @param id         the ID of the document written or null if any document in the collection may have changed
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void invalidateCache(String collection, @Nullable Object id) {
+        if (id != null) {
+            entityCache.invalidate(collection, id);
+        } else {
+            entityCache.invalidate(collection);
+        }
+    }
+
+    /**
+     * @return the snapshots of {@link dev.morphia.annotations.TrackChanges} entities
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public ChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+
+    /**
+     * Records the state of a {@link dev.morphia.annotations.TrackChanges tracked} entity as read from or written to the database. A
+     * datastore working within a transaction only records it once the transaction commits since the state is not durable before then.
+     *
+     * @param entity   the entity
+     * @param document the document the entity was read from or written as
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void trackChanges(Object entity, BsonDocument document) {
+        changeTracker.track(entity, document);
+    }
+
+    /**
+     * @return the metrics configured for this datastore or {@link MorphiaMetrics#NONE}
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Opens a cursor such that opening and iterating it and the number of documents it returns are reported to the configured metrics.
+     *
+     * @param operation  the read operation
+     * @param collection the collection read
+     * @param opener     opens the cursor
+     * @param <T>        the result type
+     * @return the opened cursor
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public <T> MongoCursor<T> measured(String operation, MongoCollection<?> collection, Supplier<MongoCursor<T>> opener) {
+        return metrics.isEnabled()
+                ? MeasuredCursor.open(metrics, operation, collection.getNamespace().getCollectionName(), opener)
+                : opener.get();
+    }
+
     @Override
     public <T> MongoCollection<T> getCollection(Class<T> type) {
         EntityModel entityModel = mapper.getEntityModel(type);
@@ -379,31 +604,20 @@ public class MorphiaDatastore implements Datastore {
             throw new MissingIdException();
         }
         VersionBumpInfo info = updateVersioning(entity);
+        changeTracker.forget(entity);
 
         try {
-            Document filter = new Document("_id", id);
-            info.filter(filter);
-            entityModel.getShardKeys().forEach((property) -> {
-                filter.put(property.getMappedName(), property.getValue(entity));
-            });
-
-            UpdateResult updateResult = operations.replaceOne(collection, entity, filter, options);
+            UpdateResult updateResult = operations.replaceOne(collection, entity, replaceFilter(entityModel, entity, id, info), options);
 
             if (updateResult.getModifiedCount() != 1) {
-                if (info.versioned()) {
-                    info.rollbackVersion();
-                    throw new VersionMismatchException(entity.getClass(), id);
-                } else if (!entityModel.getShardKeys().isEmpty()) {
-                    throw new MappingException(noShardKeyMatch(entityModel.getShardKeys()
-                            .stream().map(PropertyModel::getMappedName)
-                            .collect(joining(", "))));
-                } else {
-                    throw new MappingException(noDocumentsUpdated(id));
-                }
+                info.rollbackVersion();
+                throw replaceFailure(entityModel, entity, id, info);
             }
         } catch (MongoWriteException e) {
             info.rollbackVersion();
             throw e;
+        } finally {
+            invalidateCache(collection.getNamespace().getCollectionName(), id);
         }
         return entity;
     }
@@ -450,20 +664,25 @@ public class MorphiaDatastore implements Datastore {
             throw new MappingException("Could not get id for " + entity.getClass().getName());
         }
 
+        EntityModel entityModel = mapper.getEntityModel(entity.getClass());
+        BsonDocument snapshot = changeTracker.isTracked(entityModel) ? changeTracker.snapshot(entity) : null;
         VersionBumpInfo info = updateVersioning(entity);
 
-        final Query<T> query = info.filter((Query<T>) find(entity.getClass()).filter(eq("_id", id)));
-
         UpdateResult execute;
         UpdateOptions updateOptions = new UpdateOptions()
                 .writeConcern(options.writeConcern());
-        if (!options.unsetMissing()) {
-            execute = query.update(updateOptions, set(entity));
+        if (snapshot != null) {
+            execute = mergeChanges(entityModel, entity, id, info, snapshot, options, updateOptions);
         } else {
-            MorphiaCodec morphiaCodec = (MorphiaCodec) codecRegistry.get(entity.getClass());
-            var updates = ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
-                    .encode(entity);
-            execute = query.update(updateOptions, updates.remove(0), updates.toArray(new UpdateOperator[0]));
+            final Query<T> query = info.filter((Query<T>) find(entity.getClass()).filter(eq("_id", id)));
+            if (!options.unsetMissing()) {
+                execute = query.update(updateOptions, set(entity));
+            } else {
+                MorphiaCodec morphiaCodec = (MorphiaCodec) codecOwner.codecRegistry.get(entity.getClass());
+                var updates = bound(() -> ((MergingEncoder<T>) new MergingEncoder(query, morphiaCodec, mapper.getConfig()))
+                        .encode(entity));
+                execute = query.update(updateOptions, updates.remove(0), updates.toArray(new UpdateOperator[0]));
+            }
         }
         if (execute.getMatchedCount() != 1) {
             if (info.versioned()) {
@@ -473,9 +692,50 @@ public class MorphiaDatastore implements Datastore {
             throw new UpdateException(Sofia.noMatchingDocuments());
         }
 
+        if (!options.refresh()) {
+            return entity;
+        }
         return (T) find(entity.getClass()).filter(eq("_id", id)).iterator(new FindOptions().limit(1)).next();
     }
 
+    /**
+     * Merges only the fields of a tracked entity which changed since its snapshot was taken.
+     */
+    private <T> UpdateResult mergeChanges(EntityModel entityModel, T entity, Object id, VersionBumpInfo info, BsonDocument snapshot,
+            InsertOneOptions options, UpdateOptions updateOptions) {
+        MongoCollection<T> collection = configureCollection(updateOptions, (MongoCollection<T>) getCollection(entity.getClass()));
+        RawBsonDocument document = encode(entity);
+        Set<String> unsetKeys = options.unsetMissing()
+                ? entityModel.getProperties().stream()
+                        .filter(property -> !property.hasAnnotation(LoadOnly.class))
+                        .map(PropertyModel::getMappedName)
+                        .collect(Collectors.toSet())
+                : Set.of();
+        Document changes = ChangeTracker.changes(snapshot, document, unsetKeys);
+
+        UpdateResult result;
+        try {
+            result = changes.isEmpty()
+                    ? UpdateResult.acknowledged(1, 0L, null)
+                    : operations.updateOne(collection, replaceFilter(entityModel, entity, id, info), changes, updateOptions);
+        } finally {
+            invalidateCache(collection.getNamespace().getCollectionName(), id);
+        }
+
+        if (result.getMatchedCount() == 1) {
+            BsonDocument merged = new BsonDocument();
+            merged.putAll(snapshot);
+            merged.putAll(document);
+            for (String key : snapshot.keySet()) {
+                if (!document.containsKey(key) && unsetKeys.contains(key)) {
+                    merged.remove(key);
+                }
+            }
+            trackChanges(entity, merged);
+        }
+        return result;
+    }
+
     protected MongoClient getMongoClient() {
         return mongoClient;
     }
@@ -559,37 +819,35 @@ public class MorphiaDatastore implements Datastore {
             return List.of();
         }
 
-        Map<Class<?>, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
-        for (T entity : entities) {
-            Class<?> type = entity.getClass();
-
-            EntityModel model = getMapper().getEntityModel(type);
-            if (getMapper().getId(entity) != null || model.getVersionProperty() != null) {
-                list.add(entity);
-            } else {
-                grouped.computeIfAbsent(type, c -> new ArrayList<>())
-                        .add(entity);
-            }
-        }
+        Map<String, List<T>> grouped = groupByCollection(entities);
 
         String alternate = options.collection();
         if (grouped.size() > 1 && alternate != null) {
             Sofia.logInsertManyAlternateCollection(alternate);
         }
 
-        for (Entry<Class<?>, List<T>> entry : grouped.entrySet()) {
-            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(entry.getKey()));
-            operations.insertMany(collection, entry.getValue(), options);
+        for (List<T> list : grouped.values()) {
+            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(list.get(0).getClass()));
+            List<BulkEntry<T>> bulkEntries = new ArrayList<>();
+            for (T entity : list) {
+                EntityModel entityModel = mapper.getEntityModel(entity.getClass());
+                PropertyModel idProperty = entityModel.getIdProperty();
+                Object id = idProperty != null ? idProperty.getValue(entity) : null;
+                VersionBumpInfo info = updateVersioning(entity);
+
+                if (id == null || info.isFirstVersion()) {
+                    bulkEntries.add(new BulkEntry<>(entityModel, entity, id, info, new InsertOneModel<>(entity)));
+                } else {
+                    var replaceOptions = new com.mongodb.client.model.ReplaceOptions()
+                            .bypassDocumentValidation(options.bypassDocumentValidation())
+                            .upsert(!info.versioned());
+                    bulkEntries.add(new BulkEntry<>(entityModel, entity, id, info,
+                            new ReplaceOneModel<>(replaceFilter(entityModel, entity, id, info), entity, replaceOptions)));
+                }
+            }
+            bulkWrite(collection, bulkEntries, options.bulkWriteOptions(), options.batchSize());
         }
 
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                .bypassDocumentValidation(options.bypassDocumentValidation())
-                .collection(alternate)
-                .writeConcern(options.writeConcern());
-        for (T entity : list) {
-            save(entity, insertOneOptions);
-        }
         return entities;
     }
 
@@ -615,6 +873,7 @@ public class MorphiaDatastore implements Datastore {
                 .next();
 
         refreshCodec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build());
+        changeTracker.forget(entity);
     }
 
     @Override
@@ -640,6 +899,50 @@ public class MorphiaDatastore implements Datastore {
         return operations;
     }
 
+    /**
+     * @return true if this datastore is working within a session, in which case state kept outside the database such as cached documents
+     *         may not reflect what the session sees
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean isSessionBound() {
+        return false;
+    }
+
+    /**
+     * Codecs call back in to the datastore they were built for. When that datastore shares them, e.g. with a session, this finds the
+     * datastore whose work they are doing on this thread so that running lifecycle listeners and loading references goes through it.
+     *
+     * @return the datastore sharing this one's codecs whose documents are being encoded or decoded on this thread, or this datastore
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MorphiaDatastore active() {
+        MorphiaDatastore bound = BOUND.get();
+        return bound != null && bound.codecOwner == this ? bound : this;
+    }
+
+    private <R> R bound(Supplier<R> action) {
+        if (codecOwner == this) {
+            return action.get();
+        }
+        MorphiaDatastore previous = BOUND.get();
+        BOUND.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                BOUND.set(previous);
+            } else {
+                BOUND.remove();
+            }
+        }
+    }
+
     /**
      * @param morphiaSession the session
      * @param body           the transaction body
@@ -649,7 +952,7 @@ public class MorphiaDatastore implements Datastore {
     @Nullable
     protected <T> T doTransaction(SessionDatastore morphiaSession, MorphiaTransaction<T> body) {
         try (morphiaSession) {
-            return morphiaSession.getSession().withTransaction(() -> body.execute(morphiaSession));
+            return morphiaSession.withTransaction(() -> body.execute(morphiaSession));
         }
     }
 
@@ -664,9 +967,28 @@ public class MorphiaDatastore implements Datastore {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> List<T> replace(List<T> entities, ReplaceOptions options) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
         for (T entity : entities) {
-            replace(entity, options);
+            if (mapper.getId(entity) == null) {
+                throw new MissingIdException();
+            }
+        }
+
+        for (List<T> list : groupByCollection(entities).values()) {
+            MongoCollection<T> collection = configureCollection(options, (MongoCollection<T>) getCollection(list.get(0).getClass()));
+            List<BulkEntry<T>> bulkEntries = new ArrayList<>();
+            for (T entity : list) {
+                EntityModel entityModel = mapper.getEntityModel(entity.getClass());
+                Object id = mapper.getId(entity);
+                VersionBumpInfo info = updateVersioning(entity);
+                bulkEntries.add(new BulkEntry<>(entityModel, entity, id, info,
+                        new ReplaceOneModel<>(replaceFilter(entityModel, entity, id, info), entity, options)));
+            }
+            bulkWrite(collection, bulkEntries, options.bulkWriteOptions(), options.batchSize());
         }
 
         return entities;
@@ -705,10 +1027,14 @@ public class MorphiaDatastore implements Datastore {
      * @return this
      */
     protected MorphiaDatastore operations(DatastoreOperations operations) {
-        this.operations = operations;
+        this.operations = measured(operations);
         return this;
     }
 
+    private DatastoreOperations measured(DatastoreOperations operations) {
+        return metrics.isEnabled() ? new MeasuredOperations(operations, metrics) : operations;
+    }
+
     private <T> void save(MongoCollection collection, T entity, InsertOneOptions options) {
         collection = configureCollection(options, collection);
 
@@ -716,33 +1042,78 @@ public class MorphiaDatastore implements Datastore {
         PropertyModel idProperty = entityModel.getIdProperty();
         Object id = idProperty != null ? idProperty.getValue(entity) : null;
         VersionBumpInfo info = updateVersioning(entity);
+        RawBsonDocument document = changeTracker.isTracked(entityModel) ? encode(entity) : null;
 
         try {
-            if (id == null || info.versioned() && info.newVersion() == 1) {
-                operations.insertOne(collection, entity, options);
+            if (id == null || info.isFirstVersion()) {
+                if (document != null) {
+                    operations.insertOne(collection.withDocumentClass(RawBsonDocument.class), document, options);
+                } else {
+                    operations.insertOne(collection, entity, options);
+                }
             } else {
-                ReplaceOptions updateOptions = new ReplaceOptions()
-                        .bypassDocumentValidation(options.bypassDocumentValidation())
-                        .upsert(!info.versioned);
-                Document filter = new Document("_id", id);
-                info.filter(filter);
-                entityModel.getShardKeys().forEach((property) -> {
-                    filter.put(property.getMappedName(), property.getValue(entity));
-                });
-
-                UpdateResult updateResult = operations.replaceOne(collection, entity, filter, updateOptions);
+                Document filter = replaceFilter(entityModel, entity, id, info);
+                UpdateResult updateResult = document != null ? saveChanges(collection, entity, document, filter, info, options) : null;
+                if (updateResult == null) {
+                    ReplaceOptions updateOptions = new ReplaceOptions()
+                            .bypassDocumentValidation(options.bypassDocumentValidation())
+                            .upsert(!info.versioned);
+                    updateResult = document != null
+                            ? operations.replaceOne(collection.withDocumentClass(RawBsonDocument.class), document, filter, updateOptions)
+                            : operations.replaceOne(collection, entity, filter, updateOptions);
+                }
 
                 if (info.versioned() && updateResult.getModifiedCount() != 1) {
                     info.rollbackVersion();
                     throw new VersionMismatchException(entity.getClass(), id);
                 }
             }
+            if (document != null) {
+                trackChanges(entity, document);
+            }
         } catch (MongoWriteException e) {
             if (info.versioned()) {
                 info.rollbackVersion();
             }
             throw e;
+        } finally {
+            if (id != null) {
+                invalidateCache(collection.getNamespace().getCollectionName(), id);
+            }
+        }
+    }
+
+    /**
+     * Updates only the fields of a tracked entity which changed since its snapshot was taken.
+     *
+     * @return the result of the update or null if the entity has no snapshot or no longer exists and should be written in full
+     */
+    @Nullable
+    private <T> UpdateResult saveChanges(MongoCollection<T> collection, T entity, RawBsonDocument document, Document filter,
+            VersionBumpInfo info, InsertOneOptions options) {
+        BsonDocument snapshot = changeTracker.snapshot(entity);
+        if (snapshot == null) {
+            return null;
+        }
+        Document changes = ChangeTracker.changes(snapshot, document, null);
+        if (changes.isEmpty()) {
+            return UpdateResult.acknowledged(1, 0L, null);
+        }
+        UpdateResult result = operations.updateOne(collection, filter, changes, new UpdateOptions()
+                .bypassDocumentValidation(options.bypassDocumentValidation()));
+        return result.getMatchedCount() == 0 && !info.versioned() ? null : result;
+    }
+
+    /**
+     * Encodes an entity as it would be written by the driver, generating an ID if needed.
+     */
+    private <T> RawBsonDocument encode(T entity) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            ((Codec<T>) codecRegistry.get(entity.getClass()))
+                    .encode(writer, entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
         }
+        return new RawBsonDocument(buffer.toByteArray());
     }
 
     /**
@@ -776,9 +1147,9 @@ public class MorphiaDatastore implements Datastore {
 
     private <T> Codec<T> getRefreshCodec(T entity) {
         for (MorphiaCodecProvider codecProvider : morphiaCodecProviders) {
-            Codec<T> refreshCodec = codecProvider.getRefreshCodec(entity, codecRegistry);
+            Codec<T> refreshCodec = codecProvider.getRefreshCodec(entity, codecOwner.codecRegistry);
             if (refreshCodec != null) {
-                return refreshCodec;
+                return codecOwner == this ? refreshCodec : new BoundCodec<>(this, refreshCodec);
             }
         }
         throw new IllegalStateException(Sofia.noRefreshCodec(entity.getClass().getName()));
@@ -802,10 +1173,127 @@ public class MorphiaDatastore implements Datastore {
         return grouped;
     }
 
+    @NonNull
+    private <T> Map<String, List<T>> groupByCollection(List<T> entities) {
+        Map<String, List<T>> grouped = new LinkedHashMap<>();
+        for (T entity : entities) {
+            grouped.computeIfAbsent(getMapper().getEntityModel(entity.getClass()).collectionName(), c -> new ArrayList<>())
+                    .add(entity);
+        }
+        return grouped;
+    }
+
+    private <T> Document replaceFilter(EntityModel entityModel, T entity, Object id, VersionBumpInfo info) {
+        Document filter = new Document("_id", id);
+        info.filter(filter);
+        entityModel.getShardKeys().forEach((property) -> {
+            filter.put(property.getMappedName(), property.getValue(entity));
+        });
+        return filter;
+    }
+
+    private RuntimeException replaceFailure(EntityModel entityModel, Object entity, @Nullable Object id, VersionBumpInfo info) {
+        if (info.versioned()) {
+            return new VersionMismatchException(entity.getClass(), id);
+        } else if (!entityModel.getShardKeys().isEmpty()) {
+            return new MappingException(noShardKeyMatch(entityModel.getShardKeys()
+                    .stream().map(PropertyModel::getMappedName)
+                    .collect(joining(", "))));
+        } else {
+            return new MappingException(noDocumentsUpdated(id));
+        }
+    }
+
+    /**
+     * Writes the entries to the collection using as few bulk writes as the batch size allows. Version bumps are rolled back for any
+     * entity whose write failed or was not attempted, and replacements which were required to match an existing document but did not
+     * are reported individually.
+     */
+    private <T> void bulkWrite(MongoCollection<T> collection, List<BulkEntry<T>> entries, BulkWriteOptions options, int batchSize) {
+        int size = batchSize > 0 ? batchSize : entries.size();
+        for (int start = 0; start < entries.size(); start += size) {
+            int end = Math.min(start + size, entries.size());
+            List<BulkEntry<T>> batch = entries.subList(start, end);
+            batch.forEach(entry -> changeTracker.forget(entry.entity));
+            BulkWriteResult result;
+            try {
+                result = operations.bulkWrite(collection, batch.stream()
+                        .map(BulkEntry::model)
+                        .collect(Collectors.toList()), options);
+            } catch (MongoBulkWriteException e) {
+                rollbackFailedWrites(e, entries, start, end, options.isOrdered());
+                throw e;
+            } catch (MongoException e) {
+                entries.subList(start, entries.size()).forEach(entry -> entry.info.rollbackVersion());
+                throw e;
+            } finally {
+                String collectionName = collection.getNamespace().getCollectionName();
+                batch.stream()
+                        .filter(entry -> entry.id != null)
+                        .forEach(entry -> invalidateCache(collectionName, entry.id));
+            }
+
+            try {
+                verifyReplacements(collection, batch, result);
+            } catch (RuntimeException e) {
+                entries.subList(end, entries.size()).forEach(entry -> entry.info.rollbackVersion());
+                throw e;
+            }
+        }
+    }
+
+    private <T> void rollbackFailedWrites(MongoBulkWriteException e, List<BulkEntry<T>> entries, int start, int end, boolean ordered) {
+        int firstError = end - start;
+        for (BulkWriteError error : e.getWriteErrors()) {
+            entries.get(start + error.getIndex()).info.rollbackVersion();
+            firstError = Math.min(firstError, error.getIndex());
+        }
+        // an ordered write stops at the first error while an unordered write only completes its own batch
+        int unwritten = ordered ? start + firstError + 1 : end;
+        entries.subList(unwritten, entries.size())
+                .forEach(entry -> entry.info.rollbackVersion());
+    }
+
+    private <T> void verifyReplacements(MongoCollection<T> collection, List<BulkEntry<T>> batch, BulkWriteResult result) {
+        List<BulkEntry<T>> strict = batch.stream()
+                .filter(BulkEntry::mustMatch)
+                .collect(Collectors.toList());
+        long replacements = batch.stream()
+                .filter(entry -> entry.model instanceof ReplaceOneModel)
+                .count();
+        if (strict.isEmpty() || !result.wasAcknowledged()
+                || result.getMatchedCount() + result.getUpserts().size() == replacements) {
+            return;
+        }
+
+        List<Document> filters = strict.stream()
+                .map(BulkEntry::writtenFilter)
+                .collect(Collectors.toList());
+        Set<BsonValue> written = operations.find(collection.withDocumentClass(BsonDocument.class), new Document("$or", filters))
+                .projection(new Document("_id", 1))
+                .map(document -> document.get("_id"))
+                .into(new HashSet<>());
+
+        RuntimeException failure = null;
+        for (BulkEntry<T> entry : strict) {
+            BsonValue id = new Document("_id", entry.id).toBsonDocument(BsonDocument.class, codecRegistry).get("_id");
+            if (!written.contains(id)) {
+                entry.info.rollbackVersion();
+                RuntimeException exception = replaceFailure(entry.entityModel, entry.entity, entry.id, entry.info);
+                if (failure == null) {
+                    failure = exception;
+                } else {
+                    failure.addSuppressed(exception);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     public boolean hasLifecycle(EntityModel model, Class<? extends Annotation> type) {
-        return model.hasLifecycle(type)
-                || mapper.getListeners().stream()
-                        .anyMatch(listener -> listener.hasAnnotation(type));
+        return model.hasLifecycle(type) || mapper.hasListeners(type);
     }
 
     private void importModels() {
@@ -815,7 +1303,10 @@ public class MorphiaDatastore implements Datastore {
                 mapper.register(model);
             }
 
-            morphiaCodecProviders.add(importer.getCodecProvider(this));
+            MorphiaCodecProvider provider = importer.getCodecProvider(this);
+            if (provider != null) {
+                morphiaCodecProviders.add(provider);
+            }
         }
     }
 
@@ -830,7 +1321,17 @@ public class MorphiaDatastore implements Datastore {
         return DocumentWriter.encode(entity, this.getMapper(), this.getCodecRegistry());
     }
 
-    private <T> VersionBumpInfo updateVersioning(T entity) {
+    /**
+     * Bumps the version of a versioned entity ahead of a write.
+     *
+     * @param entity the entity about to be written
+     * @param <T>    the entity type
+     * @return the versions before and after the bump
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public <T> VersionBumpInfo updateVersioning(T entity) {
         final EntityModel entityModel = mapper.getEntityModel(entity.getClass());
         PropertyModel versionProperty = entityModel.getVersionProperty();
         if (versionProperty != null) {
@@ -859,6 +1360,33 @@ public class MorphiaDatastore implements Datastore {
      * Defines the various operations the driver performs on behalf of a Datastore
      */
     public abstract static class DatastoreOperations {
+        /**
+         * Runs an aggregation pipeline.
+         *
+         * @param collection the collection to use
+         * @param pipeline   the pipeline to run
+         * @param resultType the type of the results
+         * @return the results
+         * @param <T> the entity type
+         * @param <R> the result type
+         * @since 3.0
+         */
+        public abstract <T, R> AggregateIterable<R> aggregate(MongoCollection<T> collection, List<? extends Bson> pipeline,
+                Class<R> resultType);
+
+        /**
+         * Executes a mix of inserts, updates, replaces, and deletes.
+         *
+         * @param collection the collection to use
+         * @param requests   the writes to execute
+         * @param options    the options to apply
+         * @return the results
+         * @param <T> the entity type
+         * @since 3.0
+         */
+        public abstract <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options);
+
         /**
          * Counts the number of documents in the collection according to the given options.
          * 
@@ -868,7 +1396,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the count of documents found
          * @param <T> the entity type
          */
-        public abstract <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options);
+        public abstract <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options);
 
         /**
          * Removes all documents from the collection that match the given query filter. If no documents match, the collection is not
@@ -880,7 +1408,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> DeleteResult deleteMany(MongoCollection<T> collection, Document query, DeleteOptions options);
+        public abstract <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options);
 
         /**
          * Removes one document from the collection that match the given query filter. If no documents match, the collection is not
@@ -892,7 +1420,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> DeleteResult deleteOne(MongoCollection<T> collection, Document query, DeleteOptions options);
+        public abstract <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options);
 
         /**
          * Finds all documents in the collection.
@@ -902,7 +1430,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> FindIterable<T> find(MongoCollection<T> collection, Document query);
+        public abstract <T> FindIterable<T> find(MongoCollection<T> collection, Bson query);
 
         /**
          * Atomically find a document and remove it.
@@ -914,7 +1442,7 @@ public class MorphiaDatastore implements Datastore {
          * @param <T> the entity type
          */
         @Nullable
-        public abstract <T> T findOneAndDelete(MongoCollection<T> collection, Document query, FindAndDeleteOptions options);
+        public abstract <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options);
 
         /**
          * Atomically find a document and update it.
@@ -927,7 +1455,7 @@ public class MorphiaDatastore implements Datastore {
          * @param <T> the entity type
          */
         @Nullable
-        public abstract <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options);
+        public abstract <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options);
 
         /**
          * Inserts one or more documents.
@@ -981,7 +1509,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options);
+        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates, UpdateOptions options);
 
         /**
          * Updates one or more documents.
@@ -993,7 +1521,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public abstract <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<? extends Bson> updates,
                 UpdateOptions options);
 
         /**
@@ -1006,7 +1534,7 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates, UpdateOptions options);
+        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates, UpdateOptions options);
 
         /**
          * Updates one document.
@@ -1018,39 +1546,50 @@ public class MorphiaDatastore implements Datastore {
          * @return the results
          * @param <T> the entity type
          */
-        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public abstract <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<? extends Bson> updates,
                 UpdateOptions options);
 
     }
 
     private class CollectionOperations extends DatastoreOperations {
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T, R> AggregateIterable<R> aggregate(MongoCollection<T> collection, List<? extends Bson> pipeline, Class<R> resultType) {
+            return collection.aggregate(pipeline, resultType);
+        }
+
+        @Override
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(requests, options);
+        }
+
+        @Override
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(queryDocument, options);
         }
 
         @Override
-        public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
+        public <E> FindIterable<E> find(MongoCollection<E> collection, Bson query) {
             return collection.find(query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options) {
             return collection.findOneAndUpdate(query, update, options);
         }
 
@@ -1077,32 +1616,80 @@ public class MorphiaDatastore implements Datastore {
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateOne(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<? extends Bson> updates,
                 UpdateOptions options) {
             return collection.updateMany(query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<? extends Bson> updates,
                 UpdateOptions options) {
             return collection.updateOne(query, updates, options);
         }
     }
 
+    private static class BulkEntry<T> {
+        private final EntityModel entityModel;
+        private final T entity;
+        private final Object id;
+        private final VersionBumpInfo info;
+        private final WriteModel<T> model;
+
+        BulkEntry(EntityModel entityModel, T entity, @Nullable Object id, VersionBumpInfo info, WriteModel<T> model) {
+            this.entityModel = entityModel;
+            this.entity = entity;
+            this.id = id;
+            this.info = info;
+            this.model = model;
+        }
+
+        WriteModel<T> model() {
+            return model;
+        }
+
+        /**
+         * @return true if this write is a replacement which fails when no existing document is matched
+         */
+        boolean mustMatch() {
+            return model instanceof ReplaceOneModel
+                    && (info.versioned() || !((ReplaceOneModel<T>) model).getReplaceOptions().isUpsert());
+        }
+
+        /**
+         * @return a filter matching the document as it would look had this write succeeded
+         */
+        Document writtenFilter() {
+            Document filter = new Document("_id", id);
+            if (info.versioned()) {
+                filter.put(info.versionProperty.getMappedName(), info.newVersion());
+            }
+            entityModel.getShardKeys().forEach((property) -> {
+                filter.put(property.getMappedName(), property.getValue(entity));
+            });
+            return filter;
+        }
+    }
+
+    /**
+     * The versions of an entity before and after {@link #updateVersioning(Object)} bumped it.
+     *
+     * @hidden
+     * @morphia.internal
+     */
     @MorphiaInternal
-    private static class VersionBumpInfo {
+    public static class VersionBumpInfo {
         private final Long oldVersion;
         private final boolean versioned;
         private final Long newVersion;
@@ -1125,6 +1712,13 @@ public class MorphiaDatastore implements Datastore {
             this.versionProperty = versionProperty;
         }
 
+        /**
+         * @return true if the entity has never been saved before, i.e. the bump gave it its first version
+         */
+        public boolean isFirstVersion() {
+            return versioned && newVersion == 1;
+        }
+
         public void filter(Document filter) {
             if (versionProperty != null) {
                 filter.put(versionProperty.getMappedName(), oldVersion());
@@ -1157,4 +1751,100 @@ public class MorphiaDatastore implements Datastore {
             return versioned;
         }
     }
+
+    /**
+     * Hands out the codecs of the datastore they were built for such that their work is done for a datastore sharing them.
+     */
+    private static class BoundRegistry implements CodecRegistry {
+        private final MorphiaDatastore datastore;
+        private final CodecRegistry registry;
+
+        BoundRegistry(MorphiaDatastore datastore, CodecRegistry registry) {
+            this.datastore = datastore;
+            this.registry = registry;
+        }
+
+        @Override
+        public <T> Codec<T> get(Class<T> type) {
+            return bind(registry.get(type));
+        }
+
+        @Override
+        public <T> Codec<T> get(Class<T> type, List<Type> typeArguments) {
+            return bind(registry.get(type, typeArguments));
+        }
+
+        @Override
+        @Nullable
+        public <T> Codec<T> get(Class<T> type, CodecRegistry outer) {
+            return bind(registry.get(type, outer));
+        }
+
+        @Override
+        @Nullable
+        public <T> Codec<T> get(Class<T> type, List<Type> typeArguments, CodecRegistry outer) {
+            return bind(registry.get(type, typeArguments, outer));
+        }
+
+        private <T> Codec<T> bind(@Nullable Codec<T> codec) {
+            if (codec == null || codec instanceof BoundCodec) {
+                return codec;
+            }
+            return codec instanceof CollectibleCodec
+                    ? new BoundCollectibleCodec<>(datastore, (CollectibleCodec<T>) codec)
+                    : new BoundCodec<>(datastore, codec);
+        }
+    }
+
+    private static class BoundCodec<T> implements Codec<T> {
+        private final MorphiaDatastore datastore;
+        private final Codec<T> codec;
+
+        BoundCodec(MorphiaDatastore datastore, Codec<T> codec) {
+            this.datastore = datastore;
+            this.codec = codec;
+        }
+
+        @Override
+        public T decode(BsonReader reader, DecoderContext decoderContext) {
+            return datastore.bound(() -> codec.decode(reader, decoderContext));
+        }
+
+        @Override
+        public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+            datastore.bound(() -> {
+                codec.encode(writer, value, encoderContext);
+                return null;
+            });
+        }
+
+        @Override
+        public Class<T> getEncoderClass() {
+            return codec.getEncoderClass();
+        }
+    }
+
+    private static class BoundCollectibleCodec<T> extends BoundCodec<T> implements CollectibleCodec<T> {
+        private final CollectibleCodec<T> codec;
+
+        BoundCollectibleCodec(MorphiaDatastore datastore, CollectibleCodec<T> codec) {
+            super(datastore, codec);
+            this.codec = codec;
+        }
+
+        @Override
+        public T generateIdIfAbsentFromDocument(T document) {
+            return codec.generateIdIfAbsentFromDocument(document);
+        }
+
+        @Override
+        public boolean documentHasId(T document) {
+            return codec.documentHasId(document);
+        }
+
+        @Override
+        public BsonValue getDocumentId(T document) {
+            return codec.getDocumentId(document);
+        }
+    }
 }
@@ -17,9 +17,11 @@
 package dev.morphia;
 
 import com.mongodb.WriteConcern;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Collation;
 import com.mongodb.lang.Nullable;
 
+import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.WriteConfigurable;
 
 import org.bson.BsonValue;
@@ -32,6 +34,8 @@ import org.bson.conversions.Bson;
  */
 public class ReplaceOptions extends com.mongodb.client.model.ReplaceOptions implements WriteConfigurable<ReplaceOptions> {
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
+    private boolean ordered = true;
+    private int batchSize;
 
     /**
      * Creates a new options wrapper
@@ -95,6 +99,65 @@ public class ReplaceOptions extends com.mongodb.client.model.ReplaceOptions impl
         return this;
     }
 
+    /**
+     * Sets whether the server should apply the replacements in the order provided when replacing a list of entities.
+     *
+     * @param ordered true if the entities should be replaced in order
+     * @return this
+     * @since 3.0
+     */
+    public ReplaceOptions ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * @return true if the entities should be replaced in order
+     * @since 3.0
+     */
+    public boolean ordered() {
+        return ordered;
+    }
+
+    /**
+     * Sets the maximum number of entities sent to the server in a single bulk write when replacing a list of entities. A value of 0, the
+     * default, sends all the entities for a collection in one request and lets the driver split it as needed.
+     *
+     * @param batchSize the maximum number of entities per bulk write
+     * @return this
+     * @since 3.0
+     */
+    public ReplaceOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of entities per bulk write
+     * @since 3.0
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the bulk write options to use when replacing a list of entities
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public BulkWriteOptions bulkWriteOptions() {
+        BulkWriteOptions options = new BulkWriteOptions()
+                .ordered(ordered)
+                .bypassDocumentValidation(getBypassDocumentValidation())
+                .let(getLet());
+        if (getComment() != null) {
+            options.comment(getComment());
+        }
+        return options;
+    }
+
     @Override
     public ReplaceOptions let(Bson variables) {
         super.let(variables);
@@ -3,12 +3,10 @@ package dev.morphia.aggregation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
-import com.mongodb.ServerAddress;
-import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCollection;
-import com.mongodb.client.MongoCursor;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.MorphiaDatastore;
@@ -51,19 +49,33 @@ import dev.morphia.aggregation.stages.Unset;
 import dev.morphia.aggregation.stages.Unwind;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.codec.pojo.EntityModel;
-import dev.morphia.mapping.codec.reader.DocumentReader;
-import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter;
 import dev.morphia.query.MorphiaCursor;
+import dev.morphia.query.ParallelDecodingCursor;
 import dev.morphia.query.filters.Filter;
+import dev.morphia.sofia.Sofia;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
 /**
  * @param <T> the starting type of the aggregation
  * @hidden
@@ -132,27 +144,31 @@ public class AggregationImpl<T> implements Aggregation<T> {
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType) {
-        MongoCursor<R> cursor;
-        List<Document> pipeline = pipeline();
+        List<BsonDocument> pipeline = pipeline();
         if (LOG.isDebugEnabled()) {
             LOG.debug("pipeline = " + pipeline);
         }
-        if (datastore.getMapper().isMappable(resultType) && !resultType.equals(this.collection.getDocumentClass())) {
-            MongoCollection<Document> collection = this.collection.withDocumentClass(Document.class);
-            MongoCursor<Document> results = collection.aggregate(pipeline).iterator();
-            EntityModel entityModel = datastore.getMapper().getEntityModel(this.collection.getDocumentClass());
-            cursor = new MappingCursor<>(results, datastore.getCodecRegistry().get(resultType),
-                    entityModel.discriminatorKey());
-        } else {
-            cursor = collection.aggregate(pipeline, resultType).iterator();
-        }
-        return new MorphiaCursor<>(cursor);
+        MongoCollection<T> target = resultCollection(resultType);
+        return new MorphiaCursor<>(datastore.measured("aggregate", target, () -> target.aggregate(pipeline, resultType).iterator()));
     }
 
     @Override
     public <R> MorphiaCursor<R> execute(Class<R> resultType, AggregationOptions options) {
-        return new MorphiaCursor<>(options.apply(pipeline(), datastore.getDatabase(), collection, resultType)
-                .iterator());
+        Executor executor = options.decodeExecutor();
+        if (executor != null && datastore.isSessionBound()) {
+            Sofia.logDecodeOnInSession();
+        } else if (executor != null) {
+            Codec<R> codec = resultCodec(resultType);
+            return new MorphiaCursor<>(datastore.measured("aggregate", collection, () -> new ParallelDecodingCursor<>(
+                    options.apply(pipeline(), datastore.getDatabase(), collection, RawBsonDocument.class).iterator(), document -> {
+                        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+                            return codec.decode(reader, DecoderContext.builder().build());
+                        }
+                    }, executor, options.decodeAhead(), true)));
+        }
+        MongoCollection<T> target = resultCollection(resultType);
+        return new MorphiaCursor<>(datastore.measured("aggregate", target,
+                () -> options.apply(pipeline(), datastore.getDatabase(), target, resultType).iterator()));
     }
 
     @Override
@@ -369,15 +385,14 @@ public class AggregationImpl<T> implements Aggregation<T> {
     }
 
     /**
-     * @return the encoded pipeline
+     * @return the encoded pipeline. The stages are encoded straight to BSON so the driver can send them without encoding them again.
      * @hidden
      * @morphia.internal
      */
     @MorphiaInternal
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    public List<Document> pipeline() {
+    public List<BsonDocument> pipeline() {
         return stages.stream()
-                .map(stage -> DocumentWriter.encode(stage, datastore.getMapper(), datastore.getCodecRegistry()))
+                .map(stage -> MergingBsonDocumentWriter.encode(stage, datastore.getMapper(), datastore.getCodecRegistry()))
                 .collect(Collectors.toList());
     }
 
@@ -387,56 +402,97 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
-    private static class MappingCursor<R> implements MongoCursor<R> {
-        private final MongoCursor<Document> results;
-        private final Codec<R> codec;
-        private final String discriminator;
-
-        MappingCursor(MongoCursor<Document> results, Codec<R> codec, String discriminator) {
-            this.results = results;
-            this.codec = codec;
-            this.discriminator = discriminator;
+    /**
+     * Finds the codec for the results of the pipeline. Results mapped to an entity other than the collection's are decoded as that
+     * entity, or the subtype of it their discriminator names, rather than as whatever type their discriminator names.
+     */
+    private <R> Codec<R> resultCodec(Class<R> resultType) {
+        Codec<R> codec = datastore.getCodecRegistry().get(resultType);
+        if (datastore.getMapper().isMappable(resultType) && !resultType.equals(collection.getDocumentClass())) {
+            return new ResultCodec<>(datastore, resultType, codec);
         }
+        return codec;
+    }
 
-        @Override
-        public void close() {
-            results.close();
-        }
+    /**
+     * @param resultType the type of the results
+     * @return the registry to decode the results of the pipeline with
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public CodecRegistry resultRegistry(Class<?> resultType) {
+        Codec<?> codec = resultCodec(resultType);
+        return codec instanceof ResultCodec
+                ? fromRegistries(fromCodecs(codec), datastore.getCodecRegistry())
+                : datastore.getCodecRegistry();
+    }
 
-        @Override
-        public boolean hasNext() {
-            return results.hasNext();
-        }
+    private <R> MongoCollection<T> resultCollection(Class<R> resultType) {
+        Codec<R> codec = resultCodec(resultType);
+        return codec instanceof ResultCodec
+                ? collection.withCodecRegistry(fromRegistries(fromCodecs(codec), datastore.getCodecRegistry()))
+                : collection;
+    }
 
-        @Override
-        public R next() {
-            return map(results.next());
-        }
+    private static class ResultCodec<R> implements Codec<R> {
+        private final MorphiaDatastore datastore;
+        private final Class<R> resultType;
+        private final Codec<R> codec;
+        private final EntityModel model;
 
-        public int available() {
-            return results.available();
+        ResultCodec(MorphiaDatastore datastore, Class<R> resultType, Codec<R> codec) {
+            this.datastore = datastore;
+            this.resultType = resultType;
+            this.codec = codec;
+            model = datastore.getMapper().getEntityModel(resultType);
         }
 
         @Override
-        @Nullable
-        public R tryNext() {
-            return hasNext() ? next() : null;
+        public R decode(BsonReader reader, DecoderContext decoderContext) {
+            DecoderContext checked = DecoderContext.builder().checkedDiscriminator(true).build();
+            Class<?> subtype = model.useDiscriminator() ? subtype(reader) : null;
+            if (subtype != null) {
+                return resultType.cast(datastore.getCodecRegistry().get(subtype).decode(reader, checked));
+            }
+            return codec.decode(reader, checked);
         }
 
         @Override
-        @Nullable
-        public ServerCursor getServerCursor() {
-            return results.getServerCursor();
+        public void encode(BsonWriter writer, R value, EncoderContext encoderContext) {
+            codec.encode(writer, value, encoderContext);
         }
 
         @Override
-        public ServerAddress getServerAddress() {
-            return results.getServerAddress();
+        public Class<R> getEncoderClass() {
+            return resultType;
         }
 
-        private R map(Document next) {
-            next.remove(discriminator);
-            return codec.decode(new DocumentReader(next), DecoderContext.builder().build());
+        /**
+         * @return the subtype of the result type named by the document's discriminator, if any
+         */
+        @Nullable
+        private Class<?> subtype(BsonReader reader) {
+            BsonReaderMark mark = reader.getMark();
+            try {
+                reader.readStartDocument();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    if (reader.readName().equals(model.discriminatorKey()) && reader.getCurrentBsonType() == BsonType.STRING) {
+                        String discriminator = reader.readString();
+                        if (discriminator.equals(model.discriminator())) {
+                            return null;
+                        }
+                        Class<?> type = datastore.getMapper().getDiscriminatorLookup().lookup(discriminator);
+                        return resultType.isAssignableFrom(type) && datastore.getMapper().isMappable(type) ? type : null;
+                    }
+                    reader.skipValue();
+                }
+                return null;
+            } catch (CodecConfigurationException e) {
+                return null;
+            } finally {
+                mark.reset();
+            }
         }
     }
 
@@ -1,6 +1,7 @@
 package dev.morphia.aggregation;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import com.mongodb.ReadConcern;
@@ -18,6 +19,7 @@ import dev.morphia.internal.ReadConfigurable;
 import dev.morphia.internal.WriteConfigurable;
 
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * Defines options to be applied to an aggregation pipeline.
@@ -35,6 +37,8 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
     private ReadConcern readConcern;
     private WriteConcern writeConcern;
     private Document hint;
+    private Executor decodeExecutor;
+    private int decodeAhead;
 
     /**
      * Enables writing to temporary files.
@@ -61,7 +65,7 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
      * @morphia.internal
      */
     @MorphiaInternal
-    <S, T> AggregateIterable<S> apply(List<Document> documents,
+    <S, T> AggregateIterable<S> apply(List<? extends Bson> documents,
             MongoDatabase database, MongoCollection<T> collection, Class<S> resultType) {
         MongoCollection<T> bound = prepare(collection, database);
         if (readConcern != null) {
@@ -162,6 +166,62 @@ public class AggregationOptions implements ReadConfigurable<AggregationOptions>,
         return collection;
     }
 
+    /**
+     * Decodes results on the given executor rather than on the thread iterating them. Results are fetched as raw documents and decoded
+     * as they arrive while still being returned in the order the server sends them. By default up to twice the batch size, or 256
+     * results if no batch size is set, are decoded ahead of the caller. Ignored within a session, as it is for finds.
+     *
+     * @param executor the executor to decode on or null to decode on the calling thread
+     * @return this
+     * @see dev.morphia.query.FindOptions#decodeOn(Executor)
+     * @since 3.0
+     */
+    public AggregationOptions decodeOn(@Nullable Executor executor) {
+        this.decodeExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Decodes results on the given executor rather than on the thread iterating them.
+     *
+     * @param executor  the executor to decode on or null to decode on the calling thread
+     * @param readAhead the maximum number of results fetched and decoded ahead of the caller
+     * @return this
+     * @see #decodeOn(Executor)
+     * @since 3.0
+     */
+    public AggregationOptions decodeOn(@Nullable Executor executor, int readAhead) {
+        this.decodeExecutor = executor;
+        this.decodeAhead = readAhead;
+        return this;
+    }
+
+    /**
+     * @return the executor to decode results on, if any
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Executor decodeExecutor() {
+        return decodeExecutor;
+    }
+
+    /**
+     * @return the maximum number of results to decode ahead of the caller
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int decodeAhead() {
+        if (decodeAhead > 0) {
+            return decodeAhead;
+        }
+        return batchSize != null && batchSize > 0 ? batchSize * 2 : 256;
+    }
+
     /**
      * Sets the hint for which index to use. A null value means no hint is set.
      *
@@ -0,0 +1,34 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables caching of an entity's documents by ID. Lookups by {@code _id} alone, including the loading of references, are served from the
+ * cache when possible. Cached documents are invalidated when entities are saved, replaced, merged, or deleted, and when updates or
+ * deletes are issued through a query for the entity's collection.
+ * <p>
+ * This is best suited to data which is read often and changes rarely. Changes made outside of Morphia are only visible once the cached
+ * copy expires or is evicted.
+ *
+ * @since 3.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface Cached {
+    /**
+     * @return the maximum number of documents to cache for the collection. The least recently used documents are evicted first.
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return the number of seconds after which a cached document expires. A value of 0 or less means documents do not expire.
+     */
+    long expireAfterSeconds() default -1;
+}
@@ -0,0 +1,25 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defers decoding a property until it is first used. When an entity is loaded, the property's value is kept in its encoded form behind a
+ * proxy of the property's type and is only decoded when a method is first called on it. Saving an entity whose lazy properties have not
+ * been used writes them back as they were read without decoding them. This is useful for large embedded values, e.g. long lists of
+ * embedded entities, which are rarely read.
+ * <p>
+ * The property's type must be a public interface or a public, non-final class with a non-private, no-arg constructor so that it can be
+ * proxied. Mapping an entity with a lazy property of any other type fails. As with lazy references, reading fields directly on a proxy,
+ * rather than calling its methods, will not see the decoded value.
+ *
+ * @since 3.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface Lazy {
+}
@@ -0,0 +1,26 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables change tracking for an entity. Entities loaded through a query remember the document they were read from and saving or merging
+ * them later only sends the fields which have changed, down to nested paths, as a {@code $set} and {@code $unset} rather than replacing
+ * the whole document. A save which changes nothing sends nothing at all.
+ * <p>
+ * Saving an entity with nothing to compare against, e.g. a new entity or one written with {@code insert} or {@code replace} since it was
+ * loaded, writes it in full and tracks it from then on. Entities loaded with a projection are not tracked. Fields changed in the database
+ * by other means since an entity was loaded are left as they are unless the entity changed them too.
+ *
+ * @since 3.0
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface TrackChanges {
+}
@@ -3,12 +3,19 @@ package dev.morphia.annotations.internal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.Collation;
@@ -186,11 +193,65 @@ public final class IndexHelper {
      */
     @MorphiaInternal
     public void createIndex(MongoCollection<?> collection, EntityModel model) {
-        if (!model.isInterface() && !model.isAbstract()) {
-            for (Index index : collectIndexes(model, Collections.emptyList())) {
-                createIndex(collection, model, index);
+        createIndexes(collection, List.of(model), false);
+    }
+
+    /**
+     * Creates the indexes declared by the models mapped to a collection. The existing indexes are listed once, those already present are
+     * skipped, and the rest are sent together in a single command. An existing index sharing its keys or name with a declared index but
+     * not its options is reported as a possible conflict and left to the server to reject.
+     *
+     * @param collection     the collection
+     * @param models         the models mapped to the collection
+     * @param reportObsolete true if existing indexes not declared by any of the models should be reported
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void createIndexes(MongoCollection<?> collection, List<EntityModel> models, boolean reportObsolete) {
+        Map<String, IndexModel> declared = new LinkedHashMap<>();
+        for (EntityModel model : models) {
+            if (!model.isInterface() && !model.isAbstract()) {
+                for (Index index : collectIndexes(model, Collections.emptyList())) {
+                    IndexModel indexModel = toIndexModel(model, index);
+                    declared.putIfAbsent(indexModel.getKeys() + " " + indexModel.getOptions(), indexModel);
+                }
+            }
+        }
+        if (declared.isEmpty() && !reportObsolete) {
+            return;
+        }
+
+        String namespace = collection.getNamespace().getFullName();
+        List<Document> existing = collection.listIndexes().into(new ArrayList<>());
+        Set<Document> matched = new HashSet<>();
+        List<IndexModel> missing = new ArrayList<>();
+        for (IndexModel index : declared.values()) {
+            Document current = existing.stream()
+                    .filter(candidate -> sameKeys(index, candidate) || sameName(index, candidate))
+                    .findFirst()
+                    .orElse(null);
+            if (current == null) {
+                missing.add(index);
+            } else {
+                matched.add(current);
+                if (!comparable(index)) {
+                    missing.add(index);
+                } else if (!identical(index, current)) {
+                    LOG.warn(Sofia.indexConflict(index.getKeys(), namespace, current.toJson()));
+                    missing.add(index);
+                }
             }
         }
+        if (reportObsolete) {
+            existing.stream()
+                    .filter(index -> !matched.contains(index) && !"_id_".equals(index.getString("name")))
+                    .forEach(index -> LOG.warn(Sofia.indexObsolete(index.getString("name"), namespace)));
+        }
+        if (!missing.isEmpty()) {
+            collection.createIndexes(missing);
+        }
     }
 
     /**
@@ -199,11 +260,8 @@ public final class IndexHelper {
      * @param index
      */
     public void createIndex(MongoCollection<?> collection, EntityModel entityModel, Index index) {
-        Document keys = calculateKeys(entityModel, index);
-        com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
-        calculateWeights(index, indexOptions);
-
-        collection.createIndex(keys, indexOptions);
+        IndexModel indexModel = toIndexModel(entityModel, index);
+        collection.createIndex(indexModel.getKeys(), indexModel.getOptions());
     }
 
     /**
@@ -235,6 +293,64 @@ public final class IndexHelper {
         }
     }
 
+    private IndexModel toIndexModel(EntityModel entityModel, Index index) {
+        Document keys = calculateKeys(entityModel, index);
+        com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
+        calculateWeights(index, indexOptions);
+        return new IndexModel(keys, indexOptions);
+    }
+
+    private static boolean isText(IndexModel index) {
+        return ((Document) index.getKeys()).containsValue(IndexType.TEXT.toIndexValue());
+    }
+
+    /**
+     * The server rewrites the keys of text indexes and fills in the defaults of collations so these are always sent and left to the server
+     * to compare.
+     */
+    private static boolean comparable(IndexModel index) {
+        return !isText(index) && index.getOptions().getCollation() == null;
+    }
+
+    private static boolean sameKeys(IndexModel index, Document existing) {
+        Document keys = existing.get("key", Document.class);
+        if (isText(index)) {
+            return keys.containsKey("_fts");
+        }
+        Iterator<Map.Entry<String, Object>> declared = ((Document) index.getKeys()).entrySet().iterator();
+        Iterator<Map.Entry<String, Object>> current = keys.entrySet().iterator();
+        while (declared.hasNext() && current.hasNext()) {
+            Map.Entry<String, Object> left = declared.next();
+            Map.Entry<String, Object> right = current.next();
+            if (!left.getKey().equals(right.getKey()) || !sameValue(left.getValue(), right.getValue())) {
+                return false;
+            }
+        }
+        return !declared.hasNext() && !current.hasNext();
+    }
+
+    private static boolean sameName(IndexModel index, Document existing) {
+        String name = index.getOptions().getName();
+        return name != null && name.equals(existing.getString("name"));
+    }
+
+    private static boolean identical(IndexModel index, Document existing) {
+        com.mongodb.client.model.IndexOptions options = index.getOptions();
+        return sameKeys(index, existing)
+                && (options.getName() == null || sameName(index, existing))
+                && options.isUnique() == existing.getBoolean("unique", false)
+                && options.isSparse() == existing.getBoolean("sparse", false)
+                && sameValue(options.getExpireAfter(TimeUnit.SECONDS), existing.get("expireAfterSeconds"))
+                && Objects.equals(options.getPartialFilterExpression(), existing.get("partialFilterExpression"));
+    }
+
+    private static boolean sameValue(@Nullable Object left, @Nullable Object right) {
+        if (left instanceof Number l && right instanceof Number r) {
+            return l.doubleValue() == r.doubleValue();
+        }
+        return Objects.equals(left, right);
+    }
+
     private List<Index> findFieldIndexes(EntityModel entityModel) {
         List<Index> list = entityModel.getProperties(Indexed.class).stream()
                 .map(field -> convert(field.getAnnotation(Indexed.class), field.getMappedName()))
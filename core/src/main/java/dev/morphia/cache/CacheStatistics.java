@@ -0,0 +1,69 @@
+package dev.morphia.cache;
+
+import java.util.StringJoiner;
+
+/**
+ * A snapshot of the activity of an entity cache.
+ *
+ * @see dev.morphia.annotations.Cached
+ * @since 3.0
+ */
+public final class CacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int size;
+
+    CacheStatistics(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of lookups served from the cache
+     */
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of lookups which had to query the database
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of documents evicted because the cache was full or the document had expired
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the number of documents currently cached
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the fraction of lookups served from the cache or 0 if there have been no lookups
+     */
+    public double hitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CacheStatistics.class.getSimpleName() + "[", "]")
+                .add("hits=" + hits)
+                .add("misses=" + misses)
+                .add("evictions=" + evictions)
+                .add("size=" + size)
+                .toString();
+    }
+}
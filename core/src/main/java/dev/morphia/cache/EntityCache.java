@@ -0,0 +1,230 @@
+package dev.morphia.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.Cached;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Caches the documents of {@link Cached} entities by collection and ID. Documents rather than entities are cached so that each lookup
+ * decodes a new instance and changes to one instance are never visible through another.
+ * <p>
+ * Every invalidation of a collection advances its generation. A document read from the database is only cached if the generation has not
+ * changed since the read began so that a concurrent write can not be masked by the stale copy it replaced.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class EntityCache {
+    private static final CacheStatistics EMPTY = new CacheStatistics(0, 0, 0, 0);
+
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+    private final CodecRegistry codecRegistry;
+
+    /**
+     * @param codecRegistry the registry to use when converting IDs for use as keys
+     */
+    public EntityCache(CodecRegistry codecRegistry) {
+        this.codecRegistry = codecRegistry;
+    }
+
+    /**
+     * @param model the model to check
+     * @return true if the entity's documents should be cached
+     */
+    public boolean isCached(EntityModel model) {
+        return model.getAnnotation(Cached.class) != null;
+    }
+
+    /**
+     * Looks up a document, recording a hit or a miss.
+     *
+     * @param model      the model of the entity
+     * @param collection the collection holding the document
+     * @param id         the ID of the document
+     * @return the cached document, if any
+     */
+    @Nullable
+    public Entry get(EntityModel model, String collection, Object id) {
+        return region(model, collection).get(key(id));
+    }
+
+    /**
+     * @param model      the model of the entity
+     * @param collection the collection to check
+     * @return the current generation of the collection
+     */
+    public long generation(EntityModel model, String collection) {
+        return region(model, collection).generation.get();
+    }
+
+    /**
+     * Caches a document read from the database unless the collection has been invalidated since the read began.
+     *
+     * @param model      the model of the entity
+     * @param collection the collection holding the document
+     * @param generation the generation of the collection when the read began
+     * @param document   the document to cache
+     * @param address    the address of the server the document was read from
+     */
+    public void put(EntityModel model, String collection, long generation, RawBsonDocument document, ServerAddress address) {
+        BsonValue id = document.get("_id");
+        if (id != null) {
+            region(model, collection).put(id, new Entry(document, address, System.nanoTime()), generation);
+        }
+    }
+
+    /**
+     * Removes a single document from the cache.
+     *
+     * @param collection the collection holding the document
+     * @param id         the ID of the document
+     */
+    public void invalidate(String collection, Object id) {
+        Region region = regions.get(collection);
+        if (region != null) {
+            region.invalidate(key(id));
+        }
+    }
+
+    /**
+     * Removes all the documents of a collection from the cache.
+     *
+     * @param collection the collection to clear
+     */
+    public void invalidate(String collection) {
+        Region region = regions.get(collection);
+        if (region != null) {
+            region.clear();
+        }
+    }
+
+    /**
+     * @param collection the collection to report on
+     * @return the statistics for the collection
+     */
+    public CacheStatistics statistics(String collection) {
+        Region region = regions.get(collection);
+        return region != null ? region.statistics() : EMPTY;
+    }
+
+    private BsonValue key(Object id) {
+        if (id instanceof BsonValue) {
+            return (BsonValue) id;
+        }
+        return new Document("_id", id).toBsonDocument(BsonDocument.class, codecRegistry).get("_id");
+    }
+
+    private Region region(EntityModel model, String collection) {
+        return regions.computeIfAbsent(collection, name -> new Region(model.getAnnotation(Cached.class)));
+    }
+
+    private static final class Region {
+        private final int maxSize;
+        private final long expireAfterNanos;
+        private final AtomicLong generation = new AtomicLong();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final LinkedHashMap<BsonValue, Entry> entries;
+
+        private Region(@Nullable Cached cached) {
+            maxSize = cached != null ? cached.maxSize() : 0;
+            expireAfterNanos = cached != null && cached.expireAfterSeconds() > 0
+                    ? TimeUnit.SECONDS.toNanos(cached.expireAfterSeconds())
+                    : -1;
+            entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<BsonValue, Entry> eldest) {
+                    boolean evict = size() > maxSize;
+                    if (evict) {
+                        evictions.increment();
+                    }
+                    return evict;
+                }
+            };
+        }
+
+        @Nullable
+        private synchronized Entry get(BsonValue id) {
+            Entry entry = entries.get(id);
+            if (entry != null && expireAfterNanos > 0 && System.nanoTime() - entry.written > expireAfterNanos) {
+                entries.remove(id);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry;
+        }
+
+        private synchronized void put(BsonValue id, Entry entry, long expected) {
+            if (maxSize > 0 && generation.get() == expected) {
+                entries.put(id, entry);
+            }
+        }
+
+        private synchronized void invalidate(BsonValue id) {
+            generation.incrementAndGet();
+            entries.remove(id);
+        }
+
+        private synchronized void clear() {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+
+        private synchronized CacheStatistics statistics() {
+            return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+        }
+    }
+
+    /**
+     * A cached document and where it was read from
+     */
+    public static final class Entry {
+        private final RawBsonDocument document;
+        private final ServerAddress address;
+        private final long written;
+
+        private Entry(RawBsonDocument document, ServerAddress address, long written) {
+            this.document = document;
+            this.address = address;
+            this.written = written;
+        }
+
+        /**
+         * @return the document
+         */
+        public RawBsonDocument document() {
+            return document;
+        }
+
+        /**
+         * @return the address of the server the document was read from
+         */
+        public ServerAddress serverAddress() {
+            return address;
+        }
+    }
+}
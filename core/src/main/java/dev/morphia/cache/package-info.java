@@ -0,0 +1,9 @@
+/**
+ * Defines the types used to cache entities by ID.
+ *
+ * @see dev.morphia.annotations.Cached
+ */
+@NonNullApi
+package dev.morphia.cache;
+
+import com.mongodb.lang.NonNullApi;
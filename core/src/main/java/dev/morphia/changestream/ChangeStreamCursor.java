@@ -0,0 +1,98 @@
+package dev.morphia.changestream;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import org.bson.BsonDocument;
+
+/**
+ * A cursor over the changes to an entity's collection. When the stream is named, its position is saved to its {@link ResumeTokenStore}
+ * each time the cursor is advanced, at which point every event returned so far is taken to have been consumed, and whenever
+ * {@link #checkpoint()} is called.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class ChangeStreamCursor<T> implements MongoChangeStreamCursor<ChangeStreamDocument<T>> {
+    private final MongoChangeStreamCursor<ChangeStreamDocument<T>> cursor;
+    @Nullable
+    private final String name;
+    @Nullable
+    private final ResumeTokenStore store;
+    @Nullable
+    private BsonDocument saved;
+
+    ChangeStreamCursor(MongoChangeStreamCursor<ChangeStreamDocument<T>> cursor, @Nullable String name, @Nullable ResumeTokenStore store,
+            @Nullable BsonDocument saved) {
+        this.cursor = cursor;
+        this.name = name;
+        this.store = store;
+        this.saved = saved;
+    }
+
+    /**
+     * Saves the position of the stream, after the last event returned, if it has moved since it was last saved. This is a no-op for
+     * unnamed streams.
+     */
+    public void checkpoint() {
+        if (name != null && store != null) {
+            BsonDocument token = cursor.getResumeToken();
+            if (token != null && !token.equals(saved)) {
+                store.save(name, token);
+                saved = token;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        checkpoint();
+        return cursor.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public ChangeStreamDocument<T> next() {
+        checkpoint();
+        return cursor.next();
+    }
+
+    @Override
+    public int available() {
+        return cursor.available();
+    }
+
+    @Override
+    @Nullable
+    public ChangeStreamDocument<T> tryNext() {
+        checkpoint();
+        return cursor.tryNext();
+    }
+
+    @Override
+    @Nullable
+    public BsonDocument getResumeToken() {
+        return cursor.getResumeToken();
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+}
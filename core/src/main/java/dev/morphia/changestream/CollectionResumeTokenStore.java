@@ -0,0 +1,59 @@
+package dev.morphia.changestream;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.lang.Nullable;
+
+import org.bson.BsonDateTime;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+
+/**
+ * Keeps resume tokens in a collection, one document per stream keyed by the stream's name.
+ *
+ * @since 3.0
+ */
+public class CollectionResumeTokenStore implements ResumeTokenStore {
+    /**
+     * The collection used when none is given
+     */
+    public static final String DEFAULT_COLLECTION = "morphia_resume_tokens";
+
+    private final MongoCollection<BsonDocument> collection;
+
+    /**
+     * Creates a store using {@value #DEFAULT_COLLECTION}.
+     *
+     * @param database the database to store tokens in
+     */
+    public CollectionResumeTokenStore(MongoDatabase database) {
+        this(database, DEFAULT_COLLECTION);
+    }
+
+    /**
+     * Creates a store.
+     *
+     * @param database   the database to store tokens in
+     * @param collection the collection to store tokens in
+     */
+    public CollectionResumeTokenStore(MongoDatabase database, String collection) {
+        this.collection = database.getCollection(collection, BsonDocument.class);
+    }
+
+    @Override
+    @Nullable
+    public BsonDocument load(String name) {
+        BsonDocument document = collection.find(Filters.eq("_id", name)).first();
+        return document != null ? document.getDocument("token", null) : null;
+    }
+
+    @Override
+    public void save(String name, BsonDocument token) {
+        BsonDocument document = new BsonDocument("_id", new BsonString(name))
+                .append("token", token)
+                .append("updated", new BsonDateTime(System.currentTimeMillis()));
+        collection.replaceOne(Filters.eq("_id", name), document, new ReplaceOptions().upsert(true));
+    }
+}
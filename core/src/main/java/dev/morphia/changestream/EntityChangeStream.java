@@ -0,0 +1,268 @@
+package dev.morphia.changestream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.query.filters.Filter;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+
+import static dev.morphia.mapping.codec.CodecHelper.document;
+
+/**
+ * Watches the changes made to an entity's collection. The full documents of the events, before and after each change when requested, are
+ * decoded as entities.
+ *
+ * <pre>
+ * try (ChangeStreamCursor&lt;Book&gt; cursor = datastore.watch(Book.class)
+ *         .filter(eq("author", "Tolkien"))
+ *         .operationTypes(OperationType.INSERT, OperationType.UPDATE)
+ *         .fullDocument(FullDocument.UPDATE_LOOKUP)
+ *         .resumeTokens("search-indexer", new CollectionResumeTokenStore(database))
+ *         .iterator()) {
+ *     while (cursor.hasNext()) {
+ *         index(cursor.next().getFullDocument());
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> the entity type
+ * @see dev.morphia.Datastore#watch(Class)
+ * @since 3.0
+ */
+public class EntityChangeStream<T> {
+    private static final String FULL_DOCUMENT_FIELD = "fullDocument";
+    private static final String FULL_DOCUMENT = FULL_DOCUMENT_FIELD + ".";
+
+    private final MorphiaDatastore datastore;
+    private final Class<T> type;
+    private final List<Filter> filters = new ArrayList<>();
+    private final List<OperationType> operationTypes = new ArrayList<>();
+    private FullDocument fullDocument = FullDocument.DEFAULT;
+    private FullDocumentBeforeChange fullDocumentBeforeChange = FullDocumentBeforeChange.DEFAULT;
+    @Nullable
+    private Integer batchSize;
+    private long maxAwaitTimeMS;
+    private boolean validate = true;
+    @Nullable
+    private String name;
+    @Nullable
+    private ResumeTokenStore store;
+
+    /**
+     * @param datastore the datastore
+     * @param type      the entity type
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public EntityChangeStream(MorphiaDatastore datastore, Class<T> type) {
+        this.datastore = datastore;
+        this.type = type;
+    }
+
+    /**
+     * Only reports changes to documents matching the filters. The filters are written against the entity, as they are for queries, and
+     * are applied to the full document of each event. Events without a full document, e.g. deletes or updates when
+     * {@link #fullDocument(FullDocument)} is not requested, do not match any filter.
+     *
+     * @param filters the filters
+     * @return this
+     */
+    public EntityChangeStream<T> filter(Filter... filters) {
+        this.filters.addAll(Arrays.asList(filters));
+        return this;
+    }
+
+    /**
+     * Only reports events of the given types.
+     *
+     * @param types the types of event to report
+     * @return this
+     */
+    public EntityChangeStream<T> operationTypes(OperationType... types) {
+        operationTypes.addAll(Arrays.asList(types));
+        return this;
+    }
+
+    /**
+     * Disables the validation of the property names used in {@link #filter(Filter...)}.
+     *
+     * @return this
+     */
+    public EntityChangeStream<T> disableValidation() {
+        validate = false;
+        return this;
+    }
+
+    /**
+     * @param fullDocument whether, and how, to include the document after each change
+     * @return this
+     */
+    public EntityChangeStream<T> fullDocument(FullDocument fullDocument) {
+        this.fullDocument = fullDocument;
+        return this;
+    }
+
+    /**
+     * @param fullDocumentBeforeChange whether, and how, to include the document before each change. The collection must have pre-images
+     *                                 enabled.
+     * @return this
+     */
+    public EntityChangeStream<T> fullDocumentBeforeChange(FullDocumentBeforeChange fullDocumentBeforeChange) {
+        this.fullDocumentBeforeChange = fullDocumentBeforeChange;
+        return this;
+    }
+
+    /**
+     * @param batchSize the number of events to fetch per batch
+     * @return this
+     */
+    public EntityChangeStream<T> batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @param maxAwaitTime the longest the server waits for new events before returning an empty batch
+     * @param unit         the unit of time
+     * @return this
+     */
+    public EntityChangeStream<T> maxAwaitTime(long maxAwaitTime, TimeUnit unit) {
+        maxAwaitTimeMS = unit.toMillis(maxAwaitTime);
+        return this;
+    }
+
+    /**
+     * Names the stream and keeps its position in the store. The stream starts after the last position saved under the name, if any, and
+     * saves its position as its cursor is advanced.
+     *
+     * @param name  the name of the stream, unique per consumer
+     * @param store the store to keep the position in
+     * @return this
+     * @see ChangeStreamCursor#checkpoint()
+     */
+    public EntityChangeStream<T> resumeTokens(String name, ResumeTokenStore store) {
+        this.name = name;
+        this.store = store;
+        return this;
+    }
+
+    /**
+     * Opens the stream.
+     *
+     * @return the cursor
+     */
+    public ChangeStreamCursor<T> iterator() {
+        ChangeStreamIterable<T> iterable = datastore.getCollection(type).watch(pipeline())
+                .fullDocument(fullDocument);
+        if (fullDocumentBeforeChange != FullDocumentBeforeChange.DEFAULT) {
+            iterable.fullDocumentBeforeChange(fullDocumentBeforeChange);
+        }
+        if (batchSize != null) {
+            iterable.batchSize(batchSize);
+        }
+        if (maxAwaitTimeMS != 0) {
+            iterable.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+        }
+        BsonDocument token = name != null && store != null ? store.load(name) : null;
+        if (token != null) {
+            iterable.startAfter(token);
+        }
+        return new ChangeStreamCursor<>(iterable.cursor(), name, store, token);
+    }
+
+    /**
+     * @return the pipeline the stream is opened with
+     * @hidden
+     * @morphia.internal
+     */
+    @MorphiaInternal
+    public List<Bson> pipeline() {
+        Document match = new Document();
+        if (!filters.isEmpty()) {
+            match.putAll(toFullDocument(encodeFilters()));
+        }
+        if (!operationTypes.isEmpty()) {
+            match.put("operationType", new Document("$in", operationTypes.stream()
+                    .map(OperationType::getValue)
+                    .collect(Collectors.toList())));
+        }
+        Document discriminators = discriminators();
+        if (discriminators != null) {
+            match = match.isEmpty() ? discriminators : new Document("$and", List.of(match, discriminators));
+        }
+        return match.isEmpty() ? List.of() : List.of(new Document("$match", match));
+    }
+
+    /**
+     * Limits the events to those of the type and its subtypes, as queries are, when the collection is shared with other types. Events
+     * without a full document carry no discriminator to check and are kept.
+     */
+    @Nullable
+    private Document discriminators() {
+        Mapper mapper = datastore.getMapper();
+        if (!mapper.isMappable(type)) {
+            return null;
+        }
+        Document query = new Document();
+        mapper.updateQueryWithDiscriminators(mapper.getEntityModel(type), query);
+        if (query.isEmpty()) {
+            return null;
+        }
+        return new Document("$or", List.of(new Document(FULL_DOCUMENT_FIELD, null), toFullDocument(query)));
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Document encodeFilters() {
+        DocumentWriter writer = new DocumentWriter(datastore.getMapper().getConfig());
+        document(writer, () -> {
+            EncoderContext context = EncoderContext.builder().build();
+            for (Filter filter : filters) {
+                filter.entityType(type).isValidating(validate);
+                Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                codec.encode(writer, filter, context);
+            }
+        });
+        return writer.getDocument();
+    }
+
+    /**
+     * Moves the fields a query names under {@code fullDocument}, leaving the operators which combine other queries in place.
+     */
+    @SuppressWarnings("unchecked")
+    private static Document toFullDocument(Document query) {
+        Document mapped = new Document();
+        for (Entry<String, Object> entry : query.entrySet()) {
+            String key = entry.getKey();
+            if (key.equals("$and") || key.equals("$or") || key.equals("$nor")) {
+                mapped.put(key, ((List<Document>) entry.getValue()).stream()
+                        .map(EntityChangeStream::toFullDocument)
+                        .collect(Collectors.toList()));
+            } else if (key.startsWith("$")) {
+                mapped.put(key, entry.getValue());
+            } else {
+                mapped.put(FULL_DOCUMENT + key, entry.getValue());
+            }
+        }
+        return mapped;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.morphia.changestream;
+
+import com.mongodb.lang.Nullable;
+
+import org.bson.BsonDocument;
+
+/**
+ * Keeps the position of named change streams so that a consumer can resume where it left off after a restart rather than rescanning its
+ * collection. Implementations must be safe to use from the threads consuming the streams.
+ *
+ * @see EntityChangeStream#resumeTokens(String, ResumeTokenStore)
+ * @see CollectionResumeTokenStore
+ * @since 3.0
+ */
+public interface ResumeTokenStore {
+    /**
+     * @param name the name of the stream
+     * @return the last token saved for the stream or null if none has been saved
+     */
+    @Nullable
+    BsonDocument load(String name);
+
+    /**
+     * Saves the position of a stream. Every event up to and including the one the token belongs to has been consumed.
+     *
+     * @param name  the name of the stream
+     * @param token the resume token
+     */
+    void save(String name, BsonDocument token);
+}
@@ -0,0 +1,9 @@
+/**
+ * Defines the types used to watch the changes made to an entity's collection.
+ *
+ * @see dev.morphia.Datastore#watch(Class)
+ */
+@NonNullApi
+package dev.morphia.changestream;
+
+import com.mongodb.lang.NonNullApi;
@@ -6,15 +6,18 @@ import java.util.Optional;
 
 import com.mongodb.lang.Nullable;
 
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.DateStorage;
 import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.NamingStrategy;
 import dev.morphia.mapping.PropertyDiscovery;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.QueryFactory;
 
 import org.bson.codecs.configuration.CodecProvider;
 
+import static dev.morphia.mapping.AccessorStrategy.REFLECTION;
 import static dev.morphia.mapping.DateStorage.UTC;
 import static dev.morphia.mapping.DiscriminatorFunction.simpleName;
 import static dev.morphia.mapping.NamingStrategy.camelCase;
@@ -28,6 +31,7 @@ import static java.lang.Boolean.FALSE;
  */
 @SuppressWarnings("removal")
 public class ManualMorphiaConfig implements MorphiaConfig {
+    AccessorStrategy accessorStrategy;
     Boolean applyCaps;
     Boolean applyDocumentValidations;
     Boolean applyIndexes;
@@ -36,9 +40,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
     NamingStrategy collectionNaming;
     DateStorage dateStorage;
     DiscriminatorFunction discriminator;
+    Boolean discriminatorFirst;
     String discriminatorKey;
     Boolean enablePolymorphicQueries;
     Boolean ignoreFinals;
+    Optional<MorphiaMetrics> metrics;
     List<String> packages;
     PropertyDiscovery propertyDiscovery;
     NamingStrategy propertyNaming;
@@ -56,6 +62,7 @@ public class ManualMorphiaConfig implements MorphiaConfig {
      * @hidden
      */
     protected ManualMorphiaConfig(MorphiaConfig base) {
+        accessorStrategy = base.accessorStrategy();
         applyCaps = base.applyCaps();
         applyDocumentValidations = base.applyDocumentValidations();
         applyIndexes = base.applyIndexes();
@@ -64,9 +71,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         database = base.database();
         dateStorage = base.dateStorage();
         discriminator = base.discriminator();
+        discriminatorFirst = base.discriminatorFirst();
         discriminatorKey = base.discriminatorKey();
         enablePolymorphicQueries = base.enablePolymorphicQueries();
         ignoreFinals = base.ignoreFinals();
+        metrics = base.metrics();
         packages = new ArrayList<>(base.packages());
         propertyDiscovery = base.propertyDiscovery();
         propertyNaming = base.propertyNaming();
@@ -90,6 +99,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return new ManualMorphiaConfig(base);
     }
 
+    @Override
+    public AccessorStrategy accessorStrategy() {
+        return orDefault(accessorStrategy, REFLECTION);
+    }
+
     @Override
     public Boolean applyCaps() {
         return orDefault(applyCaps, FALSE);
@@ -129,6 +143,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(discriminator, simpleName());
     }
 
+    @Override
+    public Boolean discriminatorFirst() {
+        return orDefault(discriminatorFirst, FALSE);
+    }
+
     @Override
     public String discriminatorKey() {
         return orDefault(discriminatorKey, "_t");
@@ -144,6 +163,11 @@ public class ManualMorphiaConfig implements MorphiaConfig {
         return orDefault(ignoreFinals, FALSE);
     }
 
+    @Override
+    public Optional<MorphiaMetrics> metrics() {
+        return orDefault(metrics, Optional.empty());
+    }
+
     @Override
     public List<String> packages() {
         return orDefault(packages, List.of());
@@ -176,13 +200,14 @@ public class ManualMorphiaConfig implements MorphiaConfig {
 
     @Override
     public String toString() {
-        return ("MorphiaConfig{applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, database='%s', codecProvider=%s, " +
-                "collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorKey='%s', enablePolymorphicQueries=%s, " +
-                "ignoreFinals=%s, packages=%s, propertyDiscovery=%s, propertyNaming=%s, queryFactory=%s, " +
-                "storeEmpties=%s, storeNulls=%s}").formatted(
-                        applyCaps(), applyDocumentValidations(), applyIndexes(), database(), codecProvider(), collectionNaming(),
-                        dateStorage(), discriminator(), discriminatorKey(), enablePolymorphicQueries(), ignoreFinals(), packages(),
-                        propertyDiscovery(), propertyNaming(), queryFactory(), storeEmpties(), storeNulls());
+        return ("MorphiaConfig{accessorStrategy=%s, applyCaps=%s, applyDocumentValidations=%s, applyIndexes=%s, database='%s', " +
+                "codecProvider=%s, collectionNaming=%s, dateStorage=%s, discriminator=%s, discriminatorFirst=%s, " +
+                "discriminatorKey='%s', enablePolymorphicQueries=%s, ignoreFinals=%s, metrics=%s, packages=%s, propertyDiscovery=%s, " +
+                "propertyNaming=%s, queryFactory=%s, storeEmpties=%s, storeNulls=%s}").formatted(
+                        accessorStrategy(), applyCaps(), applyDocumentValidations(), applyIndexes(), database(), codecProvider(),
+                        collectionNaming(), dateStorage(), discriminator(), discriminatorFirst(), discriminatorKey(),
+                        enablePolymorphicQueries(), ignoreFinals(), metrics(), packages(), propertyDiscovery(), propertyNaming(),
+                        queryFactory(), storeEmpties(), storeNulls());
     }
 
     protected <T> T orDefault(@Nullable T localValue, T defaultValue) {
@@ -8,10 +8,12 @@ import dev.morphia.annotations.PossibleValues;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Validation;
 import dev.morphia.annotations.internal.MorphiaExperimental;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.DateStorage;
 import dev.morphia.mapping.DiscriminatorFunction;
 import dev.morphia.mapping.NamingStrategy;
 import dev.morphia.mapping.PropertyDiscovery;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.sofia.Sofia;
 
@@ -96,6 +98,31 @@ public interface MorphiaConfig {
     @WithDefault("morphia")
     String database();
 
+    /**
+     * Determines how mapped properties are read from and written to entities. Method handles avoid the reflective overhead of each
+     * access at the cost of a little more work when an entity is first mapped.
+     *
+     * @return the accessor strategy to use
+     * @see AccessorStrategy
+     * @since 3.0
+     */
+    @WithDefault("reflection")
+    AccessorStrategy accessorStrategy();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig accessorStrategy(AccessorStrategy value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.accessorStrategy = value;
+        return newConfig;
+    }
+
     /**
      * If true, collection caps will be applied to the database at start up.
      *
@@ -143,7 +170,8 @@ public interface MorphiaConfig {
     }
 
     /**
-     * If true, mapped indexes will be applied to the database at start up.
+     * If true, mapped indexes will be applied to the database at start up. Each collection's existing indexes are compared to those mapped
+     * and only the missing indexes are created. Indexes which differ from, or are not declared by, the mapped entities are logged.
      *
      * @return true if the indexes should be applied
      */
@@ -264,6 +292,35 @@ public interface MorphiaConfig {
         return newConfig;
     }
 
+    /**
+     * Indicates that the discriminator of every stored document is expected among its first two fields, as written by Morphia directly
+     * after the {@code _id} field. By default, each document is scanned for its discriminator before it is decoded. When enabled, only
+     * those leading fields are checked. A document without a discriminator there is decoded as the requested type in a single pass.
+     * Should a discriminator naming another type turn up later in the document, the document is decoded again as that type and this is
+     * logged at debug level.
+     * <p>
+     * Documents read as an abstract type, or as a type with load lifecycle methods, are always scanned.
+     *
+     * @return true if the discriminator is expected at the start of the document
+     * @since 3.0
+     */
+    @WithDefault("false")
+    Boolean discriminatorFirst();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig discriminatorFirst(Boolean value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.discriminatorFirst = value;
+        return newConfig;
+    }
+
     /**
      * The document field name to use when storing discriminator values
      *
@@ -351,6 +408,31 @@ public interface MorphiaConfig {
 
     }
 
+    /**
+     * Specifies the {@code MorphiaMetrics} to report operation latencies, encode/decode times and sizes, reference fetches, and lifecycle
+     * callback times to. Nothing is measured unless this is set.
+     *
+     * @return the user configured metrics
+     * @see MorphiaMetrics
+     * @since 3.0
+     */
+    @WithConverter(MorphiaMetricsConverter.class)
+    Optional<MorphiaMetrics> metrics();
+
+    /**
+     * Updates this configuration with a new value and returns a new instance. The original instance is unchanged.
+     *
+     * @param value the new value
+     * @return a new instance with the updated configuration
+     * @since 3.0
+     */
+    default MorphiaConfig metrics(MorphiaMetrics value) {
+        var newConfig = new ManualMorphiaConfig(this);
+
+        newConfig.metrics = Optional.of(value);
+        return newConfig;
+    }
+
     /**
      * A comma delimited list of packages that Morphia should map. If subpackages of a specific package should also be mapped, simply add
      * a '*' to the end of the package name. e.g., 'com.foo.bar.*'
@@ -0,0 +1,13 @@
+package dev.morphia.config;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.metrics.MorphiaMetrics;
+
+/**
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MorphiaMetricsConverter extends ClassNameConverter<MorphiaMetrics> {
+}
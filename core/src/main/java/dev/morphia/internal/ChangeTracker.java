@@ -0,0 +1,172 @@
+package dev.morphia.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.TrackChanges;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+/**
+ * Remembers the document each {@link TrackChanges tracked} entity was last read from or written as so that later writes can be reduced to
+ * the fields which changed. Entities are held weakly and compared by identity so tracking neither keeps them alive nor depends on their
+ * {@code equals()}.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ChangeTracker {
+    private final Map<Key, BsonDocument> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+    /**
+     * @param model the model to check
+     * @return true if the entity's changes should be tracked
+     */
+    public boolean isTracked(EntityModel model) {
+        return model.getAnnotation(TrackChanges.class) != null;
+    }
+
+    /**
+     * Records the current state of an entity.
+     *
+     * @param entity   the entity
+     * @param document the document the entity was read from or written as
+     */
+    public void track(Object entity, BsonDocument document) {
+        expunge();
+        snapshots.put(new Key(entity, collected), document);
+    }
+
+    /**
+     * @param entity the entity
+     * @return the last known state of the entity, if any
+     */
+    @Nullable
+    public BsonDocument snapshot(Object entity) {
+        return snapshots.isEmpty() ? null : snapshots.get(new Key(entity, null));
+    }
+
+    /**
+     * Discards the state of an entity, e.g. when it has been written in a way that is not tracked.
+     *
+     * @param entity the entity
+     */
+    public void forget(Object entity) {
+        if (!snapshots.isEmpty()) {
+            snapshots.remove(new Key(entity, null));
+        }
+    }
+
+    /**
+     * Computes the update which turns one document in to another. Nested documents are compared field by field so only the paths which
+     * changed are written. Arrays and documents whose keys can not be used in a path are written whole when they change.
+     *
+     * @param snapshot  the document as last read or written
+     * @param current   the document as it is now
+     * @param unsetKeys the top level keys to unset if they are missing from {@code current} or null to unset any missing key
+     * @return the update, empty if nothing changed
+     */
+    public static Document changes(BsonDocument snapshot, BsonDocument current, @Nullable Set<String> unsetKeys) {
+        BsonDocument set = new BsonDocument();
+        BsonDocument unset = new BsonDocument();
+        for (Entry<String, BsonValue> entry : current.entrySet()) {
+            if (!entry.getKey().equals("_id")) {
+                compare("", entry.getKey(), snapshot.get(entry.getKey()), entry.getValue(), set, unset);
+            }
+        }
+        for (String key : snapshot.keySet()) {
+            if (!current.containsKey(key) && (unsetKeys == null || unsetKeys.contains(key))) {
+                unset.put(key, new BsonInt32(1));
+            }
+        }
+
+        Document update = new Document();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!unset.isEmpty()) {
+            update.put("$unset", unset);
+        }
+        return update;
+    }
+
+    private static void compare(String prefix, String key, @Nullable BsonValue before, BsonValue after, BsonDocument set,
+            BsonDocument unset) {
+        if (after.equals(before)) {
+            return;
+        }
+        String path = prefix + key;
+        if (before == null || !before.isDocument() || !after.isDocument() || !addressable(before.asDocument())
+                || !addressable(after.asDocument())) {
+            set.put(path, after);
+            return;
+        }
+        BsonDocument old = before.asDocument();
+        BsonDocument updated = after.asDocument();
+        for (Entry<String, BsonValue> entry : updated.entrySet()) {
+            compare(path + ".", entry.getKey(), old.get(entry.getKey()), entry.getValue(), set, unset);
+        }
+        for (String name : old.keySet()) {
+            if (!updated.containsKey(name)) {
+                unset.put(path + "." + name, new BsonInt32(1));
+            }
+        }
+    }
+
+    private static boolean addressable(BsonDocument document) {
+        for (String key : document.keySet()) {
+            if (key.isEmpty() || key.startsWith("$") || key.contains(".")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+
+        private Key(Object entity, @Nullable ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == ((Key) o).get();
+        }
+    }
+}
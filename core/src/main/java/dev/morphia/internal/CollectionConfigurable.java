@@ -39,7 +39,8 @@ public interface CollectionConfigurable<T> extends CollectionConfiguration {
     default <T> MongoCollection<T> prepare(MongoCollection<T> collection, MongoDatabase database) {
         String alternateName = collection();
         if (alternateName != null) {
-            collection = database.getCollection(alternateName, collection.getDocumentClass());
+            collection = database.getCollection(alternateName, collection.getDocumentClass())
+                    .withCodecRegistry(collection.getCodecRegistry());
         }
 
         return collection;
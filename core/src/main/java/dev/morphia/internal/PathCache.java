@@ -0,0 +1,129 @@
+package dev.morphia.internal;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+/**
+ * Remembers how paths were resolved against an entity model so that queries, updates, and sorts built repeatedly with the same shapes
+ * only walk the model once. Entries are discarded whenever a new entity is mapped since new subtypes can change how a path resolves.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class PathCache {
+    /**
+     * Paths into maps or with validation disabled can be arbitrary so the cache is bounded by simply starting over when full.
+     */
+    private static final int MAX_SIZE = 10_000;
+
+    private final Map<Key, ResolvedPath> paths = new ConcurrentHashMap<>();
+
+    /**
+     * @param root     the root of the path
+     * @param path     the untranslated path
+     * @param validate true if the path was validated
+     * @return the earlier resolution, if any
+     */
+    @Nullable
+    public ResolvedPath get(@Nullable EntityModel root, String path, boolean validate) {
+        return paths.get(new Key(root, path, validate));
+    }
+
+    /**
+     * @param root     the root of the path
+     * @param path     the untranslated path
+     * @param validate true if the path was validated
+     * @param resolved the resolution to remember
+     */
+    public void put(@Nullable EntityModel root, String path, boolean validate, ResolvedPath resolved) {
+        if (paths.size() >= MAX_SIZE) {
+            paths.clear();
+        }
+        paths.put(new Key(root, path, validate), resolved);
+    }
+
+    /**
+     * Discards all resolutions.
+     */
+    public void clear() {
+        paths.clear();
+    }
+
+    /**
+     * The result of resolving a path.
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static final class ResolvedPath {
+        private final String translatedPath;
+        @Nullable
+        private final PropertyModel target;
+
+        ResolvedPath(String translatedPath, @Nullable PropertyModel target) {
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
+
+        /**
+         * @return the path using the mapped names
+         */
+        public String translatedPath() {
+            return translatedPath;
+        }
+
+        /**
+         * @return the property at the end of the path, if any
+         */
+        @Nullable
+        public PropertyModel target() {
+            return target;
+        }
+    }
+
+    /**
+     * Models are compared by identity since their equality checks are too costly to run per lookup.
+     */
+    private static final class Key {
+        @Nullable
+        private final EntityModel root;
+        private final String path;
+        private final boolean validate;
+        private final int hash;
+
+        private Key(@Nullable EntityModel root, String path, boolean validate) {
+            this.root = root;
+            this.path = path;
+            this.validate = validate;
+            hash = Objects.hash(System.identityHashCode(root), path, validate);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return root == that.root && validate == that.validate && path.equals(that.path);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.StringJoiner;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.internal.PathCache.ResolvedPath;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.NotMappableException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
@@ -41,7 +42,9 @@ import static java.util.Arrays.asList;
  */
 @MorphiaInternal
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
+    private List<String> segments;
+    private String translatedPath;
     private final boolean validateNames;
     private int position;
     private final Mapper mapper;
@@ -71,11 +74,14 @@ public class PathTarget {
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public PathTarget(Mapper mapper, @Nullable EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
         resolved = path.startsWith("$");
+        if (resolved) {
+            translatedPath = path;
+        }
     }
 
     /**
@@ -124,9 +130,7 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(joiner::add);
-        return joiner.toString();
+        return translatedPath != null ? translatedPath : joinSegments();
     }
 
     /**
@@ -144,7 +148,8 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, path=%s, target=%s}", root != null ? root.getType().getSimpleName() : null, path,
+                resolved ? target : null);
     }
 
     private boolean hasNext() {
@@ -157,6 +162,16 @@ public class PathTarget {
     }
 
     private void resolve() {
+        PathCache cache = mapper.getPathCache();
+        ResolvedPath cached = cache.get(root, path, validateNames);
+        if (cached != null) {
+            translatedPath = cached.translatedPath();
+            target = cached.target();
+            resolved = true;
+            return;
+        }
+
+        segments = asList(path.split("\\."));
         context = this.root;
         position = 0;
         PropertyModel property = null;
@@ -164,7 +179,7 @@ public class PathTarget {
             String segment = next();
 
             // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
+            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || isIndex(segment)) {
                 if (!hasNext()) {
                     break;
                 }
@@ -188,6 +203,27 @@ public class PathTarget {
         }
         target = property;
         resolved = true;
+        translatedPath = joinSegments();
+        cache.put(root, path, validateNames, new ResolvedPath(translatedPath, target));
+    }
+
+    private static boolean isIndex(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String joinSegments() {
+        StringJoiner joiner = new StringJoiner(".");
+        segments.forEach(joiner::add);
+        return joiner.toString();
     }
 
     private void translate(String nameToStore) {
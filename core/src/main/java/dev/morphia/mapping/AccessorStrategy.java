@@ -0,0 +1,18 @@
+package dev.morphia.mapping;
+
+/**
+ * This enum is used to determine how mapped properties are read from and written to entities.
+ *
+ * @since 3.0
+ */
+public enum AccessorStrategy {
+    /**
+     * use {@code java.lang.reflect.Field} and {@code java.lang.reflect.Method} for every access
+     */
+    REFLECTION,
+
+    /**
+     * resolve a {@code java.lang.invoke.MethodHandle} for each property once at mapping time and invoke it directly thereafter
+     */
+    METHOD_HANDLES
+}
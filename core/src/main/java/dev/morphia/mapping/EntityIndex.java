@@ -0,0 +1,127 @@
+package dev.morphia.mapping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The entity types listed in every {@value Mapper#ENTITY_INDEX} resource visible to a class loader. These are written at build time so
+ * that mapping a package at startup only needs to load the listed types rather than scanning, and initializing, everything in the jars
+ * and directories holding an index. Only the types compiled in to those jars and directories are listed, so the others are scanned.
+ *
+ * @see Mapper#ENTITY_INDEX
+ */
+@SuppressWarnings("rawtypes")
+class EntityIndex {
+    private final List<URL> locations;
+    private final Set<String> roots = new LinkedHashSet<>();
+    private final Set<String> types;
+
+    private EntityIndex(List<URL> locations, Set<String> types) {
+        this.locations = locations;
+        this.types = types;
+        for (URL location : locations) {
+            String url = location.toExternalForm();
+            String root = url.substring(0, url.length() - Mapper.ENTITY_INDEX.length());
+            if (root.startsWith("jar:") && root.endsWith("!/")) {
+                root = root.substring("jar:".length(), root.length() - "!/".length());
+            }
+            roots.add(normalize(root));
+        }
+    }
+
+    static EntityIndex load(ClassLoader loader) {
+        List<URL> locations = new ArrayList<>();
+        Set<String> types = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(Mapper.ENTITY_INDEX);
+            for (URL url : Collections.list(resources)) {
+                locations.add(url);
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), UTF_8))) {
+                    reader.lines()
+                            .map(String::trim)
+                            .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                            .forEach(types::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new MappingException("Could not read the entity index " + Mapper.ENTITY_INDEX, e);
+        }
+        return new EntityIndex(locations, types);
+    }
+
+    /**
+     * @return true if no index was found
+     */
+    boolean isEmpty() {
+        return locations.isEmpty();
+    }
+
+    /**
+     * @return the index resources read
+     */
+    List<URL> locations() {
+        return locations;
+    }
+
+    /**
+     * @param element the path or URL of a jar or directory on the classpath
+     * @return true if the types in that jar or directory are listed by an index
+     */
+    boolean covers(String element) {
+        return roots.contains(normalize(element));
+    }
+
+    private static String normalize(String element) {
+        try {
+            if (element.startsWith("file:")) {
+                return Path.of(new URL(element).toURI()).toAbsolutePath().normalize().toString();
+            } else if (!element.contains(":/")) {
+                return Path.of(element).toAbsolutePath().normalize().toString();
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException ignored) {
+        }
+        return element;
+    }
+
+    /**
+     * Loads the indexed types in a package. Types which can no longer be loaded are skipped, as they are when scanning.
+     *
+     * @param loader      the loader to use
+     * @param packageName the package name, ending in {@code .*} to include its subpackages
+     * @return the types found
+     */
+    List<Class> classes(ClassLoader loader, String packageName) {
+        List<Class> classes = new ArrayList<>();
+        for (String type : types) {
+            if (inPackage(type, packageName)) {
+                try {
+                    classes.add(Class.forName(type, true, loader));
+                } catch (Throwable ignored) {
+                }
+            }
+        }
+        return classes;
+    }
+
+    static boolean inPackage(String type, String packageName) {
+        int dot = type.lastIndexOf('.');
+        String typePackage = dot == -1 ? "" : type.substring(0, dot);
+        if (packageName.endsWith(".*")) {
+            String base = packageName.substring(0, packageName.length() - 2);
+            return base.isEmpty() || typePackage.equals(base) || typePackage.startsWith(base + ".");
+        }
+        return typePackage.equals(packageName);
+    }
+}
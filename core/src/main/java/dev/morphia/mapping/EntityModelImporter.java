@@ -2,6 +2,8 @@ package dev.morphia.mapping;
 
 import java.util.List;
 
+import com.mongodb.lang.Nullable;
+
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaExperimental;
 import dev.morphia.annotations.internal.MorphiaInternal;
@@ -26,8 +28,9 @@ public interface EntityModelImporter {
      * Returns the codec provider responsible for creating the codecs for the {@link EntityModel}s returned by this importer.
      *
      * @param datastore The datastore to use
-     * @return the provider
+     * @return the provider or null if the datastore's own provider should create them
      */
+    @Nullable
     MorphiaCodecProvider getCodecProvider(MorphiaDatastore datastore);
 
     /**
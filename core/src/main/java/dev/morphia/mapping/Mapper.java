@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
@@ -24,12 +25,16 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.internal.PathCache;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.mapping.validation.MappingValidator;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -64,15 +69,29 @@ public class Mapper {
             PostPersist.class,
             PostLoad.class);
 
+    /**
+     * The classpath resource listing the entity types compiled in to a jar or directory, one binary class name per line. The types of a
+     * jar or directory with an index are taken from it rather than by scanning it. Every other jar and directory is still scanned.
+     *
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static final String ENTITY_INDEX = "META-INF/morphia/entities";
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<String, EntityModel> mappedEntities = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
     private final List<EntityListener<?>> listeners = new ArrayList<>();
+    private final List<Runnable> listenerUpdates = new CopyOnWriteArrayList<>();
     private final MorphiaConfig config;
     private final DiscriminatorLookup discriminatorLookup;
     private final ClassLoader contextClassLoader;
+    private final PathCache pathCache = new PathCache();
+    @Nullable
+    private EntityIndex entityIndex;
 
     /**
      * Creates a Mapper with the given options.
@@ -137,6 +156,34 @@ public class Mapper {
     @Deprecated(forRemoval = true, since = "2.4.0")
     public void addInterceptor(EntityListener<?> ei) {
         listeners.add(ei);
+        mappedEntities.values().forEach(EntityModel::listenersUpdated);
+        listenerUpdates.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers an action to run whenever a global listener is added.
+     *
+     * @param action the action to run
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void onListenersUpdated(Runnable action) {
+        listenerUpdates.add(action);
+    }
+
+    /**
+     * Unregisters an action registered with {@link #onListenersUpdated(Runnable)}.
+     *
+     * @param action the action to remove
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void removeListenersUpdated(Runnable action) {
+        listenerUpdates.remove(action);
     }
 
     /**
@@ -149,6 +196,17 @@ public class Mapper {
         return new Mapper(this);
     }
 
+    /**
+     * @return the cache of resolved paths
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
     /**
      * @param type the class
      * @return the id property model
@@ -361,6 +419,19 @@ public class Mapper {
         return !listeners.isEmpty();
     }
 
+    /**
+     * @param type the lifecycle event type
+     * @return true if any global listener handles the event
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean hasListeners(Class<? extends Annotation> type) {
+        return listeners.stream()
+                .anyMatch(listener -> listener.hasAnnotation(type));
+    }
+
     /**
      * Checks if a type is mappable or not
      *
@@ -490,20 +561,44 @@ public class Mapper {
      */
     @MorphiaInternal
     public void updateQueryWithDiscriminators(EntityModel model, Document query) {
+        if (needsDiscriminators(model, query.containsKey("_id"), query.containsKey(model.discriminatorKey()))) {
+            query.put(model.discriminatorKey(),
+                    new Document("$in", discriminators(model)));
+        }
+    }
+
+    /**
+     * Updates a query with any discriminators from subtypes if polymorphic queries are enabled
+     *
+     * @param model the query model
+     * @param query the query document
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void updateQueryWithDiscriminators(EntityModel model, BsonDocument query) {
+        if (needsDiscriminators(model, query.containsKey("_id"), query.containsKey(model.discriminatorKey()))) {
+            query.put(model.discriminatorKey(), new BsonDocument("$in", new BsonArray(discriminators(model).stream()
+                    .map(BsonString::new)
+                    .collect(Collectors.toList()))));
+        }
+    }
+
+    private boolean needsDiscriminators(EntityModel model, boolean hasId, boolean hasDiscriminator) {
         Entity annotation = model.getEntityAnnotation();
-        if (annotation != null && annotation.useDiscriminator()
-                && !query.containsKey("_id")
-                && !query.containsKey(model.discriminatorKey())) {
-            List<String> values = new ArrayList<>();
-            values.add(model.discriminator());
-            if (config.enablePolymorphicQueries()) {
-                for (EntityModel subtype : model.getSubtypes()) {
-                    values.add(subtype.discriminator());
-                }
+        return annotation != null && annotation.useDiscriminator() && !hasId && !hasDiscriminator;
+    }
+
+    private List<String> discriminators(EntityModel model) {
+        List<String> values = new ArrayList<>();
+        values.add(model.discriminator());
+        if (config.enablePolymorphicQueries()) {
+            for (EntityModel subtype : model.getSubtypes()) {
+                values.add(subtype.discriminator());
             }
-            query.put(model.discriminatorKey(),
-                    new Document("$in", values));
         }
+        return values;
     }
 
     /**
@@ -541,6 +636,7 @@ public class Mapper {
                 model.addSubtype(mapped);
             }
         });
+        pathCache.clear();
         return model;
     }
 
@@ -553,11 +649,19 @@ public class Mapper {
 
     private List<Class> getClasses(ClassLoader loader, String packageName)
             throws ClassNotFoundException {
+        if (entityIndex == null) {
+            entityIndex = EntityIndex.load(loader);
+        }
         final Set<Class> classes = new HashSet<>();
 
         ClassGraph classGraph = new ClassGraph()
                 .addClassLoader(loader)
                 .enableAllInfo();
+        if (!entityIndex.isEmpty()) {
+            Sofia.logMappingPackageIndexed(packageName, entityIndex.locations());
+            classes.addAll(entityIndex.classes(loader, packageName));
+            classGraph.filterClasspathElements(element -> !entityIndex.covers(element));
+        }
         if (packageName.endsWith(".*")) {
             String base = packageName.substring(0, packageName.length() - 2);
             if (!base.isEmpty()) {
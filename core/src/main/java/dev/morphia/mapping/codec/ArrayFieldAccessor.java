@@ -7,6 +7,7 @@ import java.util.List;
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.codec.pojo.TypeData;
 
 import static java.lang.String.format;
@@ -29,7 +30,19 @@ public class ArrayFieldAccessor extends FieldAccessor {
      * @param field    the field
      */
     public ArrayFieldAccessor(TypeData<?> typeData, Field field) {
-        super(field);
+        this(typeData, field, AccessorStrategy.REFLECTION);
+    }
+
+    /**
+     * Creates the accessor
+     *
+     * @param typeData the type data
+     * @param field    the field
+     * @param strategy the strategy to use when accessing the field
+     * @since 3.0
+     */
+    public ArrayFieldAccessor(TypeData<?> typeData, Field field, AccessorStrategy strategy) {
+        super(field, strategy);
         this.typeData = typeData;
         componentType = field.getType().getComponentType();
     }
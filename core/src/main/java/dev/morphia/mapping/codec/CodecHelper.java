@@ -12,6 +12,9 @@ import dev.morphia.aggregation.expressions.impls.Expression;
 import dev.morphia.aggregation.expressions.impls.SimpleExpression;
 import dev.morphia.annotations.internal.MorphiaInternal;
 
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
 import org.bson.BsonWriter;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
@@ -63,6 +66,81 @@ public class CodecHelper {
         writer.writeEndDocument();
     }
 
+    /**
+     * Copies the current value of the reader, of any type, to the writer as is. Unlike {@link BsonWriter#pipe(BsonReader)}, the value need
+     * not be a document.
+     *
+     * @param reader the reader positioned at the value to copy
+     * @param writer the writer to copy to
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static void copyValue(BsonReader reader, BsonWriter writer) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT -> {
+                reader.readStartDocument();
+                writer.writeStartDocument();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    writer.writeName(reader.readName());
+                    copyValue(reader, writer);
+                }
+                reader.readEndDocument();
+                writer.writeEndDocument();
+            }
+            case ARRAY -> {
+                reader.readStartArray();
+                writer.writeStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    copyValue(reader, writer);
+                }
+                reader.readEndArray();
+                writer.writeEndArray();
+            }
+            case DOUBLE -> writer.writeDouble(reader.readDouble());
+            case STRING -> writer.writeString(reader.readString());
+            case BINARY -> writer.writeBinaryData(reader.readBinaryData());
+            case UNDEFINED -> {
+                reader.readUndefined();
+                writer.writeUndefined();
+            }
+            case OBJECT_ID -> writer.writeObjectId(reader.readObjectId());
+            case BOOLEAN -> writer.writeBoolean(reader.readBoolean());
+            case DATE_TIME -> writer.writeDateTime(reader.readDateTime());
+            case NULL -> {
+                reader.readNull();
+                writer.writeNull();
+            }
+            case REGULAR_EXPRESSION -> writer.writeRegularExpression(reader.readRegularExpression());
+            case DB_POINTER -> writer.writeDBPointer(reader.readDBPointer());
+            case JAVASCRIPT -> writer.writeJavaScript(reader.readJavaScript());
+            case SYMBOL -> writer.writeSymbol(reader.readSymbol());
+            case JAVASCRIPT_WITH_SCOPE -> {
+                writer.writeJavaScriptWithScope(reader.readJavaScriptWithScope());
+                reader.readStartDocument();
+                writer.writeStartDocument();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    writer.writeName(reader.readName());
+                    copyValue(reader, writer);
+                }
+                reader.readEndDocument();
+                writer.writeEndDocument();
+            }
+            case INT32 -> writer.writeInt32(reader.readInt32());
+            case TIMESTAMP -> writer.writeTimestamp(reader.readTimestamp());
+            case INT64 -> writer.writeInt64(reader.readInt64());
+            case DECIMAL128 -> writer.writeDecimal128(reader.readDecimal128());
+            case MIN_KEY -> {
+                reader.readMinKey();
+                writer.writeMinKey();
+            }
+            case MAX_KEY -> {
+                reader.readMaxKey();
+                writer.writeMaxKey();
+            }
+            default -> throw new BsonInvalidOperationException("Unexpected BSON type: " + reader.getCurrentBsonType());
+        }
+    }
+
     @MorphiaInternal
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public static boolean encodeIfNotNull(CodecRegistry registry,
@@ -1,14 +1,19 @@
 package dev.morphia.mapping.codec;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 
 import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.MappingException;
 
 import org.bson.codecs.pojo.PropertyAccessor;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
  * @hidden
  * @morphia.internal
@@ -16,6 +21,10 @@ import org.bson.codecs.pojo.PropertyAccessor;
 @MorphiaInternal
 public class FieldAccessor implements PropertyAccessor<Object> {
     private final Field field;
+    @Nullable
+    private final MethodHandle getter;
+    @Nullable
+    private final MethodHandle setter;
 
     /**
      * Creates the accessor for a field
@@ -23,8 +32,26 @@ public class FieldAccessor implements PropertyAccessor<Object> {
      * @param field the field itself
      */
     public FieldAccessor(Field field) {
+        this(field, AccessorStrategy.REFLECTION);
+    }
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field    the field itself
+     * @param strategy the strategy to use when accessing the field
+     * @since 3.0
+     */
+    public FieldAccessor(Field field, AccessorStrategy strategy) {
         this.field = field;
         field.setAccessible(true);
+        if (strategy == AccessorStrategy.METHOD_HANDLES) {
+            getter = getterHandle(field);
+            setter = setterHandle(field);
+        } else {
+            getter = null;
+            setter = null;
+        }
     }
 
     protected Field getField() {
@@ -34,9 +61,14 @@ public class FieldAccessor implements PropertyAccessor<Object> {
     @Override
     @Nullable
     public Object get(@Nullable Object instance) {
+        if (instance == null) {
+            return null;
+        }
         try {
-            return instance != null ? field.get(instance) : null;
-        } catch (IllegalAccessException e) {
+            return getter != null ? (Object) getter.invokeExact(instance) : field.get(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
@@ -44,9 +76,36 @@ public class FieldAccessor implements PropertyAccessor<Object> {
     @Override
     public void set(Object instance, Object value) {
         try {
-            field.set(instance, value);
-        } catch (ReflectiveOperationException e) {
+            if (setter != null) {
+                setter.invokeExact(instance, value);
+            } else {
+                field.set(instance, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
+
+    @Nullable
+    private static MethodHandle getterHandle(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectGetter(field)
+                    .asType(methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    private static MethodHandle setterHandle(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field)
+                    .asType(methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            // final fields on records, e.g., can not be written via handles so fall back to reflection
+            return null;
+        }
+    }
 }
@@ -1,12 +1,20 @@
 package dev.morphia.mapping.codec;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
+import com.mongodb.lang.Nullable;
+
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.MappingException;
 
 import org.bson.codecs.pojo.PropertyAccessor;
 
+import static java.lang.invoke.MethodType.methodType;
+
 /**
  * @hidden
  * @morphia.internal
@@ -15,6 +23,10 @@ import org.bson.codecs.pojo.PropertyAccessor;
 public class MethodAccessor implements PropertyAccessor<Object> {
     private final Method getter;
     private final Method setter;
+    @Nullable
+    private final MethodHandle getterHandle;
+    @Nullable
+    private final MethodHandle setterHandle;
 
     /**
      * @param getter
@@ -24,15 +36,37 @@ public class MethodAccessor implements PropertyAccessor<Object> {
      */
     @MorphiaInternal
     public MethodAccessor(Method getter, Method setter) {
+        this(getter, setter, AccessorStrategy.REFLECTION);
+    }
+
+    /**
+     * @param getter   the getter method
+     * @param setter   the setter method
+     * @param strategy the strategy to use when invoking the methods
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public MethodAccessor(Method getter, Method setter, AccessorStrategy strategy) {
         this.getter = getter;
         this.setter = setter;
+        if (strategy == AccessorStrategy.METHOD_HANDLES) {
+            getterHandle = handle(getter, methodType(Object.class, Object.class));
+            setterHandle = handle(setter, methodType(void.class, Object.class, Object.class));
+        } else {
+            getterHandle = null;
+            setterHandle = null;
+        }
     }
 
     @Override
     public <S> Object get(S instance) {
         try {
-            return getter.invoke(instance);
-        } catch (ReflectiveOperationException e) {
+            return getterHandle != null ? (Object) getterHandle.invokeExact((Object) instance) : getter.invoke(instance);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
@@ -40,9 +74,25 @@ public class MethodAccessor implements PropertyAccessor<Object> {
     @Override
     public <S> void set(S instance, Object value) {
         try {
-            setter.invoke(instance, value);
-        } catch (ReflectiveOperationException e) {
+            if (setterHandle != null) {
+                setterHandle.invokeExact((Object) instance, value);
+            } else {
+                setter.invoke(instance, value);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
+
+    @Nullable
+    private static MethodHandle handle(Method method, MethodType type) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method).asType(type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
 }
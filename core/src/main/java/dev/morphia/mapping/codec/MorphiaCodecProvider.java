@@ -1,10 +1,11 @@
 package dev.morphia.mapping.codec;
 
+import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.mongodb.lang.Nullable;
 
@@ -35,9 +36,10 @@ import org.bson.codecs.pojo.PropertyCodecProvider;
  */
 @MorphiaInternal
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders = new ArrayList<>();
+    private final Runnable listenerUpdate = this::refreshLifecycles;
     private MorphiaDatastore datastore;
 
     /**
@@ -56,6 +58,7 @@ public class MorphiaCodecProvider implements CodecProvider {
         providers.forEach(provider -> {
             propertyCodecProviders.add(provider);
         });
+        mapper.onListenersUpdated(listenerUpdate);
     }
 
     @Nullable
@@ -66,16 +69,51 @@ public class MorphiaCodecProvider implements CodecProvider {
         if (codec == null && (mapper.isMapped(type) || mapper.isMappable(type))) {
             EntityModel model = mapper.getEntityModel(type);
             codec = new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry);
-            if (model.hasLifecycle(PostPersist.class) || model.hasLifecycle(PrePersist.class) || mapper.hasListeners()) {
+            configureLifecycle(codec);
+            MorphiaCodec<T> existing = (MorphiaCodec<T>) codecs.putIfAbsent(type, codec);
+            if (existing != null) {
+                codec = existing;
+            }
+        }
+
+        return codec;
+    }
+
+    /**
+     * Stops updating the lifecycle handling of this provider's codecs when global listeners are added to the {@link Mapper}. This should
+     * be called once the provider's datastore is no longer used if the Mapper outlives it.
+     *
+     * @since 3.0
+     */
+    public void close() {
+        mapper.removeListenersUpdated(listenerUpdate);
+    }
+
+    /**
+     * Installs the lifecycle encoder and decoder only for the events that apply to the codec's entity. This keeps, e.g., the read path on
+     * the plain decoder when only persist listeners are defined.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void configureLifecycle(MorphiaCodec codec) {
+        EntityModel model = codec.getEntityModel();
+        if (hasLifecycle(model, PostPersist.class) || hasLifecycle(model, PrePersist.class)) {
+            if (!(codec.getEncoder() instanceof LifecycleEncoder)) {
                 codec.setEncoder(new LifecycleEncoder(codec));
             }
-            if (model.hasLifecycle(PreLoad.class) || model.hasLifecycle(PostLoad.class) || mapper.hasListeners()) {
+        }
+        if (hasLifecycle(model, PreLoad.class) || hasLifecycle(model, PostLoad.class)) {
+            if (!(codec.getDecoder() instanceof LifecycleDecoder)) {
                 codec.setDecoder(new LifecycleDecoder(codec));
             }
-            codecs.put(type, codec);
         }
+    }
 
-        return codec;
+    private boolean hasLifecycle(EntityModel model, Class<? extends Annotation> type) {
+        return model.hasLifecycle(type) || mapper.hasListeners(type);
+    }
+
+    private void refreshLifecycles() {
+        codecs.values().forEach(codec -> configureLifecycle((MorphiaCodec<?>) codec));
     }
 
     /**
@@ -91,7 +129,7 @@ public class MorphiaCodecProvider implements CodecProvider {
         EntityModel model = mapper.getEntityModel(entity.getClass());
         return new MorphiaCodec<>(datastore, model, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry) {
             @Override
-            protected EntityDecoder<T> getDecoder() {
+            public EntityDecoder<T> getDecoder() {
                 return new EntityDecoder<>(this) {
                     @Override
                     protected MorphiaInstanceCreator getInstanceCreator() {
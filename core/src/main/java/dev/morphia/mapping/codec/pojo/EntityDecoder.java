@@ -1,7 +1,10 @@
 package dev.morphia.mapping.codec.pojo;
 
+import java.lang.reflect.Modifier;
+
 import com.mongodb.lang.Nullable;
 
+import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
@@ -31,12 +34,22 @@ import static java.lang.String.format;
 public class EntityDecoder<T> implements Decoder<T> {
     private static final Logger LOG = LoggerFactory.getLogger(EntityDecoder.class);
 
+    /**
+     * The number of leading fields to inspect for the discriminator when it is known to be written first. Morphia writes the
+     * discriminator directly after the {@code _id} field.
+     */
+    private static final int LEADING_FIELDS = 2;
+
     private final MorphiaCodec<T> morphiaCodec;
     private final EntityModel classModel;
+    private final boolean discriminatorFirst;
 
     protected EntityDecoder(MorphiaCodec<T> morphiaCodec) {
         this.morphiaCodec = morphiaCodec;
         classModel = morphiaCodec.getEntityModel();
+        MorphiaDatastore datastore = morphiaCodec.getDatastore();
+        discriminatorFirst = datastore != null && datastore.getMapper().getConfig().discriminatorFirst()
+                && !Modifier.isAbstract(classModel.getType().getModifiers());
     }
 
     @Override
@@ -44,10 +57,17 @@ public class EntityDecoder<T> implements Decoder<T> {
     public T decode(BsonReader reader, DecoderContext decoderContext) {
         T entity;
         if (decoderContext.hasCheckedDiscriminator()) {
-            LOG.debug(format("Decoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(format("Decoding document using codec for %s'", classModel.getType().getName()));
+            }
             MorphiaInstanceCreator instanceCreator = getInstanceCreator();
             decodeProperties(reader, decoderContext, instanceCreator, classModel);
             return (T) instanceCreator.getInstance();
+        } else if (discriminatorFirst && classModel.useDiscriminator()) {
+            String discriminator = leadingDiscriminator(reader, classModel.discriminatorKey());
+            entity = discriminator != null
+                    ? codec(discriminator).decode(reader, DecoderContext.builder().checkedDiscriminator(true).build())
+                    : decodeUntilDiscriminator(reader, decoderContext);
         } else {
             entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.discriminatorKey(),
                     morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
@@ -61,63 +81,146 @@ public class EntityDecoder<T> implements Decoder<T> {
             MorphiaInstanceCreator instanceCreator, @Nullable PropertyModel model) {
 
         if (model != null) {
-            final BsonReaderMark mark = reader.getMark();
-            try {
-                if (reader.getCurrentBsonType() == BsonType.NULL) {
-                    reader.readNull();
-                } else {
-                    Object value = decoderContext.decodeWithChildContext(model.getCodec(), reader);
-                    instanceCreator.set(value, model);
-                }
-            } catch (BsonInvalidOperationException e) {
-                mark.reset();
-                final Object value = morphiaCodec.getRegistry().get(Object.class).decode(reader, decoderContext);
-                instanceCreator.set(convert(value, model.getTypeData().getType()), model);
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+            } else if (model.isLazy()) {
+                instanceCreator.set(LazyValue.proxy(model.getType(), reader,
+                        r -> decodeValue(r, DecoderContext.builder().build(), model)), model);
+            } else {
+                instanceCreator.set(decodeValue(reader, decoderContext, model), model);
             }
         } else {
             reader.skipValue();
         }
     }
 
+    @Nullable
+    private Object decodeValue(BsonReader reader, DecoderContext decoderContext, PropertyModel model) {
+        final BsonReaderMark mark = reader.getMark();
+        try {
+            return decoderContext.decodeWithChildContext(model.getCodec(), reader);
+        } catch (BsonInvalidOperationException e) {
+            mark.reset();
+            final Object value = morphiaCodec.getRegistry().get(Object.class).decode(reader, decoderContext);
+            return convert(value, model.getTypeData().getType());
+        }
+    }
+
     protected void decodeProperties(BsonReader reader, DecoderContext decoderContext,
             MorphiaInstanceCreator instanceCreator, EntityModel classModel) {
+        EntityPlan plan = classModel.plan();
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String name = reader.readName();
-            if (classModel.useDiscriminator() && classModel.discriminatorKey().equals(name)) {
+            if (plan.isDiscriminator(name)) {
                 reader.readString();
             } else {
-                decodeModel(reader, decoderContext, instanceCreator, classModel.getProperty(name));
+                decodeModel(reader, decoderContext, instanceCreator, plan.property(name));
             }
         }
         reader.readEndDocument();
     }
 
+    /**
+     * Decodes the document as this decoder's type in a single pass. Should a discriminator naming another type turn up after the leading
+     * fields, the document is decoded again from the start as that type.
+     */
+    @SuppressWarnings("unchecked")
+    private T decodeUntilDiscriminator(BsonReader reader, DecoderContext decoderContext) {
+        BsonReaderMark mark = reader.getMark();
+        MorphiaInstanceCreator instanceCreator = getInstanceCreator();
+        EntityPlan plan = classModel.plan();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            if (plan.isDiscriminator(name)) {
+                String discriminator = reader.readString();
+                Codec<T> codec = codec(discriminator);
+                if (!classModel.getType().equals(codec.getEncoderClass())) {
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(format("The discriminator of a '%s' document is not among its leading fields.  Decoding it again as "
+                                + "'%s'.", classModel.getName(), discriminator));
+                    }
+                    mark.reset();
+                    return codec.decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                }
+            } else {
+                decodeModel(reader, decoderContext, instanceCreator, plan.property(name));
+            }
+        }
+        reader.readEndDocument();
+        return (T) instanceCreator.getInstance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Codec<T> codec(String discriminator) {
+        try {
+            return (Codec<T>) morphiaCodec.getRegistry().get(morphiaCodec.getDiscriminatorLookup().lookup(discriminator));
+        } catch (Exception e) {
+            throw new CodecConfigurationException(format("Failed to decode '%s'. Decoding errored with: %s",
+                    morphiaCodec.getEntityModel().getName(), e.getMessage()), e);
+        }
+    }
+
     protected Codec<T> getCodecFromDocument(BsonReader reader, boolean useDiscriminator, String discriminatorKey,
             CodecRegistry registry, DiscriminatorLookup discriminatorLookup,
             Codec<T> defaultCodec) {
         Codec<T> codec = null;
         if (useDiscriminator) {
-            BsonReaderMark mark = reader.getMark();
             try {
-                reader.readStartDocument();
-                while (codec == null && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-                    if (discriminatorKey.equals(reader.readName())) {
-                        codec = (Codec<T>) registry.get(discriminatorLookup.lookup(reader.readString()));
-                    } else {
-                        reader.skipValue();
-                    }
+                String discriminator = findDiscriminator(reader, discriminatorKey);
+                if (discriminator != null) {
+                    codec = (Codec<T>) registry.get(discriminatorLookup.lookup(discriminator));
                 }
             } catch (Exception e) {
                 throw new CodecConfigurationException(format("Failed to decode '%s'. Decoding errored with: %s",
                         morphiaCodec.getEntityModel().getName(), e.getMessage()), e);
-            } finally {
-                mark.reset();
             }
         }
         return codec != null ? codec : defaultCodec;
     }
 
+    /**
+     * Finds the discriminator value of the current document without consuming it. The reader is left positioned at the start of the
+     * document.
+     *
+     * @param reader           the reader
+     * @param discriminatorKey the field holding the discriminator
+     * @return the discriminator value or null if the document has none
+     * @since 3.0
+     */
+    @Nullable
+    protected String findDiscriminator(BsonReader reader, String discriminatorKey) {
+        return findDiscriminator(reader, discriminatorKey, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Looks for the discriminator among the leading fields of the current document only. The reader is left positioned at the start of
+     * the document.
+     */
+    @Nullable
+    private static String leadingDiscriminator(BsonReader reader, String discriminatorKey) {
+        return findDiscriminator(reader, discriminatorKey, LEADING_FIELDS);
+    }
+
+    @Nullable
+    private static String findDiscriminator(BsonReader reader, String discriminatorKey, int fields) {
+        BsonReaderMark mark = reader.getMark();
+        try {
+            reader.readStartDocument();
+            int inspected = 0;
+            while (inspected++ < fields && reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (discriminatorKey.equals(reader.readName())) {
+                    return reader.readString();
+                }
+                reader.skipValue();
+            }
+            return null;
+        } finally {
+            mark.reset();
+        }
+    }
+
     protected MorphiaInstanceCreator getInstanceCreator() {
         return classModel.getInstanceCreator();
     }
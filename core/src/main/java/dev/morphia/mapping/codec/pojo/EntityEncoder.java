@@ -42,21 +42,19 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
         if (areEquivalentTypes(value.getClass(), model.getType())) {
-            LOG.debug(format("Encoding document using codec for %s'", morphiaCodec.getEntityModel().getType().getName()));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(format("Encoding document using codec for %s'", model.getType().getName()));
+            }
+            EntityPlan plan = model.plan();
 
             document(writer, () -> {
+                encodeIdProperty(writer, value, encoderContext, plan.idProperty());
 
-                PropertyModel idModel = model.getIdProperty();
-                encodeIdProperty(writer, value, encoderContext, idModel);
-
-                if (model.useDiscriminator()) {
+                if (plan.useDiscriminator()) {
                     encodeDiscriminator(writer, model);
                 }
 
-                for (PropertyModel propertyModel : model.getProperties()) {
-                    if (propertyModel.equals(idModel)) {
-                        continue;
-                    }
+                for (PropertyModel propertyModel : plan.properties()) {
                     encodeProperty(writer, propertyModel, value, encoderContext);
                 }
             });
@@ -113,6 +111,14 @@ public class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     }
 
     protected void encodeValue(BsonWriter writer, EncoderContext encoderContext, PropertyModel model, @Nullable Object value) {
+        if (value instanceof LazyProxy lazy) {
+            if (!lazy.isFetched()) {
+                writer.writeName(model.getMappedName());
+                lazy.writeRaw(writer);
+                return;
+            }
+            value = lazy.unwrap();
+        }
         if (model.shouldSerialize(value)) {
             writeValue(writer, encoderContext, model, value);
         }
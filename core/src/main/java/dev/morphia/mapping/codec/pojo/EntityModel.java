@@ -17,8 +17,10 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.mongodb.lang.NonNull;
 import com.mongodb.lang.Nullable;
@@ -48,6 +50,7 @@ import dev.morphia.mapping.conventions.MorphiaDefaultsConvention;
 import dev.morphia.mapping.lifecycle.EntityListenerAdapter;
 import dev.morphia.mapping.lifecycle.OnEntityListenerAdapter;
 import dev.morphia.mapping.lifecycle.UntypedEntityListenerAdapter;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.sofia.Sofia;
 
 import org.bson.Document;
@@ -92,6 +95,9 @@ public class EntityModel {
     private PropertyModel versionProperty;
     private final List<EntityListener<?>> listeners = new ArrayList<>();
     private final Set<Class<?>> classes = new LinkedHashSet<>();
+    private final Map<Class<? extends Annotation>, Boolean> documentUse = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile EntityPlan plan;
 
     public EntityModel(Class<?> type) {
         if (!Modifier.isStatic(type.getModifiers()) && type.isMemberClass()) {
@@ -138,7 +144,9 @@ public class EntityModel {
         }
 
         this.collectionName = other.collectionName;
-        creatorFactory = new InstanceCreatorFactoryImpl(this);
+        creatorFactory = other.creatorFactory instanceof InstanceCreatorFactoryImpl || other.creatorFactory == null
+                ? new InstanceCreatorFactoryImpl(this)
+                : other.creatorFactory;
 
         PropertyModel otherId = other.idProperty;
         idProperty = otherId != null ? getProperty(otherId.getName()) : null;
@@ -166,6 +174,7 @@ public class EntityModel {
     public boolean addProperty(PropertyModel property) {
         var added = propertyModelsByName.putIfAbsent(property.getName(), property) == null;
         added &= propertyModelsByMappedName.put(property.getMappedName(), property) == null;
+        invalidatePlan();
 
         return added;
     }
@@ -185,13 +194,22 @@ public class EntityModel {
     @SuppressWarnings("rawtypes")
     public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, Document document,
             MorphiaDatastore datastore) {
+        List<EntityListener<?>> global = datastore.getMapper().getListeners();
+        if (listeners.isEmpty() && global.isEmpty()) {
+            return;
+        }
+        MorphiaMetrics metrics = datastore.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0;
         listeners.forEach((listener) -> {
             invokeLifecycleEvent(event, entity, document, datastore, listener);
         });
-        datastore.getMapper().getListeners().forEach((listener) -> {
+        global.forEach((listener) -> {
             LOG.debug(Sofia.callingInterceptorMethod(event.getSimpleName(), listener));
             invokeLifecycleEvent(event, entity, document, datastore, listener);
         });
+        if (metrics.isEnabled()) {
+            metrics.lifecycle(entity.getClass(), event, System.nanoTime() - start);
+        }
     }
 
     public Set<Class<?>> classHierarchy() {
@@ -200,15 +218,18 @@ public class EntityModel {
 
     public void discriminator(String discriminator) {
         this.discriminator = discriminator;
+        invalidatePlan();
     }
 
     public EntityModel discriminatorKey(String discriminatorKey) {
         this.discriminatorKey = discriminatorKey;
+        invalidatePlan();
         return this;
     }
 
     public EntityModel discriminatorEnabled(boolean discriminatorEnabled) {
         this.discriminatorEnabled = discriminatorEnabled;
+        invalidatePlan();
         return this;
     }
 
@@ -289,6 +310,7 @@ public class EntityModel {
     @Nullable
     public void setIdProperty(PropertyModel model) {
         idProperty = model;
+        invalidatePlan();
     }
 
     /**
@@ -298,6 +320,18 @@ public class EntityModel {
         return creatorFactory.create();
     }
 
+    /**
+     * Replaces the factory used to create new instances of this type. This is used by generated code to avoid reflective instantiation.
+     *
+     * @param factory the factory to use
+     * @return this
+     * @since 3.0
+     */
+    public EntityModel instanceCreatorFactory(InstanceCreatorFactory factory) {
+        this.creatorFactory = factory;
+        return this;
+    }
+
     /**
      * @return the name of this model
      */
@@ -332,7 +366,33 @@ public class EntityModel {
      */
     @Nullable
     public PropertyModel getProperty(@Nullable String name) {
-        return name != null ? propertyModelsByMappedName.getOrDefault(name, propertyModelsByName.get(name)) : null;
+        if (name == null) {
+            return null;
+        }
+        PropertyModel model = propertyModelsByMappedName.get(name);
+        return model != null ? model : propertyModelsByName.get(name);
+    }
+
+    /**
+     * Gets the plan used to encode and decode this type. The plan is built on first use and rebuilt if the model changes afterward.
+     *
+     * @return the plan
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public EntityPlan plan() {
+        EntityPlan current = plan;
+        if (current == null) {
+            current = new EntityPlan(this, propertyModelsByName, propertyModelsByMappedName);
+            plan = current;
+        }
+        return current;
+    }
+
+    void invalidatePlan() {
+        plan = null;
     }
 
     @Nullable
@@ -414,6 +474,36 @@ public class EntityModel {
                 .anyMatch(listener -> listener.hasAnnotation(type));
     }
 
+    /**
+     * Determines if any listener for the given event might read or modify the document passed to it. Listeners implementing
+     * {@link EntityListener} directly are assumed to do so for any event they handle. The answer is computed once per event and kept
+     * until the global listeners change.
+     *
+     * @param type      the lifecycle event type
+     * @param datastore the datastore whose global listeners should be considered
+     * @return true if the event needs the document form of the entity
+     * @since 3.0
+     */
+    public boolean usesDocument(Class<? extends Annotation> type, MorphiaDatastore datastore) {
+        return documentUse.computeIfAbsent(type,
+                event -> Stream.concat(listeners.stream(), datastore.getMapper().getListeners().stream())
+                        .anyMatch(listener -> listener instanceof EntityListenerAdapter adapter
+                                ? adapter.usesDocument(event)
+                                : listener.hasAnnotation(event)));
+    }
+
+    /**
+     * Clears what has been computed from the listeners of this model so it is recomputed for the current set of global listeners.
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void listenersUpdated() {
+        documentUse.clear();
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(annotations, propertyModelsByName, propertyModelsByMappedName, creatorFactory,
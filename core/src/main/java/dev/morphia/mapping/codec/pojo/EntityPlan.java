@@ -0,0 +1,98 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * An immutable snapshot of what encoding and decoding an entity needs from its model. It is built once per model, when first used after
+ * the model last changed, rather than being derived from the model for every document.
+ *
+ * @hidden
+ * @morphia.internal
+ * @see EntityModel#plan()
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class EntityPlan {
+    @Nullable
+    private final PropertyModel idProperty;
+    private final PropertyModel[] properties;
+    private final Map<String, PropertyModel> lookup;
+    private final boolean useDiscriminator;
+    private final String discriminatorKey;
+    private final String discriminator;
+
+    EntityPlan(EntityModel model, Map<String, PropertyModel> byName, Map<String, PropertyModel> byMappedName) {
+        idProperty = model.getIdProperty();
+        properties = byName.values().stream()
+                .filter(property -> property != idProperty)
+                .toArray(PropertyModel[]::new);
+        lookup = new HashMap<>(byName);
+        lookup.putAll(byMappedName);
+        useDiscriminator = model.useDiscriminator();
+        discriminatorKey = model.discriminatorKey();
+        discriminator = model.discriminator();
+    }
+
+    /**
+     * @return the id property or null if the type has none
+     */
+    @Nullable
+    public PropertyModel idProperty() {
+        return idProperty;
+    }
+
+    /**
+     * @return the properties other than the id in the order they are written. The array is shared and must not be modified.
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP")
+    public PropertyModel[] properties() {
+        return properties;
+    }
+
+    /**
+     * Finds a property by any of the names it might be stored under, preferring mapped and alternate names over Java names.
+     *
+     * @param name the name read from a document
+     * @return the property or null if none matches
+     */
+    @Nullable
+    public PropertyModel property(String name) {
+        return lookup.get(name);
+    }
+
+    /**
+     * @param name the name read from a document
+     * @return true if the name is this type's discriminator key and discriminators are in use
+     */
+    public boolean isDiscriminator(String name) {
+        return useDiscriminator && discriminatorKey.equals(name);
+    }
+
+    /**
+     * @return true if the discriminator is written
+     */
+    public boolean useDiscriminator() {
+        return useDiscriminator;
+    }
+
+    /**
+     * @return the discriminator key
+     */
+    public String discriminatorKey() {
+        return discriminatorKey;
+    }
+
+    /**
+     * @return the discriminator value
+     */
+    public String discriminator() {
+        return discriminator;
+    }
+}
@@ -0,0 +1,23 @@
+package dev.morphia.mapping.codec.pojo;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+
+import org.bson.BsonWriter;
+
+/**
+ * A proxy for a property annotated with {@link dev.morphia.annotations.Lazy} which has yet to be decoded.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public interface LazyProxy extends MorphiaProxy {
+    /**
+     * Writes the value as it was read. This must only be called while the value has not been fetched.
+     *
+     * @param writer the writer to use
+     */
+    void writeRaw(BsonWriter writer);
+}
@@ -0,0 +1,166 @@
+package dev.morphia.mapping.codec.pojo;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.function.Function;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.codec.references.ProxyInstantiator;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.TypeCache;
+import net.bytebuddy.TypeCache.Sort;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import static dev.morphia.mapping.codec.CodecHelper.copyValue;
+
+/**
+ * Holds the undecoded bytes of a property annotated with {@link dev.morphia.annotations.Lazy} and decodes them the first time the
+ * property's proxy is used.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class LazyValue implements LazyProxy, InvocationHandler {
+    private static final String VALUE = "v";
+    private static final TypeCache<TypeCache.SimpleKey> TYPE_CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
+
+    private final Function<BsonReader, Object> decoder;
+    @Nullable
+    private RawBsonDocument raw;
+    @Nullable
+    private Object value;
+
+    private LazyValue(RawBsonDocument raw, Function<BsonReader, Object> decoder) {
+        this.raw = raw;
+        this.decoder = decoder;
+    }
+
+    /**
+     * Copies the current value of the reader and wraps it in a proxy of the given type which decodes it when first used.
+     *
+     * @param type    the property type
+     * @param reader  the reader positioned at the value
+     * @param decoder decodes the value from a reader positioned at it
+     * @param <T>     the property type
+     * @return the proxy
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T proxy(Class<T> type, BsonReader reader, Function<BsonReader, Object> decoder) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.writeStartDocument();
+            writer.writeName(VALUE);
+            copyValue(reader, writer);
+            writer.writeEndDocument();
+        }
+        LazyValue handler = new LazyValue(new RawBsonDocument(buffer.toByteArray()), decoder);
+        try {
+            Class<? extends T> proxyClass = (Class<? extends T>) TYPE_CACHE.findOrInsert(type.getClassLoader(),
+                    new TypeCache.SimpleKey(type, List.of(LazyProxy.class)), () -> makeProxy(type), TYPE_CACHE);
+            return ProxyInstantiator.newProxy(proxyClass, handler);
+        } catch (IllegalArgumentException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @param type the property type
+     * @return true if a proxy can be made for the type
+     */
+    public static boolean supports(Class<?> type) {
+        int modifiers = type.getModifiers();
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || Modifier.isFinal(modifiers) || !Modifier.isPublic(modifiers)) {
+            return false;
+        }
+        if (type.isInterface()) {
+            return true;
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            return !Modifier.isPrivate(constructor.getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Class<?> makeProxy(Class<?> type) {
+        return new ByteBuddy()
+                .subclass(type)
+                .implement(LazyProxy.class)
+                .method(ElementMatchers.isPublic())
+                .intercept(InvocationHandlerAdapter.toField(ProxyInstantiator.HANDLER_FIELD))
+                .defineField(ProxyInstantiator.HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE)
+                .make()
+                .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
+                .getLoaded();
+    }
+
+    @Override
+    @Nullable
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (declaringClass.equals(MorphiaProxy.class) || declaringClass.equals(LazyProxy.class)) {
+            return method.invoke(this, args);
+        }
+        try {
+            return method.invoke(unwrap(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public synchronized boolean isFetched() {
+        return raw == null;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T unwrap() {
+        if (raw != null) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+                reader.readStartDocument();
+                reader.readBsonType();
+                reader.skipName();
+                value = decoder.apply(reader);
+            }
+            raw = null;
+        }
+        return (T) value;
+    }
+
+    @Override
+    public synchronized void writeRaw(BsonWriter writer) {
+        if (raw == null) {
+            throw new IllegalStateException("The value has already been decoded");
+        }
+        try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            reader.readBsonType();
+            reader.skipName();
+            copyValue(reader, writer);
+        }
+    }
+}
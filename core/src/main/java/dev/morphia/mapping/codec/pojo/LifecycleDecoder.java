@@ -1,5 +1,8 @@
 package dev.morphia.mapping.codec.pojo;
 
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.internal.MorphiaInternal;
@@ -15,6 +18,9 @@ import org.bson.codecs.configuration.CodecConfigurationException;
 import static java.lang.String.format;
 
 /**
+ * Decodes entities with lifecycle events. The document form of an entity is only materialized when a listener for a load event takes
+ * the document as a parameter. Otherwise, the entity is read directly from the {@link BsonReader}.
+ *
  * @param <T> the type
  * @hidden
  * @morphia.internal
@@ -34,28 +40,40 @@ public class LifecycleDecoder<T> extends EntityDecoder<T> {
     @Override
     @SuppressWarnings("unchecked")
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
+        MorphiaDatastore datastore = getMorphiaCodec().getDatastore();
         EntityModel model = getMorphiaCodec().getEntityModel();
         if (model.useDiscriminator()) {
-            String discriminator = document.getString(model.discriminatorKey());
-            if (discriminator != null) {
-                Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator);
-                // need to load the codec to initialize cachedCodecs in field models
-                Codec<?> codec = getMorphiaCodec().getRegistry().get(discriminatorClass);
-                if (codec instanceof MorphiaCodec) {
-                    model = ((MorphiaCodec<?>) codec).getEntityModel();
-                } else {
-                    throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.", discriminator));
-                }
-            }
+            model = discriminatedModel(model, findDiscriminator(reader, model.discriminatorKey()));
         }
         final MorphiaInstanceCreator instanceCreator = model.getInstanceCreator();
         T entity = (T) instanceCreator.getInstance();
-        model.callLifecycleMethods(PreLoad.class, entity, document, getMorphiaCodec().getDatastore());
-        decodeProperties(new DocumentReader(document), decoderContext, instanceCreator, model);
-        model.callLifecycleMethods(PostLoad.class, entity, document, getMorphiaCodec().getDatastore());
+        if (model.usesDocument(PreLoad.class, datastore) || model.usesDocument(PostLoad.class, datastore)) {
+            Document document = getMorphiaCodec().getRegistry().get(Document.class).decode(reader, decoderContext);
+            model.callLifecycleMethods(PreLoad.class, entity, document, datastore);
+            decodeProperties(new DocumentReader(document), decoderContext, instanceCreator, model);
+            model.callLifecycleMethods(PostLoad.class, entity, document, datastore);
+        } else {
+            Document unused = new Document();
+            model.callLifecycleMethods(PreLoad.class, entity, unused, datastore);
+            decodeProperties(reader, decoderContext, instanceCreator, model);
+            model.callLifecycleMethods(PostLoad.class, entity, unused, datastore);
+        }
 
         return entity;
     }
 
+    private EntityModel discriminatedModel(EntityModel model, @Nullable String discriminator) {
+        if (discriminator == null) {
+            return model;
+        }
+        Class<?> discriminatorClass = getMorphiaCodec().getDiscriminatorLookup().lookup(discriminator);
+        // need to load the codec to initialize cachedCodecs in field models
+        Codec<?> codec = getMorphiaCodec().getRegistry().get(discriminatorClass);
+        if (codec instanceof MorphiaCodec) {
+            return ((MorphiaCodec<?>) codec).getEntityModel();
+        } else {
+            throw new CodecConfigurationException(format("Non-entity class used as discriminator: '%s'.", discriminator));
+        }
+    }
+
 }
@@ -11,6 +11,9 @@ import org.bson.Document;
 import org.bson.codecs.EncoderContext;
 
 /**
+ * Encodes entities with lifecycle events. The entity is written directly to the {@link BsonWriter} unless a {@link PrePersist} listener
+ * adds to the document or a {@link PostPersist} listener takes the document as a parameter.
+ *
  * @param <T> the entity type
  * @hidden
  * @morphia.internal
@@ -35,12 +38,17 @@ public class LifecycleEncoder<T> extends EntityEncoder<T> {
         Document document = new Document();
         model.callLifecycleMethods(PrePersist.class, value, document, datastore);
 
-        final DocumentWriter documentWriter = new DocumentWriter(datastore.getMapper().getConfig(), document);
-        super.encode(documentWriter, value, encoderContext);
-        document = documentWriter.getDocument();
-        model.callLifecycleMethods(PostPersist.class, value, document, datastore);
-
-        getMorphiaCodec().getRegistry().get(Document.class).encode(writer, document, encoderContext);
+        if (document.isEmpty() && !model.usesDocument(PostPersist.class, datastore)) {
+            super.encode(writer, value, encoderContext);
+            model.callLifecycleMethods(PostPersist.class, value, document, datastore);
+        } else {
+            final DocumentWriter documentWriter = new DocumentWriter(datastore.getMapper().getConfig(), document);
+            super.encode(documentWriter, value, encoderContext);
+            document = documentWriter.getDocument();
+            model.callLifecycleMethods(PostPersist.class, value, document, datastore);
+
+            getMorphiaCodec().getRegistry().get(Document.class).encode(writer, document, encoderContext);
+        }
     }
 
 }
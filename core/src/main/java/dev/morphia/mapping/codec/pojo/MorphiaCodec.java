@@ -7,8 +7,11 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.PropertyCodecRegistryImpl;
+import dev.morphia.metrics.MorphiaMetrics;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonReader;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
@@ -39,14 +42,18 @@ import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 @SuppressWarnings("unchecked")
 public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private static final Logger LOG = LoggerFactory.getLogger(MorphiaCodec.class);
+    /**
+     * How deeply nested the current thread is in entity codecs. Only the outermost entity is measured since the others are part of it.
+     */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
 
     private final PropertyModel idProperty;
     private final EntityModel entityModel;
     private final CodecRegistry registry;
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
-    private EntityEncoder<T> encoder;
-    private EntityDecoder<T> decoder;
+    private volatile EntityEncoder<T> encoder;
+    private volatile EntityDecoder<T> decoder;
     private MorphiaDatastore datastore;
 
     /**
@@ -73,12 +80,53 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
 
     @Override
     public T decode(BsonReader reader, DecoderContext decoderContext) {
-        return getDecoder().decode(reader, decoderContext);
+        MorphiaMetrics metrics = datastore.getMetrics();
+        if (!metrics.isEnabled()) {
+            return getDecoder().decode(reader, decoderContext);
+        }
+        int[] depth = DEPTH.get();
+        long start = depth[0] == 0 ? System.nanoTime() : 0;
+        long position = depth[0] == 0 ? position(reader) : -1;
+        depth[0]++;
+        T entity;
+        try {
+            entity = getDecoder().decode(reader, decoderContext);
+        } finally {
+            depth[0]--;
+        }
+        if (depth[0] == 0) {
+            metrics.decoded(entity.getClass(), System.nanoTime() - start, position != -1 ? position(reader) - position : -1);
+        }
+        return entity;
     }
 
     @Override
     public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
-        getEncoder().encode(writer, value, encoderContext);
+        MorphiaMetrics metrics = datastore.getMetrics();
+        if (!metrics.isEnabled()) {
+            getEncoder().encode(writer, value, encoderContext);
+            return;
+        }
+        int[] depth = DEPTH.get();
+        long start = depth[0] == 0 ? System.nanoTime() : 0;
+        long position = depth[0] == 0 ? position(writer) : -1;
+        depth[0]++;
+        try {
+            getEncoder().encode(writer, value, encoderContext);
+        } finally {
+            depth[0]--;
+        }
+        if (depth[0] == 0) {
+            metrics.encoded(value.getClass(), System.nanoTime() - start, position != -1 ? position(writer) - position : -1);
+        }
+    }
+
+    private static long position(BsonReader reader) {
+        return reader instanceof BsonBinaryReader ? ((BsonBinaryReader) reader).getBsonInput().getPosition() : -1;
+    }
+
+    private static long position(BsonWriter writer) {
+        return writer instanceof BsonBinaryWriter ? ((BsonBinaryWriter) writer).getBsonOutput().getPosition() : -1;
     }
 
     @Override
@@ -114,11 +162,12 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     }
 
     /**
-     * @return the datastore
+     * @return the datastore, or the one sharing its codecs whose work this codec is doing
+     * @see MorphiaDatastore#active()
      * @since 2.3
      */
     public MorphiaDatastore getDatastore() {
-        return datastore;
+        return datastore.active();
     }
 
     /**
@@ -167,7 +216,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     /**
      * @return the decoder
      */
-    protected EntityDecoder<T> getDecoder() {
+    public EntityDecoder<T> getDecoder() {
         if (decoder == null) {
             decoder = new EntityDecoder<>(this);
         }
@@ -189,7 +238,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private void specializePropertyCodecs() {
         EntityModel entityModel = getEntityModel();
         for (PropertyModel propertyModel : entityModel.getProperties()) {
-            Codec<?> specializeCodec = propertyModel.specializeCodec(getDatastore());
+            Codec<?> specializeCodec = propertyModel.specializeCodec(datastore);
             Codec codec = specializeCodec != null ? specializeCodec
                     : propertyCodecRegistry.get(propertyModel.getTypeData());
             if (codec != null) {
@@ -35,6 +35,7 @@ import com.mongodb.lang.Nullable;
 import dev.morphia.Datastore;
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.Handler;
+import dev.morphia.annotations.Lazy;
 import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.internal.MorphiaInternal;
@@ -72,6 +73,7 @@ public final class PropertyModel {
     private final EntityModel entityModel;
     private Codec<? super Object> codec;
     private Class<?> normalizedType;
+    private Boolean lazy;
 
     public PropertyModel(EntityModel entityModel) {
         this.entityModel = entityModel;
@@ -88,6 +90,7 @@ public final class PropertyModel {
         loadNames.addAll(other.loadNames);
         serialization = other.serialization;
         normalizedType = other.normalizedType;
+        lazy = other.lazy;
     }
 
     /**
@@ -120,6 +123,7 @@ public final class PropertyModel {
         for (String name : names) {
             entityModel.propertyModelsByMappedName.put(name, this);
         }
+        entityModel.invalidatePlan();
     }
 
     /**
@@ -152,11 +156,13 @@ public final class PropertyModel {
 
     public PropertyModel annotation(Annotation annotation) {
         annotationMap.put(annotation.annotationType(), annotation);
+        lazy = null;
         return this;
     }
 
     public PropertyModel annotations(List<Annotation> annotations) {
         annotations.forEach(ann -> annotationMap.put(ann.annotationType(), ann));
+        lazy = null;
         return this;
     }
 
@@ -263,6 +269,7 @@ public final class PropertyModel {
 
     public PropertyModel typeData(TypeData<?> data) {
         typeData = data;
+        lazy = null;
         return this;
     }
 
@@ -351,6 +358,18 @@ public final class PropertyModel {
         return !isScalarValue();
     }
 
+    /**
+     * @return true if this field is decoded only when first used
+     * @see Lazy
+     * @since 3.0
+     */
+    public boolean isLazy() {
+        if (lazy == null) {
+            lazy = hasAnnotation(Lazy.class) && !isReference() && LazyValue.supports(getType());
+        }
+        return lazy;
+    }
+
     /**
      * @return true if this field is a reference to a foreign document
      * @see Reference
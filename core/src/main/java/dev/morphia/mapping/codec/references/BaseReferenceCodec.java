@@ -38,10 +38,11 @@ public abstract class BaseReferenceCodec<T> implements Codec<T> {
     }
 
     /**
-     * @return the datastore
+     * @return the datastore, or the one sharing its codecs whose work this codec is doing
+     * @see MorphiaDatastore#active()
      */
     public MorphiaDatastore getDatastore() {
-        return datastore;
+        return datastore.active();
     }
 
     /**
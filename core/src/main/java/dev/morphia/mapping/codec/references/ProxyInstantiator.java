@@ -0,0 +1,75 @@
+package dev.morphia.mapping.codec.references;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.MappingException;
+
+/**
+ * Creates instances of generated proxy classes. The constructor and invocation handler field of each proxy class are looked up once, the
+ * first time the class is instantiated, rather than for every proxy.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public final class ProxyInstantiator {
+    /**
+     * The name of the field holding the invocation handler of a proxy
+     */
+    public static final String HANDLER_FIELD = "handler";
+
+    private static final ClassValue<ProxyInstantiator> INSTANTIATORS = new ClassValue<>() {
+        @Override
+        protected ProxyInstantiator computeValue(Class<?> type) {
+            return new ProxyInstantiator(type);
+        }
+    };
+
+    private final MethodHandle constructor;
+    private final MethodHandle handler;
+
+    private ProxyInstantiator(Class<?> proxyClass) {
+        try {
+            Constructor<?> declaredConstructor = proxyClass.getDeclaredConstructor();
+            declaredConstructor.setAccessible(true);
+            Field field = proxyClass.getDeclaredField(HANDLER_FIELD);
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            constructor = lookup.unreflectConstructor(declaredConstructor);
+            handler = lookup.unreflectSetter(field);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a proxy.
+     *
+     * @param proxyClass the generated proxy class. It must have a no-arg constructor and an {@link InvocationHandler} field named
+     *                   {@value #HANDLER_FIELD}.
+     * @param handler    the handler the proxy delegates to
+     * @param <T>        the proxy type
+     * @return the new proxy
+     */
+    public static <T> T newProxy(Class<T> proxyClass, InvocationHandler handler) {
+        return proxyClass.cast(INSTANTIATORS.get(proxyClass).create(handler));
+    }
+
+    private Object create(InvocationHandler invocationHandler) {
+        try {
+            Object proxy = constructor.invoke();
+            handler.invoke(proxy, invocationHandler);
+            return proxy;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package dev.morphia.mapping.codec.references;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.experimental.SingleReference;
+import dev.morphia.metrics.MorphiaMetrics;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+
+import static dev.morphia.query.filters.Filters.in;
+
+/**
+ * Holds the entities referenced by a batch of query results. They are loaded with one query per referenced collection before the batch
+ * is decoded, so that eager references can be resolved without a query per reference. References not found in the batch are resolved
+ * as usual. Entities referenced more than once in a batch share a single instance.
+ * <p>
+ * Lazy references decoded with the batch are grouped by the collection they refer to instead. The first reference of a group to be used
+ * loads the entities of every unresolved reference in its group with one query.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+@SuppressWarnings("removal")
+public final class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final MorphiaDatastore datastore;
+    private final Map<String, Map<BsonValue, Object>> entities = new HashMap<>();
+    private final Map<String, LazyGroup> lazy = new HashMap<>();
+
+    private ReferenceBatch(MorphiaDatastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * @return the batch being decoded on the current thread, if any
+     */
+    @Nullable
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Loads the entities referenced by the eager references in the given documents. The elements of list, set and array references are
+     * loaded with those of single valued references. Map valued references are not.
+     *
+     * @param datastore the datastore to use
+     * @param model     the model of the documents
+     * @param documents the documents to scan
+     * @return the loaded batch
+     */
+    public static ReferenceBatch load(MorphiaDatastore datastore, EntityModel model, List<? extends BsonDocument> documents) {
+        Mapper mapper = datastore.getMapper();
+        List<PropertyModel> references = new ArrayList<>();
+        for (PropertyModel property : model.getProperties()) {
+            Reference reference = property.getAnnotation(Reference.class);
+            if (reference != null && !reference.lazy() && !property.isMap()) {
+                references.add(property);
+            }
+        }
+
+        Map<String, Class<?>> types = new HashMap<>();
+        Map<String, Set<BsonValue>> ids = new LinkedHashMap<>();
+        for (BsonDocument document : documents) {
+            for (PropertyModel property : references) {
+                BsonValue value = document.get(property.getMappedName());
+                if (value == null || value.isNull()) {
+                    continue;
+                }
+                if (value.isArray()) {
+                    for (BsonValue element : value.asArray()) {
+                        collect(mapper, property, element, types, ids);
+                    }
+                } else {
+                    collect(mapper, property, value, types, ids);
+                }
+            }
+        }
+
+        ReferenceBatch batch = new ReferenceBatch(datastore);
+        MorphiaMetrics metrics = datastore.getMetrics();
+        ids.forEach((collection, values) -> {
+            Map<BsonValue, Object> loaded = batch.entities.computeIfAbsent(collection, k -> new HashMap<>());
+            long start = System.nanoTime();
+            List<?> entities = datastore.find(types.get(collection))
+                    .filter(in("_id", values))
+                    .iterator()
+                    .toList();
+            if (metrics.isEnabled()) {
+                metrics.referencesFetched(types.get(collection), entities.size(), System.nanoTime() - start);
+            }
+            for (Object entity : entities) {
+                BsonValue id = key(datastore, mapper.getId(entity));
+                if (id != null) {
+                    loaded.put(id, entity);
+                }
+            }
+        });
+        return batch;
+    }
+
+    private static void collect(Mapper mapper, PropertyModel property, BsonValue value, Map<String, Class<?>> types,
+            Map<String, Set<BsonValue>> ids) {
+        if (value.isDocument()) {
+            BsonDocument dbRef = value.asDocument();
+            if (dbRef.isString("$ref") && dbRef.containsKey("$id")) {
+                String collection = dbRef.getString("$ref").getValue();
+                List<EntityModel> mapped = mapper.getClassesMappedToCollection(collection);
+                if (!mapped.isEmpty()) {
+                    types.putIfAbsent(collection, mapped.get(0).getType());
+                    ids.computeIfAbsent(collection, k -> new LinkedHashSet<>()).add(dbRef.get("$id"));
+                }
+            }
+        } else if (!value.isArray()) {
+            EntityModel target = mapper.getEntityModel(property.getNormalizedType());
+            if (target != null) {
+                types.putIfAbsent(target.collectionName(), target.getType());
+                ids.computeIfAbsent(target.collectionName(), k -> new LinkedHashSet<>()).add(value);
+            }
+        }
+    }
+
+    /**
+     * Runs the action with this batch available to reference codecs on the current thread.
+     *
+     * @param action the action to run
+     */
+    public void apply(Runnable action) {
+        ReferenceBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Adds a lazy reference to the group of its collection.
+     *
+     * @param datastore  the datastore to load with
+     * @param type       the type to query for the referenced entity
+     * @param collection the collection of the referenced entity
+     * @param reference  the reference
+     */
+    public void defer(MorphiaDatastore datastore, Class<?> type, String collection, SingleReference<?> reference) {
+        LazyGroup group = lazy.computeIfAbsent(collection, k -> new LazyGroup(datastore, type));
+        group.references.add(reference);
+        reference.group(group);
+    }
+
+    /**
+     * @param collection the collection of the referenced entity
+     * @param id         the ID of the referenced entity
+     * @return the entity if it was loaded with this batch
+     */
+    @Nullable
+    public Object get(String collection, Object id) {
+        Map<BsonValue, Object> loaded = entities.get(collection);
+        return loaded != null ? loaded.get(key(datastore, id)) : null;
+    }
+
+    /**
+     * Converts an ID to the BSON it is stored as. The IDs of loaded entities and those decoded from references are both keyed this way
+     * so that they compare equal regardless of the Java types they were read as.
+     */
+    @Nullable
+    private static BsonValue key(MorphiaDatastore datastore, @Nullable Object id) {
+        if (id == null || id instanceof BsonValue) {
+            return (BsonValue) id;
+        }
+        return new Document("_id", id)
+                .toBsonDocument(BsonDocument.class, datastore.getCodecRegistry())
+                .get("_id");
+    }
+
+    /**
+     * The lazy references of a batch to the same collection.
+     *
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public static final class LazyGroup {
+        private final MorphiaDatastore datastore;
+        private final Class<?> type;
+        private final List<SingleReference<?>> references = new ArrayList<>();
+        private boolean loaded;
+
+        private LazyGroup(MorphiaDatastore datastore, Class<?> type) {
+            this.datastore = datastore;
+            this.type = type;
+        }
+
+        /**
+         * Loads the entities of every unresolved reference in the group. This is only done once, by the first reference used, and
+         * references whose entities were not found are left to resolve themselves.
+         */
+        public synchronized void load() {
+            if (loaded) {
+                return;
+            }
+            loaded = true;
+            Set<Object> ids = new LinkedHashSet<>();
+            for (SingleReference<?> reference : references) {
+                if (!reference.isResolved()) {
+                    ids.addAll(reference.getIds());
+                }
+            }
+            if (!ids.isEmpty()) {
+                long start = System.nanoTime();
+                List<?> found = datastore.find(type)
+                        .filter(in("_id", ids))
+                        .iterator()
+                        .toList();
+                MorphiaMetrics metrics = datastore.getMetrics();
+                if (metrics.isEnabled()) {
+                    metrics.referencesFetched(type, found.size(), System.nanoTime() - start);
+                }
+                Map<BsonValue, Object> byId = new HashMap<>();
+                for (Object entity : found) {
+                    BsonValue id = key(datastore, datastore.getMapper().getId(entity));
+                    if (id != null) {
+                        byId.put(id, entity);
+                    }
+                }
+                for (SingleReference<?> reference : references) {
+                    Object entity = byId.get(key(datastore, reference.getIds().get(0)));
+                    if (entity != null) {
+                        reference.loaded(entity);
+                    }
+                }
+            }
+            references.clear();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package dev.morphia.mapping.codec.references;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -72,15 +71,10 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
     private final Mapper mapper;
 
-    /**
-     * Name of instance field that holds the invocation handler of the proxy object.
-     */
-    private static final String FIELD_INVOCATION_HANDLER = "handler";
     /**
      * Type-cache for proxy classes generated w/ Byte Buddy.
      */
     private final TypeCache<TypeCache.SimpleKey> typeCache = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
-    private MorphiaDatastore datastore;
 
     /**
      * Creates a codec
@@ -90,7 +84,6 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
      */
     public ReferenceCodec(MorphiaDatastore datastore, PropertyModel propertyModel) {
         super(datastore, propertyModel);
-        this.datastore = datastore;
         this.mapper = datastore.getMapper();
         annotation = getReferenceAnnotation(propertyModel);
     }
@@ -261,14 +254,8 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
             Class<?> type = propertyModel.getType();
             // Get or create proxy class
             Class<T> proxyClass = (Class<T>) typeCache.findOrInsert(type.getClassLoader(), getCacheKey(type), this::makeProxy, typeCache);
-            //... instantiate it
-            final T proxy = proxyClass.getDeclaredConstructor().newInstance();
-            // .. and set the invocation handler
-            final Field field = proxyClass.getDeclaredField(FIELD_INVOCATION_HANDLER);
-            field.setAccessible(true);
-            field.set(proxy, referenceProxy);
-            return proxy;
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
+            return ProxyInstantiator.newProxy(proxyClass, referenceProxy);
+        } catch (IllegalArgumentException e) {
             throw new MappingException(e.getMessage(), e);
         }
     }
@@ -318,8 +305,8 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
 
         return (Class<T>) builder
                 .invokable(matcher.or(ElementMatchers.isDeclaredBy(MorphiaProxy.class)))
-                .intercept(InvocationHandlerAdapter.toField(FIELD_INVOCATION_HANDLER))
-                .defineField(FIELD_INVOCATION_HANDLER, InvocationHandler.class, Visibility.PRIVATE)
+                .intercept(InvocationHandlerAdapter.toField(ProxyInstantiator.HANDLER_FIELD))
+                .defineField(ProxyInstantiator.HANDLER_FIELD, InvocationHandler.class, Visibility.PRIVATE)
                 .make()
                 .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
                 .getLoaded();
@@ -327,6 +314,12 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
 
     @Nullable
     private Object fetch(Object value) {
+        if (!annotation.lazy()) {
+            Object batched = fromBatch(value);
+            if (batched != null) {
+                return batched;
+            }
+        }
         MorphiaReference<?> reference;
         final Class<?> type = getPropertyModel().getType();
         if (List.class.isAssignableFrom(type)) {
@@ -343,8 +336,71 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
             reference = readSingle(value);
         }
         reference.ignoreMissing(annotation.ignoreMissing());
+        if (!annotation.lazy()) {
+            return reference.get();
+        }
+        if (reference instanceof SingleReference && !reference.isResolved()) {
+            deferToBatch(value, (SingleReference<?>) reference);
+        }
+        return createProxy(reference);
+    }
+
+    /**
+     * Groups a lazy reference with the others to the same collection decoded in the current batch, if any, so that they are loaded
+     * together.
+     */
+    private void deferToBatch(Object value, SingleReference<?> reference) {
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch == null || !getPropertyModel().isScalarValue()) {
+            return;
+        }
+        if (value instanceof DBRef) {
+            String collection = ((DBRef) value).getCollectionName();
+            batch.defer(getDatastore(), mapper.getClassFromCollection(collection), collection, reference);
+        } else {
+            EntityModel model = getEntityModelForField();
+            batch.defer(getDatastore(), model.getType(), model.collectionName(), reference);
+        }
+    }
 
-        return !annotation.lazy() ? reference.get() : createProxy(reference);
+    @Nullable
+    private Object fromBatch(Object value) {
+        ReferenceBatch batch = ReferenceBatch.current();
+        PropertyModel property = getPropertyModel();
+        if (batch == null || property.isMap()) {
+            return null;
+        }
+        if (property.isScalarValue()) {
+            return fromBatch(batch, value);
+        }
+        if (!(value instanceof List) || ((List<?>) value).isEmpty()) {
+            return null;
+        }
+        List<Object> entities = new ArrayList<>();
+        for (Object id : (List<?>) value) {
+            Object entity = fromBatch(batch, id);
+            if (entity == null) {
+                return null;
+            }
+            entities.add(entity);
+        }
+        MorphiaReference<?> reference = Set.class.isAssignableFrom(property.getType())
+                ? new SetReference<>(getDatastore(), new LinkedHashSet<>(entities))
+                : new ListReference<>(getDatastore(), entities);
+        return reference.get();
+    }
+
+    @Nullable
+    private Object fromBatch(ReferenceBatch batch, Object value) {
+        if (value instanceof DBRef) {
+            DBRef ref = (DBRef) value;
+            return batch.get(ref.getCollectionName(), ref.getId());
+        }
+        EntityModel model = getEntityModelForField();
+        if (value instanceof Document || value instanceof List || model.getType().isInstance(value)) {
+            return null;
+        }
+        return batch.get(model.collectionName(), value);
     }
 
     private List<?> mapToEntitiesIfNecessary(List<?> value) {
@@ -364,8 +420,8 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
     MorphiaReference<?> readList(List<?> value) {
         List<?> mapped = mapToEntitiesIfNecessary(value);
         return mapped.isEmpty()
-                ? new ListReference<>(datastore, getEntityModelForField(), value)
-                : new ListReference<>(datastore, mapped);
+                ? new ListReference<>(getDatastore(), getEntityModelForField(), value)
+                : new ListReference<>(getDatastore(), mapped);
     }
 
     MorphiaReference<?> readMap(Map<Object, Object> value) {
@@ -375,17 +431,17 @@ public class ReferenceCodec extends BaseReferenceCodec<Object> implements Proper
             ids.put(Conversions.convert(entry.getKey(), keyType), entry.getValue());
         }
 
-        return new MapReference(datastore, ids, getEntityModelForField());
+        return new MapReference(getDatastore(), ids, getEntityModelForField());
     }
 
     MorphiaReference<?> readSet(List<?> value) {
         List<?> mapped = mapToEntitiesIfNecessary(value);
         return mapped.isEmpty()
-                ? new SetReference<>(datastore, getEntityModelForField(), value)
-                : new SetReference<>(datastore, new LinkedHashSet<>(mapped));
+                ? new SetReference<>(getDatastore(), getEntityModelForField(), value)
+                : new SetReference<>(getDatastore(), new LinkedHashSet<>(mapped));
     }
 
     MorphiaReference<?> readSingle(Object value) {
-        return new SingleReference<>(datastore, getEntityModelForField(), value);
+        return new SingleReference<>(getDatastore(), getEntityModelForField(), value);
     }
 }
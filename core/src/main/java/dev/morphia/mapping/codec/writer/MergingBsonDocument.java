@@ -0,0 +1,55 @@
+package dev.morphia.mapping.codec.writer;
+
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * A BsonDocument which combines values written more than once under the same name the same way
+ * {@link DocumentState.MergingDocument} does: repeated operators are combined with {@code $and} and repeated documents are merged.
+ *
+ * @morphia.internal
+ * @hidden
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MergingBsonDocument extends BsonDocument {
+    /**
+     * Creates an empty document
+     */
+    public MergingBsonDocument() {
+    }
+
+    /**
+     * Creates a document with a single entry
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public MergingBsonDocument(String key, BsonValue value) {
+        super(key, value);
+    }
+
+    @Override
+    @Nullable
+    public BsonValue put(String key, BsonValue value) {
+        BsonValue current = get(key);
+        if (current != null) {
+            if (key.startsWith("$")) {
+                remove(key);
+                put("$and", new BsonArray(List.of(new MergingBsonDocument(key, current), new MergingBsonDocument(key, value))));
+                return current;
+            } else if (current.isDocument() && value.isDocument()) {
+                current.asDocument().putAll(value.asDocument());
+                return current;
+            }
+        }
+        return super.put(key, value);
+    }
+}
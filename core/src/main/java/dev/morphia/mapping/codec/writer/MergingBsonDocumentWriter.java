@@ -0,0 +1,320 @@
+package dev.morphia.mapping.codec.writer;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.mapping.Mapper;
+
+import org.bson.AbstractBsonWriter;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBoolean;
+import org.bson.BsonContextType;
+import org.bson.BsonDateTime;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonJavaScript;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonMaxKey;
+import org.bson.BsonMinKey;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonSymbol;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.BsonValue;
+import org.bson.BsonWriterSettings;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static dev.morphia.mapping.codec.CodecHelper.document;
+import static dev.morphia.mapping.codec.CodecHelper.value;
+
+/**
+ * Writes straight in to a {@link BsonDocument} which can be handed to the driver as is. Unlike the driver's own
+ * {@link org.bson.BsonDocumentWriter}, every document level is a {@link MergingBsonDocument} so values written repeatedly under the same
+ * name are combined just as {@link DocumentWriter} combines them.
+ *
+ * @morphia.internal
+ * @hidden
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MergingBsonDocumentWriter extends AbstractBsonWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(MergingBsonDocumentWriter.class);
+
+    private final BsonDocument document;
+
+    /**
+     * Creates a writer which writes in to a new document
+     */
+    public MergingBsonDocumentWriter() {
+        this(new MergingBsonDocument());
+    }
+
+    /**
+     * Creates a writer which writes in to the given document. Any existing entries will be merged with the values written.
+     *
+     * @param document the document to write in to
+     */
+    public MergingBsonDocumentWriter(BsonDocument document) {
+        super(new BsonWriterSettings());
+        this.document = document;
+        setContext(new Context());
+    }
+
+    /**
+     * Encodes a value in to a document using its codec. Codecs which rely on {@link DocumentWriter} being more forgiving than a strict
+     * BsonWriter are encoded through a Document instead.
+     *
+     * @param value         the value to encode
+     * @param mapper        the Mapper to use
+     * @param codecRegistry the registry to find the codec in
+     * @return the encoded document
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static BsonDocument encode(Object value, Mapper mapper, CodecRegistry codecRegistry) {
+        try {
+            MergingBsonDocumentWriter writer = new MergingBsonDocumentWriter();
+            Codec codec = codecRegistry.get(value.getClass());
+            codec.encode(writer, value, EncoderContext.builder().build());
+            return writer.getDocument();
+        } catch (BsonInvalidOperationException e) {
+            fallback(value, e);
+            return DocumentWriter.encode(value, mapper, codecRegistry)
+                    .toBsonDocument(BsonDocument.class, codecRegistry);
+        }
+    }
+
+    /**
+     * Encodes a single value using its codec. Values which are already BSON are returned as is.
+     *
+     * @param value         the value to encode
+     * @param mapper        the Mapper to use
+     * @param codecRegistry the registry to find the codec in
+     * @return the encoded value
+     */
+    public static BsonValue encodeValue(@Nullable Object value, Mapper mapper, CodecRegistry codecRegistry) {
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        if (value instanceof BsonValue bsonValue) {
+            return bsonValue;
+        }
+        try {
+            MergingBsonDocumentWriter writer = new MergingBsonDocumentWriter();
+            document(writer, () -> value(codecRegistry, writer, "value", value, EncoderContext.builder().build()));
+            return writer.getDocument().get("value");
+        } catch (BsonInvalidOperationException e) {
+            fallback(value, e);
+            DocumentWriter writer = new DocumentWriter(mapper.getConfig());
+            document(writer, () -> value(codecRegistry, writer, "value", value, EncoderContext.builder().build()));
+            return writer.getDocument()
+                    .toBsonDocument(BsonDocument.class, codecRegistry)
+                    .get("value");
+        }
+    }
+
+    private static void fallback(Object value, BsonInvalidOperationException e) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Could not encode %s directly, encoding it through a Document instead".formatted(value.getClass().getName()), e);
+        }
+    }
+
+    /**
+     * @return the document written
+     */
+    public BsonDocument getDocument() {
+        return document;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    protected Context getContext() {
+        return (Context) super.getContext();
+    }
+
+    @Override
+    protected void doWriteStartDocument() {
+        switch (getState()) {
+            case INITIAL:
+                setContext(new Context(document, BsonContextType.DOCUMENT, getContext()));
+                break;
+            case VALUE:
+                setContext(new Context(new MergingBsonDocument(), BsonContextType.DOCUMENT, getContext()));
+                break;
+            case SCOPE_DOCUMENT:
+                setContext(new Context(new MergingBsonDocument(), BsonContextType.SCOPE_DOCUMENT, getContext()));
+                break;
+            default:
+                throw new BsonInvalidOperationException("Unexpected state " + getState());
+        }
+    }
+
+    @Override
+    protected void doWriteEndDocument() {
+        BsonValue value = getContext().container;
+        setContext(getContext().getParentContext());
+
+        if (getContext().getContextType() == BsonContextType.JAVASCRIPT_WITH_SCOPE) {
+            BsonString code = (BsonString) getContext().container;
+            setContext(getContext().getParentContext());
+            write(new BsonJavaScriptWithScope(code.getValue(), (BsonDocument) value));
+        } else if (getContext().getContextType() != BsonContextType.TOP_LEVEL) {
+            write(value);
+        }
+    }
+
+    @Override
+    protected void doWriteStartArray() {
+        setContext(new Context(new BsonArray(), BsonContextType.ARRAY, getContext()));
+    }
+
+    @Override
+    protected void doWriteEndArray() {
+        BsonValue array = getContext().container;
+        setContext(getContext().getParentContext());
+        write(array);
+    }
+
+    @Override
+    protected void doWriteBinaryData(BsonBinary value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteBoolean(boolean value) {
+        write(BsonBoolean.valueOf(value));
+    }
+
+    @Override
+    protected void doWriteDateTime(long value) {
+        write(new BsonDateTime(value));
+    }
+
+    @Override
+    protected void doWriteDBPointer(BsonDbPointer value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteDouble(double value) {
+        write(new BsonDouble(value));
+    }
+
+    @Override
+    protected void doWriteInt32(int value) {
+        write(new BsonInt32(value));
+    }
+
+    @Override
+    protected void doWriteInt64(long value) {
+        write(new BsonInt64(value));
+    }
+
+    @Override
+    protected void doWriteDecimal128(Decimal128 value) {
+        write(new BsonDecimal128(value));
+    }
+
+    @Override
+    protected void doWriteJavaScript(String value) {
+        write(new BsonJavaScript(value));
+    }
+
+    @Override
+    protected void doWriteJavaScriptWithScope(String value) {
+        setContext(new Context(new BsonString(value), BsonContextType.JAVASCRIPT_WITH_SCOPE, getContext()));
+    }
+
+    @Override
+    protected void doWriteMaxKey() {
+        write(new BsonMaxKey());
+    }
+
+    @Override
+    protected void doWriteMinKey() {
+        write(new BsonMinKey());
+    }
+
+    @Override
+    protected void doWriteNull() {
+        write(BsonNull.VALUE);
+    }
+
+    @Override
+    protected void doWriteObjectId(ObjectId value) {
+        write(new BsonObjectId(value));
+    }
+
+    @Override
+    protected void doWriteRegularExpression(BsonRegularExpression value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteString(String value) {
+        write(new BsonString(value));
+    }
+
+    @Override
+    protected void doWriteSymbol(String value) {
+        write(new BsonSymbol(value));
+    }
+
+    @Override
+    protected void doWriteTimestamp(BsonTimestamp value) {
+        write(value);
+    }
+
+    @Override
+    protected void doWriteUndefined() {
+        write(new BsonUndefined());
+    }
+
+    private void write(BsonValue value) {
+        getContext().add(value);
+    }
+
+    private class Context extends AbstractBsonWriter.Context {
+        private final BsonValue container;
+
+        Context(BsonValue container, BsonContextType contextType, Context parent) {
+            super(parent, contextType);
+            this.container = container;
+        }
+
+        Context() {
+            super(null, BsonContextType.TOP_LEVEL);
+            container = document;
+        }
+
+        @Override
+        public Context getParentContext() {
+            return (Context) super.getParentContext();
+        }
+
+        void add(BsonValue value) {
+            if (container instanceof BsonArray) {
+                ((BsonArray) container).add(value);
+            } else {
+                ((BsonDocument) container).put(getName(), value);
+            }
+        }
+    }
+}
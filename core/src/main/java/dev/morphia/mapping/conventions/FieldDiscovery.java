@@ -17,6 +17,7 @@ import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.Version;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.config.MorphiaConfig;
+import dev.morphia.mapping.AccessorStrategy;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.ArrayFieldAccessor;
@@ -52,7 +53,8 @@ public class FieldDiscovery implements MorphiaConvention {
                                 .typeData(typeData)
                                 .annotations(List.of(field.getDeclaredAnnotations()))
                                 .isFinal(Modifier.isFinal(field.getModifiers()))
-                                .accessor(getAccessor(getTargetField(model, target, field), typeData))
+                                .accessor(getAccessor(getTargetField(model, target, field), typeData,
+                                        mapper.getConfig().accessorStrategy()))
                                 .mappedName(discoverMappedName(mapper, propertyModel)));
                     }
                 }
@@ -101,9 +103,9 @@ public class FieldDiscovery implements MorphiaConvention {
         }
     }
 
-    private PropertyAccessor<? super Object> getAccessor(Field field, TypeData<?> typeData) {
+    private PropertyAccessor<? super Object> getAccessor(Field field, TypeData<?> typeData, AccessorStrategy strategy) {
         return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-                ? new ArrayFieldAccessor(typeData, field)
-                : new FieldAccessor(field);
+                ? new ArrayFieldAccessor(typeData, field, strategy)
+                : new FieldAccessor(field, strategy);
     }
 }
@@ -79,7 +79,7 @@ public class MethodDiscovery implements MorphiaConvention {
                     .typeData(typeData)
                     .annotations(discoverAnnotations(methods.getter, methods.setter))
                     .accessor(new MethodAccessor(getTargetMethod(model, target, methods.getter),
-                            getTargetMethod(model, target, methods.setter)))
+                            getTargetMethod(model, target, methods.setter), mapper.getConfig().accessorStrategy()))
                     .mappedName(discoverMappedName(mapper, propertyModel)));
         }
     }
@@ -161,6 +161,7 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
 
         final Map<Object, Object> idMap = new HashMap<>();
+        long start = System.nanoTime();
         try (MongoCursor<?> cursor = getDatastore().find(collection)
                 .disableValidation()
                 .filter(in("_id", collectionIds)).iterator()) {
@@ -168,6 +169,7 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
                 final Object entity = cursor.next();
                 idMap.put(getMapper().getId(entity), entity);
             }
+            fetched(entityModel.getType(), idMap.size(), start);
 
             if (!ignoreMissing() && idMap.size() != new HashSet<>(collectionIds).size()) {
                 throw new ReferenceException(
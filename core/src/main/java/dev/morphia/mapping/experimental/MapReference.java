@@ -124,6 +124,7 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
     }
 
     private void mergeReads() {
+        long start = System.nanoTime();
         for (Entry<String, Object> entry : ids.entrySet()) {
             DBRef id = normalizeId(entry.getValue());
             try (MongoCursor<T> cursor = (MongoCursor<T>) getDatastore().find(id.getCollectionName())
@@ -131,6 +132,7 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
                 values.put(entry.getKey(), cursor.next());
             }
         }
+        fetched(entityModel.getType(), values.size(), start);
 
         resolve();
     }
@@ -12,6 +12,7 @@ import dev.morphia.annotations.Handler;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.metrics.MorphiaMetrics;
 
 /**
  * Wrapper type for references to entities in other collections
@@ -76,6 +77,20 @@ public abstract class MorphiaReference<T> {
         return datastore;
     }
 
+    /**
+     * Reports a fetch of referenced entities to the datastore's metrics.
+     *
+     * @param type  the referenced type
+     * @param count the number of entities fetched
+     * @param start the {@link System#nanoTime()} the fetch started at
+     */
+    void fetched(Class<?> type, int count, long start) {
+        MorphiaMetrics metrics = datastore.getMetrics();
+        if (metrics.isEnabled()) {
+            metrics.referencesFetched(type, count, System.nanoTime() - start);
+        }
+    }
+
     /**
      * @return the referenced type
      */
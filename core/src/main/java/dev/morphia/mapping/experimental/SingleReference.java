@@ -11,6 +11,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.Query;
 import dev.morphia.sofia.Sofia;
@@ -31,6 +32,8 @@ public class SingleReference<T> extends MorphiaReference<T> {
     private EntityModel entityModel;
     private Object id;
     private T value;
+    @Nullable
+    private ReferenceBatch.LazyGroup group;
 
     /**
      * @param datastore
@@ -80,10 +83,44 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return new SingleReference<>(datastore, entityModel, id);
     }
 
+    /**
+     * Adds this reference to a group of lazy references loaded together.
+     *
+     * @param group the group
+     * @morphia.internal
+     * @hidden
+     */
+    @MorphiaInternal
+    public void group(ReferenceBatch.LazyGroup group) {
+        this.group = group;
+    }
+
+    /**
+     * Resolves this reference with an entity loaded by its group.
+     *
+     * @param entity the referenced entity
+     * @morphia.internal
+     * @hidden
+     */
+    @MorphiaInternal
+    public void loaded(Object entity) {
+        if (!isResolved()) {
+            value = (T) entity;
+            resolve();
+        }
+    }
+
     @Override
     public T get() {
+        ReferenceBatch.LazyGroup lazyGroup = group;
+        if (lazyGroup != null && !isResolved()) {
+            group = null;
+            lazyGroup.load();
+        }
         if (!isResolved() && value == null && id != null) {
+            long start = System.nanoTime();
             value = (T) buildQuery().iterator().tryNext();
+            fetched(getType(), value != null ? 1 : 0, start);
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                         Sofia.missingReferencedEntity(entityModel.getType().getSimpleName()));
@@ -5,6 +5,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,16 @@ public class EntityListenerAdapter implements EntityListener<Object> {
         return !methods.get(type).isEmpty();
     }
 
+    /**
+     * @param type the lifecycle event type
+     * @return true if any method handling that event takes the {@link Document} as a parameter
+     * @since 3.0
+     */
+    public boolean usesDocument(Class<? extends Annotation> type) {
+        return methods.get(type).stream()
+                .anyMatch(method -> Arrays.asList(method.getParameterTypes()).contains(Document.class));
+    }
+
     Map<Class<? extends Annotation>, List<Method>> getMethods() {
         return methods;
     }
@@ -18,6 +18,7 @@ import dev.morphia.mapping.validation.classrules.MultipleVersions;
 import dev.morphia.mapping.validation.classrules.ShardKeyNames;
 import dev.morphia.mapping.validation.fieldrules.ContradictingAnnotations;
 import dev.morphia.mapping.validation.fieldrules.IdDoesNotMix;
+import dev.morphia.mapping.validation.fieldrules.LazyOnUnproxiableType;
 import dev.morphia.mapping.validation.fieldrules.LazyReferenceMissingDependencies;
 import dev.morphia.mapping.validation.fieldrules.LazyReferenceOnArray;
 import dev.morphia.mapping.validation.fieldrules.MapKeyTypeConstraint;
@@ -86,6 +87,7 @@ public class MappingValidator {
         constraints.add(new ReferenceToUnidentifiable());
         constraints.add(new LazyReferenceMissingDependencies());
         constraints.add(new LazyReferenceOnArray());
+        constraints.add(new LazyOnUnproxiableType());
         constraints.add(new MapKeyTypeConstraint());
         constraints.add(new VersionMisuse());
         constraints.add(new ShardKeyNames());
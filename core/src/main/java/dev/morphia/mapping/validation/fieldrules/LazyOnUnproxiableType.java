@@ -0,0 +1,29 @@
+package dev.morphia.mapping.validation.fieldrules;
+
+import java.util.Set;
+
+import dev.morphia.annotations.Lazy;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.LazyValue;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+import dev.morphia.mapping.validation.ConstraintViolation;
+import dev.morphia.mapping.validation.ConstraintViolation.Level;
+
+/**
+ * Checks that {@link Lazy} is only used on properties whose type can be proxied.
+ *
+ * @since 3.0
+ */
+public class LazyOnUnproxiableType extends PropertyConstraint {
+
+    @Override
+    protected void check(Mapper mapper, EntityModel model, PropertyModel propertyModel, Set<ConstraintViolation> ve) {
+        if (propertyModel.hasAnnotation(Lazy.class) && !propertyModel.isReference() && !LazyValue.supports(propertyModel.getType())) {
+            ve.add(new ConstraintViolation(Level.FATAL, model, propertyModel, getClass(),
+                    "@Lazy can only be used on properties whose type is a public interface or a public, non-final class with a "
+                            + "non-private, no-arg constructor."));
+        }
+    }
+
+}
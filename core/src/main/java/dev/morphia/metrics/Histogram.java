@@ -0,0 +1,142 @@
+package dev.morphia.metrics;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size, lock free histogram of non-negative values. Values are counted in buckets whose width grows with their magnitude so that
+ * every value from 0 to {@link Long#MAX_VALUE} is tracked with a relative error of at most 12.5% in a few kilobytes. Count, total, and
+ * maximum are exact.
+ * <p>
+ * Recording and reading may happen concurrently in which case a reading may not include values still being recorded.
+ *
+ * @since 3.0
+ */
+public final class Histogram {
+    /**
+     * The number of bits of each value below its highest set bit that select its bucket. Each power of two range is split in to
+     * {@code 2^SUB_BITS} buckets.
+     */
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray((Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        buckets.incrementAndGet(bucket(recorded));
+        count.increment();
+        total.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    /**
+     * @return the number of values recorded
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of the values recorded
+     */
+    public long total() {
+        return total.sum();
+    }
+
+    /**
+     * @return the largest value recorded or 0 if none have been
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the values recorded or 0 if none have been
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) total() / count;
+    }
+
+    /**
+     * Estimates a percentile of the values recorded. The estimate is the upper bound of the bucket holding the value at that rank and so
+     * is never less than the true value.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the estimated value or 0 if none have been recorded
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Histogram.class.getSimpleName() + "[", "]")
+                .add("count=" + count())
+                .add("mean=" + mean())
+                .add("p50=" + percentile(50))
+                .add("p99=" + percentile(99))
+                .add("max=" + max())
+                .toString();
+    }
+
+    /**
+     * Values below {@code SUB_BUCKETS} get a bucket each. Larger values are bucketed by their highest set bit and the {@code SUB_BITS}
+     * bits after it.
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
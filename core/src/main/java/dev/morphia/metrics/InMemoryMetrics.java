@@ -0,0 +1,183 @@
+package dev.morphia.metrics;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * Keeps a {@link Histogram} per measurement in memory. Useful for tests and as a starting point for exporting to a monitoring system.
+ *
+ * <pre>
+ * <code>
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * Datastore datastore = Morphia.createDatastore(client, MorphiaConfig.load().metrics(metrics));
+ * ...
+ * long p99 = metrics.operation("find", "books").percentile(99);
+ * </code>
+ * </pre>
+ *
+ * @since 3.0
+ */
+public class InMemoryMetrics implements MorphiaMetrics {
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public void operation(String operation, @Nullable String collection, long nanos, @Nullable Throwable failure) {
+        histogram(operationKey(operation, collection)).record(nanos);
+        if (failure != null) {
+            histogram(operationKey(operation, collection) + ".failures").record(nanos);
+        }
+    }
+
+    @Override
+    public void documentsReturned(String operation, String collection, long count) {
+        histogram(operationKey(operation, collection) + ".documents").record(count);
+    }
+
+    @Override
+    public void encoded(Class<?> type, long nanos, long bytes) {
+        histogram("encode." + type.getName()).record(nanos);
+        if (bytes >= 0) {
+            histogram("encode." + type.getName() + ".bytes").record(bytes);
+        }
+    }
+
+    @Override
+    public void decoded(Class<?> type, long nanos, long bytes) {
+        histogram("decode." + type.getName()).record(nanos);
+        if (bytes >= 0) {
+            histogram("decode." + type.getName() + ".bytes").record(bytes);
+        }
+    }
+
+    @Override
+    public void referencesFetched(Class<?> type, int count, long nanos) {
+        histogram("references." + type.getName()).record(nanos);
+        histogram("references." + type.getName() + ".count").record(count);
+    }
+
+    @Override
+    public void lifecycle(Class<?> type, Class<? extends Annotation> event, long nanos) {
+        histogram("lifecycle." + event.getSimpleName() + "." + type.getName()).record(nanos);
+    }
+
+    /**
+     * @param operation  the operation
+     * @param collection the collection or null for database commands
+     * @return the times of the operation
+     */
+    public Histogram operation(String operation, @Nullable String collection) {
+        return get(operationKey(operation, collection));
+    }
+
+    /**
+     * @param operation  the operation
+     * @param collection the collection or null for database commands
+     * @return the times of the operations which failed
+     */
+    public Histogram failures(String operation, @Nullable String collection) {
+        return get(operationKey(operation, collection) + ".failures");
+    }
+
+    /**
+     * @param operation  the read operation
+     * @param collection the collection
+     * @return the number of documents returned by each read
+     */
+    public Histogram documents(String operation, String collection) {
+        return get(operationKey(operation, collection) + ".documents");
+    }
+
+    /**
+     * @param type the entity type
+     * @return the times taken to encode the type
+     */
+    public Histogram encodeTimes(Class<?> type) {
+        return get("encode." + type.getName());
+    }
+
+    /**
+     * @param type the entity type
+     * @return the encoded sizes of the type
+     */
+    public Histogram encodeBytes(Class<?> type) {
+        return get("encode." + type.getName() + ".bytes");
+    }
+
+    /**
+     * @param type the entity type
+     * @return the times taken to decode the type
+     */
+    public Histogram decodeTimes(Class<?> type) {
+        return get("decode." + type.getName());
+    }
+
+    /**
+     * @param type the entity type
+     * @return the decoded sizes of the type
+     */
+    public Histogram decodeBytes(Class<?> type) {
+        return get("decode." + type.getName() + ".bytes");
+    }
+
+    /**
+     * @param type the referenced type
+     * @return the times taken to fetch references to the type
+     */
+    public Histogram referenceFetches(Class<?> type) {
+        return get("references." + type.getName());
+    }
+
+    /**
+     * @param type the referenced type
+     * @return the number of entities returned by each fetch
+     */
+    public Histogram referenceCounts(Class<?> type) {
+        return get("references." + type.getName() + ".count");
+    }
+
+    /**
+     * @param type  the entity type
+     * @param event the lifecycle event
+     * @return the times taken by the callbacks
+     */
+    public Histogram lifecycle(Class<?> type, Class<? extends Annotation> event) {
+        return get("lifecycle." + event.getSimpleName() + "." + type.getName());
+    }
+
+    /**
+     * @return every histogram recorded to so far keyed and sorted by name, e.g. {@code operation.find.books} or
+     *         {@code decode.com.example.Book.bytes}
+     */
+    public Map<String, Histogram> histograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    /**
+     * Clears all measurements.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    @Override
+    public String toString() {
+        return InMemoryMetrics.class.getSimpleName() + histograms();
+    }
+
+    private Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    private Histogram get(String name) {
+        Histogram histogram = histograms.get(name);
+        return histogram != null ? histogram : new Histogram();
+    }
+
+    private static String operationKey(String operation, @Nullable String collection) {
+        return collection != null ? "operation." + operation + "." + collection : "operation." + operation;
+    }
+}
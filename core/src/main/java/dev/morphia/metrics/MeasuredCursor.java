@@ -0,0 +1,149 @@
+package dev.morphia.metrics;
+
+import java.util.function.Supplier;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+/**
+ * Times the opening and iteration of a cursor and counts the documents it returns. Both are reported once, when the cursor is exhausted
+ * or closed, whichever comes first.
+ *
+ * @param <T> the result type
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MeasuredCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<T> cursor;
+    private final MorphiaMetrics metrics;
+    private final String operation;
+    private final String collection;
+    private long nanos;
+    private long count;
+    @Nullable
+    private Throwable failure;
+    private boolean reported;
+
+    private MeasuredCursor(MongoCursor<T> cursor, MorphiaMetrics metrics, String operation, String collection, long nanos) {
+        this.cursor = cursor;
+        this.metrics = metrics;
+        this.operation = operation;
+        this.collection = collection;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Opens a cursor, which usually sends the initial query, and measures it from then on.
+     *
+     * @param metrics    the metrics to report to
+     * @param operation  the read operation
+     * @param collection the collection read
+     * @param opener     opens the cursor
+     * @param <T>        the result type
+     * @return the measured cursor
+     */
+    public static <T> MeasuredCursor<T> open(MorphiaMetrics metrics, String operation, String collection,
+            Supplier<MongoCursor<T>> opener) {
+        long start = System.nanoTime();
+        try {
+            return new MeasuredCursor<>(opener.get(), metrics, operation, collection, System.nanoTime() - start);
+        } catch (RuntimeException | Error e) {
+            metrics.operation(operation, collection, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            cursor.close();
+        } finally {
+            report();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        long start = System.nanoTime();
+        try {
+            boolean hasNext = cursor.hasNext();
+            nanos += System.nanoTime() - start;
+            if (!hasNext) {
+                report();
+            }
+            return hasNext;
+        } catch (RuntimeException | Error e) {
+            failed(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        long start = System.nanoTime();
+        try {
+            T next = cursor.next();
+            nanos += System.nanoTime() - start;
+            count++;
+            return next;
+        } catch (RuntimeException | Error e) {
+            failed(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public int available() {
+        return cursor.available();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        long start = System.nanoTime();
+        try {
+            T next = cursor.tryNext();
+            nanos += System.nanoTime() - start;
+            if (next != null) {
+                count++;
+            }
+            return next;
+        } catch (RuntimeException | Error e) {
+            failed(start, e);
+            throw e;
+        }
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+
+    private void failed(long start, Throwable e) {
+        nanos += System.nanoTime() - start;
+        failure = e;
+    }
+
+    private void report() {
+        if (!reported) {
+            reported = true;
+            metrics.operation(operation, collection, nanos, failure);
+            metrics.documentsReturned(operation, collection, count);
+        }
+    }
+}
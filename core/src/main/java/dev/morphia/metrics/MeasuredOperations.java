@@ -0,0 +1,149 @@
+package dev.morphia.metrics;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.MorphiaDatastore.DatastoreOperations;
+import dev.morphia.ReplaceOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.FindAndDeleteOptions;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * Times the operations of another {@link DatastoreOperations}. Finds only create the iterable and so are timed by
+ * {@link MeasuredCursor} as their results are read.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class MeasuredOperations extends DatastoreOperations {
+    private final DatastoreOperations operations;
+    private final MorphiaMetrics metrics;
+
+    /**
+     * @param operations the operations to time
+     * @param metrics    the metrics to report to
+     */
+    public MeasuredOperations(DatastoreOperations operations, MorphiaMetrics metrics) {
+        this.operations = operations;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public <T, R> AggregateIterable<R> aggregate(MongoCollection<T> collection, List<? extends Bson> pipeline, Class<R> resultType) {
+        return operations.aggregate(collection, pipeline, resultType);
+    }
+
+    @Override
+    public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+            BulkWriteOptions options) {
+        return measure("bulkWrite", collection, () -> operations.bulkWrite(collection, requests, options));
+    }
+
+    @Override
+    public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
+        return measure("countDocuments", collection, () -> operations.countDocuments(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        return measure("deleteMany", collection, () -> operations.deleteMany(collection, query, options));
+    }
+
+    @Override
+    public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson query, DeleteOptions options) {
+        return measure("deleteOne", collection, () -> operations.deleteOne(collection, query, options));
+    }
+
+    @Override
+    public <T> FindIterable<T> find(MongoCollection<T> collection, Bson query) {
+        return operations.find(collection, query);
+    }
+
+    @Nullable
+    @Override
+    public <T> T findOneAndDelete(MongoCollection<T> collection, Bson query, FindAndDeleteOptions options) {
+        return measure("findOneAndDelete", collection, () -> operations.findOneAndDelete(collection, query, options));
+    }
+
+    @Nullable
+    @Override
+    public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options) {
+        return measure("findOneAndUpdate", collection, () -> operations.findOneAndUpdate(collection, query, update, options));
+    }
+
+    @Override
+    public <T> InsertManyResult insertMany(MongoCollection<T> collection, List<T> list, InsertManyOptions options) {
+        return measure("insertMany", collection, () -> operations.insertMany(collection, list, options));
+    }
+
+    @Override
+    public <T> InsertOneResult insertOne(MongoCollection<T> collection, T entity, InsertOneOptions options) {
+        return measure("insertOne", collection, () -> operations.insertOne(collection, entity, options));
+    }
+
+    @Override
+    public <T> UpdateResult replaceOne(MongoCollection<T> collection, T entity, Document filter, ReplaceOptions options) {
+        return measure("replaceOne", collection, () -> operations.replaceOne(collection, entity, filter, options));
+    }
+
+    @Override
+    public Document runCommand(Document command) {
+        return measure(command.keySet().iterator().next(), null, () -> operations.runCommand(command));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates, UpdateOptions options) {
+        return measure("updateMany", collection, () -> operations.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<? extends Bson> updates, UpdateOptions options) {
+        return measure("updateMany", collection, () -> operations.updateMany(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates, UpdateOptions options) {
+        return measure("updateOne", collection, () -> operations.updateOne(collection, query, updates, options));
+    }
+
+    @Override
+    public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<? extends Bson> updates, UpdateOptions options) {
+        return measure("updateOne", collection, () -> operations.updateOne(collection, query, updates, options));
+    }
+
+    private <R> R measure(String operation, @Nullable MongoCollection<?> collection, Supplier<R> supplier) {
+        String name = collection != null ? collection.getNamespace().getCollectionName() : null;
+        long start = System.nanoTime();
+        try {
+            R result = supplier.get();
+            metrics.operation(operation, name, System.nanoTime() - start, null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            metrics.operation(operation, name, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+}
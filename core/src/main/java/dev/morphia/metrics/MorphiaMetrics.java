@@ -0,0 +1,99 @@
+package dev.morphia.metrics;
+
+import java.lang.annotation.Annotation;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * Receives measurements of the work a datastore does. Every method defaults to doing nothing so implementations need only override what
+ * they are interested in. Implementations are called inline on the thread doing the work, often concurrently, and so must be thread safe
+ * and cheap.
+ * <p>
+ * Times are reported in nanoseconds. Nested work is reported where it happens as well as being included in the time of the work
+ * containing it so, for example, the time of a find includes the time taken to decode its results.
+ *
+ * @see dev.morphia.config.MorphiaConfig#metrics()
+ * @see InMemoryMetrics
+ * @since 3.0
+ */
+public interface MorphiaMetrics {
+    /**
+     * Reports nothing. When configured, the datastore skips measuring altogether.
+     */
+    MorphiaMetrics NONE = new MorphiaMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * @return true if measurements should be taken and reported to this instance
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Reports a completed database operation. Writes are timed from when they are sent until their result is returned. Reads are timed
+     * across the iteration of their cursor, including decoding, and are reported when the cursor is closed or exhausted.
+     *
+     * @param operation  the operation, e.g. {@code find} or {@code updateOne}
+     * @param collection the collection operated on or null for database commands
+     * @param nanos      the time taken
+     * @param failure    the exception raised by the operation or null if it succeeded
+     */
+    default void operation(String operation, @Nullable String collection, long nanos, @Nullable Throwable failure) {
+    }
+
+    /**
+     * Reports the number of documents returned by a read when its cursor is closed or exhausted.
+     *
+     * @param operation  the operation, e.g. {@code find} or {@code aggregate}
+     * @param collection the collection read
+     * @param count      the number of documents returned
+     */
+    default void documentsReturned(String operation, String collection, long count) {
+    }
+
+    /**
+     * Reports the encoding of an entity. Entities embedded in the one being encoded are included in its time and size.
+     *
+     * @param type  the type encoded
+     * @param nanos the time taken
+     * @param bytes the size of the encoded document or -1 if it is not known
+     */
+    default void encoded(Class<?> type, long nanos, long bytes) {
+    }
+
+    /**
+     * Reports the decoding of an entity. Entities embedded in the one being decoded, or fetched eagerly by reference while decoding it, are
+     * included in its time rather than reported separately.
+     *
+     * @param type  the type decoded
+     * @param nanos the time taken
+     * @param bytes the size of the decoded document or -1 if it is not known
+     */
+    default void decoded(Class<?> type, long nanos, long bytes) {
+    }
+
+    /**
+     * Reports a fetch of referenced entities from the database.
+     *
+     * @param type  the referenced type
+     * @param count the number of entities fetched
+     * @param nanos the time taken
+     */
+    default void referencesFetched(Class<?> type, int count, long nanos) {
+    }
+
+    /**
+     * Reports the invocation of the lifecycle callbacks and listeners for an entity.
+     *
+     * @param type  the entity type
+     * @param event the lifecycle event, e.g. {@link dev.morphia.annotations.PostLoad}
+     * @param nanos the time taken
+     */
+    default void lifecycle(Class<?> type, Class<? extends Annotation> event, long nanos) {
+    }
+}
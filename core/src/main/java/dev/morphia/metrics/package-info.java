@@ -0,0 +1,10 @@
+/**
+ * Defines the SPI through which a datastore reports the time spent on database operations, encoding and decoding, reference fetches,
+ * and lifecycle callbacks.
+ *
+ * @see dev.morphia.config.MorphiaConfig#metrics()
+ */
+@NonNullApi
+package dev.morphia.metrics;
+
+import com.mongodb.lang.NonNullApi;
@@ -0,0 +1,73 @@
+package dev.morphia.query;
+
+import java.util.NoSuchElementException;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+/**
+ * Holds the result of a lookup served by the entity cache. There is no server cursor behind these results. The server address reported
+ * is the one the document was read from.
+ *
+ * @param <T> the entity type
+ * @see dev.morphia.annotations.Cached
+ * @since 3.0
+ */
+class CachedCursor<T> implements MongoCursor<T> {
+    private final ServerAddress address;
+    @Nullable
+    private T next;
+
+    CachedCursor(@Nullable T next, ServerAddress address) {
+        this.next = next;
+        this.address = address;
+    }
+
+    @Override
+    public void close() {
+        next = null;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        T result = tryNext();
+        if (result == null) {
+            throw new NoSuchElementException();
+        }
+        return result;
+    }
+
+    @Override
+    public int available() {
+        return next != null ? 1 : 0;
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        T result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return address;
+    }
+}
@@ -3,6 +3,7 @@ package dev.morphia.query;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import com.mongodb.CursorType;
@@ -11,6 +12,7 @@ import com.mongodb.ReadPreference;
 import com.mongodb.assertions.Assertions;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
 
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.CollectionConfigurable;
@@ -24,6 +26,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.BsonString;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.bson.types.ObjectId;
 
 import static dev.morphia.internal.MorphiaInternals.DriverVersion.v4_1_0;
@@ -41,6 +44,9 @@ import static dev.morphia.internal.MorphiaInternals.tryInvoke;
 public final class FindOptions implements ReadConfigurable<FindOptions>, CollectionConfigurable<FindOptions> {
     private Boolean allowDiskUse;
     private int batchSize;
+    private boolean batchReferences;
+    private Executor decodeExecutor;
+    private int decodeAhead;
     private int limit;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
@@ -88,32 +94,52 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
      */
     @MorphiaInternal
     public <T> FindIterable<T> apply(FindIterable<T> iterable, Mapper mapper, Class<?> type) {
+        apply(new IterableTarget(iterable), mapper, type);
+        return iterable;
+    }
+
+    /**
+     * @param target the find operation to configure
+     * @param mapper the mapper to use
+     * @param type   the result type
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public void apply(FindTarget target, Mapper mapper, Class<?> type) {
         if (isLogQuery()) {
             logQuery(); //  reset to a new ID
         }
         if (projection != null) {
-            iterable.projection(projection.map(mapper, type));
+            target.projection(projection.map(mapper, type));
         }
 
-        tryInvoke(v4_1_0, () -> iterable.allowDiskUse(allowDiskUse));
-        iterable.batchSize(batchSize);
-        iterable.collation(collation);
-        tryInvoke(v4_6_0, () -> iterable.comment(comment));
+        tryInvoke(v4_1_0, () -> {
+            target.allowDiskUse(allowDiskUse);
+            return null;
+        });
+        target.batchSize(batchSize);
+        target.collation(collation);
+        tryInvoke(v4_6_0, () -> {
+            target.comment(comment);
+            return null;
+        });
         if (cursorType != null) {
-            iterable.cursorType(cursorType);
+            target.cursorType(cursorType);
         }
-        iterable.hint(hint);
-        iterable.hintString(hintString);
-        iterable.limit(limit);
-        iterable.max(max);
-        iterable.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
-        iterable.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
-        iterable.min(min);
-        iterable.noCursorTimeout(noCursorTimeout);
-        iterable.partial(partial);
-        iterable.returnKey(returnKey);
-        iterable.showRecordId(showRecordId);
-        iterable.skip(skip);
+        target.hint(hint);
+        target.hintString(hintString);
+        target.limit(limit);
+        target.max(max);
+        target.maxAwaitTime(maxAwaitTimeMS, TimeUnit.MILLISECONDS);
+        target.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        target.min(min);
+        target.noCursorTimeout(noCursorTimeout);
+        target.partial(partial);
+        target.returnKey(returnKey);
+        target.showRecordId(showRecordId);
+        target.skip(skip);
         if (sort != null) {
             Document mapped = new Document();
             EntityModel model = null;
@@ -127,10 +153,126 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
                 boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
                 mapped.put(new PathTarget(mapper, model, entry.getKey(), model != null && !metaScore).translatedPath(), value);
             }
-            iterable.sort(mapped);
+            target.sort(mapped);
         }
-        tryInvoke(v4_6_0, () -> iterable.let(variables));
-        return iterable;
+        tryInvoke(v4_6_0, () -> {
+            target.let(variables);
+            return null;
+        });
+    }
+
+    /**
+     * Enables batched resolution of eager references. Rather than loading each {@link dev.morphia.annotations.Reference} as its entity
+     * is decoded, the ids of all the references found in each batch returned by the server are collected and loaded with one query per
+     * referenced collection. This avoids issuing a query per reference per entity when iterating results. The elements of list, set and
+     * array references are batched as well. Map valued references are still loaded a query per entity.
+     * <p>
+     * Single valued {@link dev.morphia.annotations.Reference#lazy() lazy} references are grouped the same way but are not loaded up front.
+     * Instead, using any unresolved lazy reference loads every other unresolved lazy reference to the same collection from the same server
+     * batch with a single query.
+     *
+     * @param batchReferences true to batch reference resolution
+     * @return this
+     * @since 3.0
+     */
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
+    /**
+     * @return true if reference resolution should be batched
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean batchReferences() {
+        return batchReferences;
+    }
+
+    /**
+     * Decodes results on the given executor rather than on the thread iterating them. Results are fetched as raw documents and each batch
+     * is handed to the executor as it arrives so decoding overlaps with the caller's own processing. Results are still returned in
+     * the order the server sends them. This pays off for large result sets of deeply nested entities where decoding, not the network,
+     * limits throughput. By default up to twice the batch size, or 256 results if no batch size is set, are decoded ahead of the
+     * caller.
+     * <p>
+     * Ignored when {@link #batchReferences(boolean)} is enabled and within a session, where results are decoded on the calling thread
+     * because anything loaded while decoding, e.g. references, goes through the session and a session may only be used by one thread at
+     * a time.
+     *
+     * @param executor the executor to decode on, e.g. a fork-join pool or a virtual thread executor, or null to decode on the calling
+     *                 thread
+     * @return this
+     * @since 3.0
+     */
+    public FindOptions decodeOn(@Nullable Executor executor) {
+        this.decodeExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Decodes results on the given executor rather than on the thread iterating them.
+     *
+     * @param executor  the executor to decode on or null to decode on the calling thread
+     * @param readAhead the maximum number of results fetched and decoded ahead of the caller
+     * @return this
+     * @see #decodeOn(Executor)
+     * @since 3.0
+     */
+    public FindOptions decodeOn(@Nullable Executor executor, int readAhead) {
+        this.decodeExecutor = executor;
+        this.decodeAhead = readAhead;
+        return this;
+    }
+
+    /**
+     * @return the executor to decode results on, if any
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @Nullable
+    @MorphiaInternal
+    public Executor decodeExecutor() {
+        return decodeExecutor;
+    }
+
+    /**
+     * @return true if the cursor is tailable and so may wait for results to be written
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean tailable() {
+        return cursorType != null && cursorType != CursorType.NonTailable;
+    }
+
+    /**
+     * @return the maximum number of results to decode ahead of the caller
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public int decodeAhead() {
+        if (decodeAhead > 0) {
+            return decodeAhead;
+        }
+        return batchSize > 0 ? batchSize * 2 : 256;
+    }
+
+    /**
+     * @return true if the results are whole documents, i.e. no projection is applied and nothing is added to them
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public boolean returnsWholeDocuments() {
+        return projection == null && !returnKey && !showRecordId;
     }
 
     /**
@@ -215,6 +357,9 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     public FindOptions copy(FindOptions original) {
         this.allowDiskUse = original.allowDiskUse;
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
+        this.decodeExecutor = original.decodeExecutor;
+        this.decodeAhead = original.decodeAhead;
         this.collection = original.collection;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
@@ -258,9 +403,9 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
     @MorphiaInternal
     @Override
     public int hashCode() {
-        return Objects.hash(allowDiskUse, batchSize, limit, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
-                partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId, readConcern, readPreference, projection,
-                queryLogId);
+        return Objects.hash(allowDiskUse, batchSize, batchReferences, decodeExecutor, decodeAhead, limit, maxTimeMS, maxAwaitTimeMS, skip,
+                sort, cursorType, noCursorTimeout, partial, collation, comment, hint, hintString, max, min, returnKey, showRecordId,
+                readConcern, readPreference, projection, queryLogId);
     }
 
     /**
@@ -277,7 +422,9 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
             return false;
         }
         FindOptions that = (FindOptions) o;
-        return batchSize == that.batchSize && limit == that.limit && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS
+        return batchSize == that.batchSize && batchReferences == that.batchReferences && decodeAhead == that.decodeAhead
+                && decodeExecutor == that.decodeExecutor && limit == that.limit
+                && maxTimeMS == that.maxTimeMS && maxAwaitTimeMS == that.maxAwaitTimeMS
                 && skip == that.skip && noCursorTimeout == that.noCursorTimeout
                 && partial == that.partial
                 && returnKey == that.returnKey && showRecordId == that.showRecordId && Objects.equals(allowDiskUse, that.allowDiskUse)
@@ -629,4 +776,111 @@ public final class FindOptions implements ReadConfigurable<FindOptions>, Collect
         return this;
     }
 
+    private static class IterableTarget implements FindTarget {
+        private final FindIterable<?> iterable;
+
+        IterableTarget(FindIterable<?> iterable) {
+            this.iterable = iterable;
+        }
+
+        @Override
+        public void allowDiskUse(@Nullable Boolean allowDiskUse) {
+            iterable.allowDiskUse(allowDiskUse);
+        }
+
+        @Override
+        public void batchSize(int batchSize) {
+            iterable.batchSize(batchSize);
+        }
+
+        @Override
+        public void collation(@Nullable Collation collation) {
+            iterable.collation(collation);
+        }
+
+        @Override
+        public void comment(@Nullable BsonValue comment) {
+            iterable.comment(comment);
+        }
+
+        @Override
+        public void cursorType(CursorType cursorType) {
+            iterable.cursorType(cursorType);
+        }
+
+        @Override
+        public void hint(@Nullable Bson hint) {
+            iterable.hint(hint);
+        }
+
+        @Override
+        public void hintString(@Nullable String hint) {
+            iterable.hintString(hint);
+        }
+
+        @Override
+        public void let(@Nullable Bson variables) {
+            iterable.let(variables);
+        }
+
+        @Override
+        public void limit(int limit) {
+            iterable.limit(limit);
+        }
+
+        @Override
+        public void max(@Nullable Bson max) {
+            iterable.max(max);
+        }
+
+        @Override
+        public void maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+            iterable.maxAwaitTime(maxAwaitTime, timeUnit);
+        }
+
+        @Override
+        public void maxTime(long maxTime, TimeUnit timeUnit) {
+            iterable.maxTime(maxTime, timeUnit);
+        }
+
+        @Override
+        public void min(@Nullable Bson min) {
+            iterable.min(min);
+        }
+
+        @Override
+        public void noCursorTimeout(boolean noCursorTimeout) {
+            iterable.noCursorTimeout(noCursorTimeout);
+        }
+
+        @Override
+        public void partial(boolean partial) {
+            iterable.partial(partial);
+        }
+
+        @Override
+        public void projection(@Nullable Bson projection) {
+            iterable.projection(projection);
+        }
+
+        @Override
+        public void returnKey(boolean returnKey) {
+            iterable.returnKey(returnKey);
+        }
+
+        @Override
+        public void showRecordId(boolean showRecordId) {
+            iterable.showRecordId(showRecordId);
+        }
+
+        @Override
+        public void skip(int skip) {
+            iterable.skip(skip);
+        }
+
+        @Override
+        public void sort(@Nullable Bson sort) {
+            iterable.sort(sort);
+        }
+    }
 }
@@ -0,0 +1,146 @@
+package dev.morphia.query;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * The settings of a driver find operation. This lets {@link FindOptions} configure the find operations of any flavor of the driver, e.g.
+ * both the synchronous {@link com.mongodb.client.FindIterable} and its reactive counterpart, which share these settings but no common
+ * type.
+ *
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public interface FindTarget {
+    /**
+     * @param allowDiskUse the value to set
+     * @see com.mongodb.client.FindIterable#allowDiskUse(Boolean)
+     */
+    void allowDiskUse(@Nullable Boolean allowDiskUse);
+
+    /**
+     * @param batchSize the value to set
+     * @see com.mongodb.client.FindIterable#batchSize(int)
+     */
+    void batchSize(int batchSize);
+
+    /**
+     * @param collation the value to set
+     * @see com.mongodb.client.FindIterable#collation(Collation)
+     */
+    void collation(@Nullable Collation collation);
+
+    /**
+     * @param comment the value to set
+     * @see com.mongodb.client.FindIterable#comment(BsonValue)
+     */
+    void comment(@Nullable BsonValue comment);
+
+    /**
+     * @param cursorType the value to set
+     * @see com.mongodb.client.FindIterable#cursorType(CursorType)
+     */
+    void cursorType(CursorType cursorType);
+
+    /**
+     * @param hint the value to set
+     * @see com.mongodb.client.FindIterable#hint(Bson)
+     */
+    void hint(@Nullable Bson hint);
+
+    /**
+     * @param hint the value to set
+     * @see com.mongodb.client.FindIterable#hintString(String)
+     */
+    void hintString(@Nullable String hint);
+
+    /**
+     * @param variables the value to set
+     * @see com.mongodb.client.FindIterable#let(Bson)
+     */
+    void let(@Nullable Bson variables);
+
+    /**
+     * @param limit the value to set
+     * @see com.mongodb.client.FindIterable#limit(int)
+     */
+    void limit(int limit);
+
+    /**
+     * @param max the value to set
+     * @see com.mongodb.client.FindIterable#max(Bson)
+     */
+    void max(@Nullable Bson max);
+
+    /**
+     * @param maxAwaitTime the value to set
+     * @param timeUnit     the unit of the value
+     * @see com.mongodb.client.FindIterable#maxAwaitTime(long, TimeUnit)
+     */
+    void maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit);
+
+    /**
+     * @param maxTime  the value to set
+     * @param timeUnit the unit of the value
+     * @see com.mongodb.client.FindIterable#maxTime(long, TimeUnit)
+     */
+    void maxTime(long maxTime, TimeUnit timeUnit);
+
+    /**
+     * @param min the value to set
+     * @see com.mongodb.client.FindIterable#min(Bson)
+     */
+    void min(@Nullable Bson min);
+
+    /**
+     * @param noCursorTimeout the value to set
+     * @see com.mongodb.client.FindIterable#noCursorTimeout(boolean)
+     */
+    void noCursorTimeout(boolean noCursorTimeout);
+
+    /**
+     * @param partial the value to set
+     * @see com.mongodb.client.FindIterable#partial(boolean)
+     */
+    void partial(boolean partial);
+
+    /**
+     * @param projection the value to set
+     * @see com.mongodb.client.FindIterable#projection(Bson)
+     */
+    void projection(@Nullable Bson projection);
+
+    /**
+     * @param returnKey the value to set
+     * @see com.mongodb.client.FindIterable#returnKey(boolean)
+     */
+    void returnKey(boolean returnKey);
+
+    /**
+     * @param showRecordId the value to set
+     * @see com.mongodb.client.FindIterable#showRecordId(boolean)
+     */
+    void showRecordId(boolean showRecordId);
+
+    /**
+     * @param skip the value to set
+     * @see com.mongodb.client.FindIterable#skip(int)
+     */
+    void skip(int skip);
+
+    /**
+     * @param sort the value to set
+     * @see com.mongodb.client.FindIterable#sort(Bson)
+     */
+    void sort(@Nullable Bson sort);
+}
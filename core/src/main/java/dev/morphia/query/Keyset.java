@@ -0,0 +1,148 @@
+package dev.morphia.query;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.sofia.Sofia;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonSerializationException;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+
+/**
+ * The sort of a keyset paginated query. Pages after the first are found by filtering for the documents which sort after the last document
+ * of the previous page rather than by skipping over the earlier pages so every page costs the same to read no matter how deep it is.
+ * {@code _id} is always added as the last sort key so that the order is total and no document is skipped or repeated between pages.
+ */
+class Keyset {
+    private static final String SORT = "s";
+    private static final String VALUES = "v";
+
+    private final BsonDocument sort = new BsonDocument();
+
+    Keyset(Mapper mapper, @Nullable EntityModel model, boolean validate, Sort... sorts) {
+        for (Sort sort : sorts) {
+            if (sort.getField().equals(Sort.NATURAL)) {
+                throw new IllegalArgumentException(Sofia.naturalSortNotPageable());
+            }
+            String path = new PathTarget(mapper, model, sort.getField(), model != null && validate).translatedPath();
+            this.sort.put(path, new BsonInt32(sort.getOrder()));
+        }
+        if (!sort.containsKey("_id")) {
+            sort.put("_id", new BsonInt32(1));
+        }
+    }
+
+    /**
+     * @return the sort document with the mapped paths
+     */
+    BsonDocument sort() {
+        return sort;
+    }
+
+    /**
+     * Builds the filter for the documents sorting after the given values. For sort keys {@code a, b, _id} this is
+     * {@code a > x or (a == x and b > y) or (a == x and b == y and _id > z)} with {@code <} in place of {@code >} for descending keys.
+     * Null and missing values sort before all others and are accounted for on both sides of the comparison.
+     *
+     * @param values the sort key values of the last document of the previous page
+     * @return the filter
+     */
+    BsonDocument after(BsonArray values) {
+        List<String> paths = new ArrayList<>(sort.keySet());
+        BsonArray branches = new BsonArray();
+        for (int i = 0; i < paths.size(); i++) {
+            BsonArray conditions = new BsonArray();
+            for (int j = 0; j < i; j++) {
+                conditions.add(new BsonDocument(paths.get(j), new BsonDocument("$eq", values.get(j))));
+            }
+            String path = paths.get(i);
+            BsonValue value = values.get(i);
+            boolean ascending = sort.getNumber(path).intValue() > 0;
+            if (value.isNull()) {
+                if (!ascending) {
+                    // nothing sorts before null
+                    continue;
+                }
+                conditions.add(new BsonDocument(path, new BsonDocument("$ne", BsonNull.VALUE)));
+            } else if (ascending) {
+                conditions.add(new BsonDocument(path, new BsonDocument("$gt", value)));
+            } else {
+                conditions.add(new BsonDocument("$or", new BsonArray(List.of(
+                        new BsonDocument(path, new BsonDocument("$lt", value)),
+                        new BsonDocument(path, new BsonDocument("$eq", BsonNull.VALUE))))));
+            }
+            branches.add(conditions.size() == 1 ? conditions.get(0) : new BsonDocument("$and", conditions));
+        }
+        return new BsonDocument("$or", branches);
+    }
+
+    /**
+     * @param document a document returned by the query
+     * @return the values of the sort keys in the document
+     */
+    BsonArray values(BsonDocument document) {
+        BsonArray values = new BsonArray();
+        for (String path : sort.keySet()) {
+            BsonValue value = document;
+            for (String segment : path.split("\\.")) {
+                value = value != null && value.isDocument() ? value.asDocument().get(segment) : null;
+            }
+            values.add(value != null ? value : BsonNull.VALUE);
+        }
+        return values;
+    }
+
+    /**
+     * @param values the sort key values of the last document of a page
+     * @return the token for the page after it
+     */
+    String token(BsonArray values) {
+        BsonDocument token = new BsonDocument(SORT, sort).append(VALUES, values);
+        ByteBuffer buffer = new RawBsonDocument(token, new BsonDocumentCodec()).getByteBuffer().asNIO();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @param token a token created by {@link #token(BsonArray)}
+     * @return the sort key values held by the token
+     * @throws IllegalArgumentException if the token is malformed or was created for a different sort
+     */
+    BsonArray values(String token) {
+        BsonValue tokenSort;
+        BsonValue values;
+        try {
+            BsonDocument document = new RawBsonDocument(Base64.getUrlDecoder().decode(token));
+            tokenSort = document.get(SORT);
+            values = document.get(VALUES);
+        } catch (IllegalArgumentException | BsonSerializationException e) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken(sort.toJson()), e);
+        }
+        if (tokenSort == null || !tokenSort.isDocument() || !sameSort(tokenSort.asDocument())
+                || values == null || !values.isArray() || values.asArray().size() != sort.size()) {
+            throw new IllegalArgumentException(Sofia.invalidPageToken(sort.toJson()));
+        }
+        return values.asArray();
+    }
+
+    /**
+     * Document equality ignores the order of the keys but the order of the sort keys matters.
+     */
+    private boolean sameSort(BsonDocument other) {
+        return sort.equals(other) && new ArrayList<>(sort.keySet()).equals(new ArrayList<>(other.keySet()));
+    }
+}
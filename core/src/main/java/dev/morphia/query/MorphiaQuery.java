@@ -3,10 +3,15 @@ package dev.morphia.query;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.mongodb.ExplainVerbosity;
+import com.mongodb.ServerAddress;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
@@ -22,22 +27,39 @@ import dev.morphia.MorphiaDatastore;
 import dev.morphia.UpdateOptions;
 import dev.morphia.aggregation.stages.Stage;
 import dev.morphia.annotations.internal.MorphiaInternal;
+import dev.morphia.cache.EntityCache;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.MergingBsonDocument;
+import dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter;
 import dev.morphia.query.filters.Filter;
 import dev.morphia.query.updates.UpdateOperator;
 import dev.morphia.sofia.Sofia;
 
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static dev.morphia.mapping.codec.CodecHelper.coalesce;
 import static dev.morphia.mapping.codec.CodecHelper.document;
+import static dev.morphia.query.filters.Filters.and;
+import static dev.morphia.query.filters.Filters.gte;
+import static dev.morphia.query.filters.Filters.lt;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -49,6 +71,11 @@ import static java.util.stream.Collectors.toList;
 @MorphiaInternal
 public class MorphiaQuery<T> implements Query<T> {
     private static final Logger LOG = LoggerFactory.getLogger(MorphiaQuery.class);
+    /**
+     * The number of IDs sampled per partition when splitting a query. More samples give more even partitions at the cost of a larger
+     * sample.
+     */
+    private static final int SAMPLES_PER_PARTITION = 20;
     private final MorphiaDatastore datastore;
     private final Class<T> type;
     private final Mapper mapper;
@@ -95,6 +122,18 @@ public class MorphiaQuery<T> implements Query<T> {
         collectionName = collection.getNamespace().getCollectionName();
     }
 
+    private MorphiaQuery(MorphiaQuery<T> original) {
+        type = original.type;
+        datastore = original.datastore;
+        seedQuery = original.seedQuery;
+        mapper = original.mapper;
+        collection = original.collection;
+        collectionName = original.collectionName;
+        invalid = original.invalid;
+        validate = original.validate;
+        filters.addAll(original.filters);
+    }
+
     @Override
     public Query<T> filter(Filter... additional) {
         for (Filter filter : additional) {
@@ -113,16 +152,21 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public long count(CountOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
-        return datastore.operations().countDocuments(collection, getQueryDocument(), options);
+        return datastore.operations().countDocuments(collection, getQueryBson(), options);
     }
 
     @Override
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = datastore.configureCollection(options, this.collection);
-        if (options.multi()) {
-            return datastore.operations().deleteMany(collection, getQueryDocument(), options);
-        } else {
-            return datastore.operations().deleteOne(collection, getQueryDocument(), options);
+        BsonDocument query = getQueryBson();
+        try {
+            if (options.multi()) {
+                return datastore.operations().deleteMany(collection, query, options);
+            } else {
+                return datastore.operations().deleteOne(collection, query, options);
+            }
+        } finally {
+            invalidateCache(collection, query);
         }
     }
 
@@ -171,7 +215,12 @@ public class MorphiaQuery<T> implements Query<T> {
     @Override
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, collection);
-        return datastore.operations().findOneAndDelete(mongoCollection, getQueryDocument(), options);
+        BsonDocument query = getQueryBson();
+        try {
+            return datastore.operations().findOneAndDelete(mongoCollection, query, options);
+        } finally {
+            invalidateCache(mongoCollection, query);
+        }
     }
 
     @Override
@@ -196,8 +245,14 @@ public class MorphiaQuery<T> implements Query<T> {
 
         Operations value = new Operations(entityModel, coalesce(first, updates), validate);
 
-        return datastore.operations().findOneAndUpdate(datastore.configureCollection(options, collection),
-                toDocument(), value.toDocument(datastore), options);
+        MongoCollection<T> mongoCollection = datastore.configureCollection(options, collection);
+        BsonDocument query = getQueryBson();
+        try {
+            BsonDocument update = value.toBsonDocument(datastore);
+            return datastore.operations().findOneAndUpdate(mongoCollection, query, update, options);
+        } finally {
+            invalidateCache(mongoCollection, query);
+        }
     }
 
     @MorphiaInternal
@@ -207,7 +262,92 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, collection));
+        boolean tracked = isTracked(options);
+        if (options.batchReferences() && (mapper.isMapped(type) || mapper.isMappable(type))) {
+            return new MorphiaCursor<>(measured(options, () -> new ReferenceBatchingCursor<>(datastore, type,
+                    prepareCursor(options, collection.withDocumentClass(RawBsonDocument.class)), tracked)));
+        }
+        Object id = cacheableId(options);
+        if (id != null) {
+            return new MorphiaCursor<>(cachedLookup(options, id, tracked));
+        }
+        Executor executor = options.decodeExecutor();
+        if (executor != null && datastore.isSessionBound()) {
+            Sofia.logDecodeOnInSession();
+        } else if (executor != null) {
+            Codec<T> codec = datastore.getCodecRegistry().get(type);
+            return new MorphiaCursor<>(measured(options, () -> new ParallelDecodingCursor<>(
+                    prepareCursor(options, collection.withDocumentClass(RawBsonDocument.class)),
+                    document -> decode(codec, document, tracked), executor, options.decodeAhead(), !options.tailable())));
+        }
+        if (tracked) {
+            return new MorphiaCursor<>(measured(options, () -> new TrackingCursor<>(datastore, type,
+                    prepareCursor(options, collection.withDocumentClass(RawBsonDocument.class)))));
+        }
+        return new MorphiaCursor<>(measured(options, () -> prepareCursor(options, collection)));
+    }
+
+    @Override
+    public Page<T> page(FindOptions options, int size, @Nullable String after, Sort... sorts) {
+        if (size < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPageSize(size));
+        }
+        Keyset keyset = new Keyset(mapper, mapper.isMappable(type) ? mapper.getEntityModel(type) : null, validate, sorts);
+        Document sort = new Document();
+        keyset.sort().forEach((path, order) -> sort.put(path, order.asNumber().intValue()));
+        // one more than asked for to tell whether there is a next page
+        FindOptions pageOptions = options.copy()
+                .sort(sort)
+                .skip(0)
+                .limit(size + 1);
+
+        BsonDocument filter = after != null
+                ? new BsonDocument("$and", new BsonArray(List.of(getQueryBson(), keyset.after(keyset.values(after)))))
+                : getQueryBson();
+        boolean tracked = isTracked(pageOptions);
+        Codec<T> codec = datastore.getCodecRegistry().get(type);
+
+        List<RawBsonDocument> documents = new ArrayList<>();
+        MongoCollection<RawBsonDocument> raw = datastore.configureCollection(pageOptions,
+                collection.withDocumentClass(RawBsonDocument.class));
+        try (MongoCursor<RawBsonDocument> cursor = datastore.measured("find", raw,
+                () -> pageOptions.apply(datastore.operations().find(raw, filter), mapper, type).iterator())) {
+            cursor.forEachRemaining(documents::add);
+        }
+        boolean more = documents.size() > size;
+        List<RawBsonDocument> page = more ? documents.subList(0, size) : documents;
+        List<T> items = new ArrayList<>(page.size());
+        for (RawBsonDocument document : page) {
+            items.add(decode(codec, document, tracked));
+        }
+        return new Page<>(items, more ? keyset.token(keyset.values(page.get(page.size() - 1))) : null);
+    }
+
+    @Override
+    public List<Query<T>> partitions(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(Sofia.invalidPartitionCount(count));
+        }
+        List<BsonValue> boundaries = count == 1 ? List.of() : partitionBoundaries(count);
+        List<Query<T>> partitions = new ArrayList<>();
+        if (boundaries.isEmpty()) {
+            partitions.add(new MorphiaQuery<>(this));
+            return partitions;
+        }
+        // values of other types never compare as >= a boundary so the first partition also picks up any IDs of other types
+        partitions.add(new MorphiaQuery<>(this).filter(and(gte("_id", boundaries.get(0)).not())));
+        for (int i = 1; i < boundaries.size(); i++) {
+            partitions.add(new MorphiaQuery<>(this).filter(and(gte("_id", boundaries.get(i - 1)), lt("_id", boundaries.get(i)))));
+        }
+        partitions.add(new MorphiaQuery<>(this).filter(and(gte("_id", boundaries.get(boundaries.size() - 1)))));
+        return partitions;
+    }
+
+    @Override
+    public Stream<T> stream(FindOptions options, int partitions) {
+        Stream<T> stream = Query.super.stream(options, partitions);
+        // a session may only be used by one thread at a time so its partitions are read one after another
+        return datastore.isSessionBound() ? stream.sequential() : stream;
     }
 
     /**
@@ -222,26 +362,43 @@ public class MorphiaQuery<T> implements Query<T> {
         return getQueryDocument();
     }
 
+    /**
+     * Converts the query to the filter sent to the server, including any discriminator values needed
+     *
+     * @return the filter
+     * @hidden
+     * @morphia.internal
+     * @since 3.0
+     */
+    @MorphiaInternal
+    public BsonDocument toBsonDocument() {
+        return getQueryBson();
+    }
+
     @Override
     public UpdateResult update(UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
         if (invalid != null) {
             throw invalid;
         }
         EntityModel entityModel = mapper.getEntityModel(getEntityClass());
-        Document updateOperations = new Operations(entityModel, coalesce(first, updates), isValidate())
-                .toDocument(datastore);
+        BsonDocument updateOperations = new Operations(entityModel, coalesce(first, updates), isValidate())
+                .toBsonDocument(datastore);
 
-        final Document queryObject = toDocument();
+        final BsonDocument queryObject = getQueryBson();
         if (options.isUpsert()) {
             if (entityModel.useDiscriminator()) {
-                queryObject.put(entityModel.discriminatorKey(), entityModel.discriminator());
+                queryObject.put(entityModel.discriminatorKey(), new BsonString(entityModel.discriminator()));
             }
         }
 
         MongoCollection<T> mongoCollection = options.prepare(collection, datastore.getDatabase());
 
-        return options.multi() ? datastore.operations().updateMany(mongoCollection, queryObject, updateOperations, options)
-                : datastore.operations().updateOne(mongoCollection, queryObject, updateOperations, options);
+        try {
+            return options.multi() ? datastore.operations().updateMany(mongoCollection, queryObject, updateOperations, options)
+                    : datastore.operations().updateOne(mongoCollection, queryObject, updateOperations, options);
+        } finally {
+            invalidateCache(mongoCollection, queryObject);
+        }
     }
 
     @Override
@@ -251,19 +408,18 @@ public class MorphiaQuery<T> implements Query<T> {
         }
         var updateOperations = coalesce(first, stages)
                 .stream()
-                .map(update -> {
-                    DocumentWriter writer = new DocumentWriter(datastore.getMapper().getConfig());
-                    Codec codec = datastore.getCodecRegistry().get(update.getClass());
-                    codec.encode(writer, update, EncoderContext.builder().build());
-                    return writer.getDocument();
-                })
+                .map(update -> MergingBsonDocumentWriter.encode(update, datastore.getMapper(), datastore.getCodecRegistry()))
                 .collect(toList());
-        final Document queryObject = toDocument();
+        final BsonDocument queryObject = getQueryBson();
 
         MongoCollection<T> mongoCollection = datastore.configureCollection(options, datastore.configureCollection(options, collection));
-        return options.multi()
-                ? datastore.operations().updateMany(mongoCollection, queryObject, updateOperations, options)
-                : datastore.operations().updateOne(mongoCollection, queryObject, updateOperations, options);
+        try {
+            return options.multi()
+                    ? datastore.operations().updateMany(mongoCollection, queryObject, updateOperations, options)
+                    : datastore.operations().updateOne(mongoCollection, queryObject, updateOperations, options);
+        } finally {
+            invalidateCache(mongoCollection, queryObject);
+        }
     }
 
     @Override
@@ -297,9 +453,116 @@ public class MorphiaQuery<T> implements Query<T> {
         return collectionName;
     }
 
+    /**
+     * @return the ID to look up if the entity is cached and this query selects a single document by ID alone with default options
+     */
+    @Nullable
+    private Object cacheableId(FindOptions options) {
+        if (datastore.isSessionBound() || !mapper.isMappable(type)
+                || !datastore.getEntityCache().isCached(mapper.getEntityModel(type))
+                || !(options.equals(new FindOptions()) || options.equals(new FindOptions().limit(1)))) {
+            return null;
+        }
+        BsonDocument query = getQueryBson();
+        BsonValue id = query.get("_id");
+        return query.size() == 1 && isIdValue(id) ? id : null;
+    }
+
+    @Nullable
+    private CachedCursor<T> cachedLookup(FindOptions options, Object id, boolean tracked) {
+        EntityCache cache = datastore.getEntityCache();
+        EntityModel model = mapper.getEntityModel(type);
+        String name = datastore.configureCollection(options, collection).getNamespace().getCollectionName();
+
+        EntityCache.Entry entry = cache.get(model, name, id);
+        RawBsonDocument document;
+        ServerAddress address;
+        if (entry != null) {
+            document = entry.document();
+            address = entry.serverAddress();
+        } else {
+            long generation = cache.generation(model, name);
+            try (MongoCursor<RawBsonDocument> cursor = measured(options,
+                    () -> prepareCursor(options, collection.withDocumentClass(RawBsonDocument.class)))) {
+                document = cursor.tryNext();
+                address = cursor.getServerAddress();
+            }
+            if (document != null) {
+                cache.put(model, name, generation, document, address);
+            }
+        }
+        return new CachedCursor<>(document != null ? decode(datastore.getCodecRegistry().get(type), document, tracked) : null, address);
+    }
+
+    /**
+     * Picks the {@code _id} values splitting the collection in to roughly even ranges from a random, sorted sample. Only IDs of the most
+     * common type are used since range comparisons do not cross types.
+     */
+    private List<BsonValue> partitionBoundaries(int count) {
+        // sample only what this query matches so the partitions are balanced over its results rather than the whole collection
+        List<BsonDocument> pipeline = List.of(
+                new BsonDocument("$match", getQueryBson()),
+                new BsonDocument("$sample", new BsonDocument("size", new BsonInt32(count * SAMPLES_PER_PARTITION))),
+                new BsonDocument("$project", new BsonDocument("_id", new BsonInt32(1))),
+                new BsonDocument("$sort", new BsonDocument("_id", new BsonInt32(1))));
+        List<BsonValue> ids = new ArrayList<>();
+        try (MongoCursor<BsonDocument> cursor = datastore.measured("aggregate", collection,
+                () -> datastore.operations().aggregate(collection, pipeline, BsonDocument.class).iterator())) {
+            cursor.forEachRemaining(document -> ids.add(document.get("_id")));
+        }
+        ids.stream()
+                .collect(groupingBy(BsonValue::getBsonType, counting()))
+                .entrySet().stream()
+                .max(Entry.comparingByValue())
+                .ifPresent(common -> ids.removeIf(id -> id.getBsonType() != common.getKey()));
+
+        List<BsonValue> boundaries = new ArrayList<>();
+        for (int i = 1; i < count && !ids.isEmpty(); i++) {
+            BsonValue boundary = ids.get(i * ids.size() / count);
+            if (boundaries.isEmpty() || !boundaries.get(boundaries.size() - 1).equals(boundary)) {
+                boundaries.add(boundary);
+            }
+        }
+        return boundaries;
+    }
+
+    private T decode(Codec<T> codec, RawBsonDocument document, boolean tracked) {
+        T entity;
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            entity = codec.decode(reader, DecoderContext.builder().build());
+        }
+        if (tracked) {
+            datastore.trackChanges(entity, document);
+        }
+        return entity;
+    }
+
+    /**
+     * @return true if the entities read should be tracked for changes
+     */
+    private boolean isTracked(FindOptions options) {
+        return options.returnsWholeDocuments() && mapper.isMappable(type)
+                && datastore.getChangeTracker().isTracked(mapper.getEntityModel(type));
+    }
+
+    /**
+     * Drops any cached documents a write using the given query could have changed: the single document if the query names an ID,
+     * otherwise the whole collection.
+     */
+    private void invalidateCache(MongoCollection<?> collection, BsonDocument query) {
+        String name = collection.getNamespace().getCollectionName();
+        BsonValue id = query.get("_id");
+        datastore.invalidateCache(name, isIdValue(id) ? id : null);
+    }
+
+    private static boolean isIdValue(@Nullable BsonValue value) {
+        return value != null
+                && !(value.isDocument() && value.asDocument().keySet().stream().anyMatch(key -> key.startsWith("$")));
+    }
+
     @NonNull
     private <E> FindIterable<E> iterable(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+        final BsonDocument query = getQueryBson();
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -310,6 +573,10 @@ public class MorphiaQuery<T> implements Query<T> {
         return datastore.operations().find(updated, query);
     }
 
+    private <E> MongoCursor<E> measured(FindOptions options, Supplier<MongoCursor<E>> opener) {
+        return datastore.measured("find", datastore.configureCollection(options, collection), opener);
+    }
+
     @SuppressWarnings("ConstantConditions")
     private <E> MongoCursor<E> prepareCursor(FindOptions options, MongoCollection<E> collection) {
         Document oldProfile = null;
@@ -358,4 +625,44 @@ public class MorphiaQuery<T> implements Query<T> {
 
     }
 
+    /**
+     * Encodes the filters straight in to BSON for use with the driver. The result is equivalent to {@link #getQueryDocument()} but
+     * avoids building the intermediate Document.
+     */
+    private BsonDocument getQueryBson() {
+        if (invalid != null) {
+            throw invalid;
+        }
+        try {
+            BsonDocument query = new MergingBsonDocument();
+            if (seedQuery != null) {
+                query.putAll(seedQuery.toBsonDocument(BsonDocument.class, datastore.getCodecRegistry()));
+            }
+            MergingBsonDocumentWriter writer = new MergingBsonDocumentWriter(query);
+            document(writer, () -> {
+                EncoderContext context = EncoderContext.builder().build();
+                for (Filter filter : filters) {
+                    Codec codec = datastore.getCodecRegistry().get(filter.getClass());
+                    codec.encode(writer, filter, context);
+                }
+            });
+
+            if (mapper.isMappable(getEntityClass())) {
+                mapper.updateQueryWithDiscriminators(mapper.getEntityModel(getEntityClass()), query);
+            }
+
+            return query;
+        } catch (ValidationException e) {
+            invalid = e;
+            throw e;
+        } catch (BsonInvalidOperationException e) {
+            // custom filter codecs may rely on DocumentWriter being more forgiving than a strict BsonWriter
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(format("Could not encode the filters of query(%s) directly, encoding them through a Document instead: %s",
+                        getCollectionName(), filters), e);
+            }
+            return getQueryDocument().toBsonDocument(BsonDocument.class, datastore.getCodecRegistry());
+        }
+    }
+
 }
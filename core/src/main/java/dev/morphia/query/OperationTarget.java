@@ -9,14 +9,10 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
-import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter;
 
 import org.bson.Document;
 import org.bson.codecs.Codec;
-import org.bson.codecs.EncoderContext;
-
-import static dev.morphia.mapping.codec.CodecHelper.document;
-import static dev.morphia.mapping.codec.CodecHelper.value;
 
 /**
  * @hidden
@@ -66,9 +62,7 @@ public class OperationTarget {
         if (cachedCodec instanceof PropertyHandler) {
             mappedValue = ((PropertyHandler) cachedCodec).encode(value);
         } else {
-            DocumentWriter writer = new DocumentWriter(datastore.getMapper().getConfig());
-            document(writer, () -> value(datastore.getCodecRegistry(), writer, "mapped", value, EncoderContext.builder().build()));
-            mappedValue = writer.getDocument().get("mapped");
+            mappedValue = MergingBsonDocumentWriter.encodeValue(value, datastore.getMapper(), datastore.getCodecRegistry());
         }
         return new Document(target.translatedPath(), mappedValue);
     }
@@ -10,11 +10,16 @@ import java.util.StringJoiner;
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.query.updates.UpdateOperator;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import static dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter.encodeValue;
 
 /**
  * @morphia.internal
@@ -83,6 +88,7 @@ public class Operations {
      * @param datastore the datastore
      * @return the Document form of this instance
      */
+    @SuppressWarnings("unchecked")
     public Document toDocument(MorphiaDatastore datastore) {
         /*
          * maybe i'll come back to the codec solution
@@ -94,17 +100,14 @@ public class Operations {
          * return writer.getDocument();
          * 
          */
-        versionUpdate(datastore, model);
-        for (UpdateOperator update : updates) {
-            add(update.operator(), update.toOperationTarget(datastore, model, validate));
-        }
+        prepare(datastore);
         Document document = new Document();
         for (Entry<String, List<OperationTarget>> entry : ops.entrySet()) {
             Document targets = new Document();
             for (OperationTarget operationTarget : entry.getValue()) {
                 Object encode = operationTarget.encode(datastore);
-                if (encode instanceof Document) {
-                    targets.putAll((Document) encode);
+                if (encode instanceof Map) {
+                    targets.putAll((Map<String, ?>) encode);
                 } else {
                     document.put(entry.getKey(), encode);
                 }
@@ -116,4 +119,41 @@ public class Operations {
         return document;
     }
 
+    /**
+     * Encodes the updates straight to BSON so the driver can send them without encoding them again.
+     *
+     * @param datastore the datastore
+     * @return the BsonDocument form of this instance
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public BsonDocument toBsonDocument(MorphiaDatastore datastore) {
+        prepare(datastore);
+        Mapper mapper = datastore.getMapper();
+        CodecRegistry registry = datastore.getCodecRegistry();
+        BsonDocument document = new BsonDocument();
+        for (Entry<String, List<OperationTarget>> entry : ops.entrySet()) {
+            BsonDocument targets = new BsonDocument();
+            for (OperationTarget operationTarget : entry.getValue()) {
+                Object encode = operationTarget.encode(datastore);
+                if (encode instanceof Map) {
+                    ((Map<String, ?>) encode).forEach((path, value) -> targets.put(path, encodeValue(value, mapper, registry)));
+                } else {
+                    document.put(entry.getKey(), encodeValue(encode, mapper, registry));
+                }
+            }
+            if (!targets.isEmpty()) {
+                document.put(entry.getKey(), targets);
+            }
+        }
+        return document;
+    }
+
+    private void prepare(MorphiaDatastore datastore) {
+        versionUpdate(datastore, model);
+        for (UpdateOperator update : updates) {
+            add(update.operator(), update.toOperationTarget(datastore, model, validate));
+        }
+    }
+
 }
@@ -0,0 +1,52 @@
+package dev.morphia.query;
+
+import java.util.List;
+
+import com.mongodb.lang.Nullable;
+
+/**
+ * A page of results read with {@link Query#page(FindOptions, int, String, Sort...)}.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class Page<T> {
+    private final List<T> items;
+    @Nullable
+    private final String next;
+
+    Page(List<T> items, @Nullable String next) {
+        this.items = items;
+        this.next = next;
+    }
+
+    /**
+     * @return the entities on this page
+     */
+    public List<T> items() {
+        return items;
+    }
+
+    /**
+     * @return true if there are more results after this page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Returns the token to pass to {@link Query#page(FindOptions, int, String, Sort...)} to read the page after this one. The token
+     * captures the sort key values of the last entity on this page and is only valid with the same sort.
+     *
+     * @return the token for the next page or null if this is the last page
+     */
+    @Nullable
+    public String next() {
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "Page{items=" + items.size() + ", next=" + next + '}';
+    }
+}
@@ -0,0 +1,155 @@
+package dev.morphia.query;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.annotations.internal.MorphiaInternal;
+
+import org.bson.RawBsonDocument;
+
+/**
+ * Fetches results as raw documents and decodes them on an executor so that fetching and decoding are no longer serialized on the
+ * consuming thread. Results are returned in the order the server sent them. At most {@code readAhead} documents are fetched and
+ * decoding ahead of the consumer at any time.
+ * <p>
+ * The underlying cursor is only ever touched by the consuming thread. When prefetching, {@link #next()} fetches the next batch once the
+ * current one has been handed to the executor, so the server round trip overlaps with decoding the tail of that batch rather than
+ * following it. {@link #tryNext()} never waits on the server beyond what the underlying cursor's own {@code tryNext()} does.
+ *
+ * @param <T> the result type
+ * @hidden
+ * @morphia.internal
+ * @since 3.0
+ */
+@MorphiaInternal
+public class ParallelDecodingCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<RawBsonDocument> cursor;
+    private final Function<RawBsonDocument, T> decoder;
+    private final Executor executor;
+    private final int readAhead;
+    private final boolean prefetch;
+    private final Queue<CompletableFuture<T>> pending = new ArrayDeque<>();
+
+    /**
+     * @param cursor    the raw results
+     * @param decoder   the function decoding each result
+     * @param executor  the executor to decode on
+     * @param readAhead the maximum number of results to decode ahead of the consumer
+     * @param prefetch  true to fetch the next batch while the current one is still decoding. This should be false for tailable cursors
+     *                  where fetching may wait for new results to be written while decoded ones are ready.
+     */
+    public ParallelDecodingCursor(MongoCursor<RawBsonDocument> cursor, Function<RawBsonDocument, T> decoder, Executor executor,
+            int readAhead, boolean prefetch) {
+        this.cursor = cursor;
+        this.decoder = decoder;
+        this.executor = executor;
+        this.readAhead = Math.max(1, readAhead);
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void close() {
+        pending.forEach(future -> future.cancel(false));
+        pending.clear();
+        cursor.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty() || cursor.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        fill();
+        if (prefetch && pending.size() < readAhead && cursor.available() == 0 && cursor.hasNext()) {
+            // the tail of the last batch is still decoding so fetch the next one now rather than once it's been consumed
+            fill();
+        }
+        if (pending.isEmpty() && cursor.hasNext()) {
+            submit(cursor.next());
+        }
+        if (pending.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return take();
+    }
+
+    @Override
+    public int available() {
+        return pending.size() + cursor.available();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        fill();
+        if (pending.isEmpty()) {
+            RawBsonDocument document = cursor.tryNext();
+            if (document == null) {
+                return null;
+            }
+            submit(document);
+        }
+        return take();
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+
+    /**
+     * Hands the documents the underlying cursor has already fetched to the executor until the read ahead limit is reached. This never
+     * fetches from the server, which could block indefinitely for, e.g., a tailable cursor. The next batch is only fetched by
+     * {@link #next()}.
+     */
+    private void fill() {
+        while (pending.size() < readAhead && cursor.available() > 0) {
+            submit(cursor.next());
+        }
+    }
+
+    private void submit(RawBsonDocument document) {
+        pending.add(CompletableFuture.supplyAsync(() -> decoder.apply(document), executor));
+    }
+
+    private T take() {
+        T next = await(pending.remove());
+        fill();
+        return next;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
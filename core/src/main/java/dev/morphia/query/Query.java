@@ -1,5 +1,6 @@
 package dev.morphia.query;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -208,6 +209,51 @@ public interface Query<T> extends Iterable<T> {
      */
     MorphiaCursor<T> iterator(FindOptions options);
 
+    /**
+     * Reads a page of results using keyset pagination. Rather than skipping over earlier pages, each page after the first is found by
+     * filtering for the documents which sort after the last entity of the previous page. Deep pages cost no more to read than the first
+     * as long as an index supports the sort.
+     * <p>
+     * {@code _id} is added as the final sort key, if not already present, so that the order is total. The sort key values are read from
+     * the documents returned so projections must include them. Sort keys should hold single values rather than arrays.
+     *
+     * @param size  the maximum number of entities on the page
+     * @param after the {@link Page#next() token} of the previous page or null for the first page
+     * @param sorts the sort to page through the results by
+     * @return the page
+     * @since 3.0
+     */
+    default Page<T> page(int size, @Nullable String after, Sort... sorts) {
+        return page(new FindOptions(), size, after, sorts);
+    }
+
+    /**
+     * Reads a page of results using keyset pagination. Any sort, skip, or limit set on the options is replaced by the page's own.
+     *
+     * @param options the options to apply
+     * @param size    the maximum number of entities on the page
+     * @param after   the {@link Page#next() token} of the previous page or null for the first page
+     * @param sorts   the sort to page through the results by
+     * @return the page
+     * @see #page(int, String, Sort...)
+     * @since 3.0
+     */
+    Page<T> page(FindOptions options, int size, @Nullable String after, Sort... sorts);
+
+    /**
+     * Splits this query in to independent queries over contiguous, non-overlapping ranges of {@code _id} values. Together the partitions
+     * match exactly the documents this query matches so each can be iterated on its own thread to scan a large collection concurrently.
+     * The range boundaries are taken from a random sample of the documents this query matches so partitions are only approximately the same size and fewer
+     * partitions than requested are returned when the collection is too small to split that finely.
+     * <p>
+     * Sorts, skips, and limits apply to each partition separately.
+     *
+     * @param count the number of partitions wanted
+     * @return the partitions
+     * @since 3.0
+     */
+    List<Query<T>> partitions(int count);
+
     /**
      * Provides a {@link Stream} representation of the results of this query.
      *
@@ -230,6 +276,27 @@ public interface Query<T> extends Iterable<T> {
         return StreamSupport.stream(spliterator, false);
     }
 
+    /**
+     * Provides a parallel {@link Stream} of the results of this query. The query is split in to {@link #partitions(int) partitions} which
+     * are each read through their own cursor as the stream's workers pick them up. Within a session the partitions are read one after
+     * another as a session may only be used by one thread at a time.
+     *
+     * @param options    the options to apply to each partition
+     * @param partitions the number of partitions to split the query in to
+     * @return the stream
+     * @see #partitions(int)
+     * @since 3.0
+     */
+    default Stream<T> stream(FindOptions options, int partitions) {
+        return partitions(partitions)
+                .parallelStream()
+                .flatMap(partition -> {
+                    MorphiaCursor<T> cursor = partition.iterator(options);
+                    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, 0), false)
+                            .onClose(cursor::close);
+                });
+    }
+
     /**
      * Creates an update operation based on this query
      *
@@ -0,0 +1,116 @@
+package dev.morphia.query;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+/**
+ * Decodes query results a server batch at a time so that the eager references of the whole batch can be loaded together.
+ *
+ * @param <T> the entity type
+ * @see FindOptions#batchReferences(boolean)
+ * @since 3.0
+ */
+class ReferenceBatchingCursor<T> implements MongoCursor<T> {
+    private final MorphiaDatastore datastore;
+    private final Class<T> type;
+    private final MongoCursor<RawBsonDocument> cursor;
+    private final Codec<T> codec;
+    private final boolean tracked;
+    private final Deque<T> decoded = new ArrayDeque<>();
+
+    ReferenceBatchingCursor(MorphiaDatastore datastore, Class<T> type, MongoCursor<RawBsonDocument> cursor, boolean tracked) {
+        this.datastore = datastore;
+        this.type = type;
+        this.cursor = cursor;
+        this.tracked = tracked;
+        codec = datastore.getCodecRegistry().get(type);
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !decoded.isEmpty() || cursor.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        if (decoded.isEmpty()) {
+            decodeBatch(cursor.next());
+        }
+        return decoded.remove();
+    }
+
+    @Override
+    public int available() {
+        return decoded.size() + cursor.available();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        if (decoded.isEmpty()) {
+            RawBsonDocument first = cursor.tryNext();
+            if (first == null) {
+                return null;
+            }
+            decodeBatch(first);
+        }
+        return decoded.poll();
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+
+    private void decodeBatch(RawBsonDocument first) {
+        List<RawBsonDocument> documents = new ArrayList<>();
+        documents.add(first);
+        while (cursor.available() > 0) {
+            documents.add(cursor.next());
+        }
+
+        ReferenceBatch.load(datastore, datastore.getMapper().getEntityModel(type), documents)
+                .apply(() -> {
+                    DecoderContext decoderContext = DecoderContext.builder().build();
+                    for (RawBsonDocument document : documents) {
+                        T entity;
+                        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+                            entity = codec.decode(reader, decoderContext);
+                        }
+                        if (tracked) {
+                            datastore.trackChanges(entity, document);
+                        }
+                        decoded.add(entity);
+                    }
+                });
+    }
+}
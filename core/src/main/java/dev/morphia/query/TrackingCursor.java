@@ -0,0 +1,82 @@
+package dev.morphia.query;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.lang.NonNull;
+import com.mongodb.lang.Nullable;
+
+import dev.morphia.MorphiaDatastore;
+
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+/**
+ * Decodes query results while keeping the document each entity was read from so that later saves can send only what changed.
+ *
+ * @param <T> the entity type
+ * @see dev.morphia.annotations.TrackChanges
+ * @since 3.0
+ */
+class TrackingCursor<T> implements MongoCursor<T> {
+    private final MongoCursor<RawBsonDocument> cursor;
+    private final Codec<T> codec;
+    private final MorphiaDatastore datastore;
+
+    TrackingCursor(MorphiaDatastore datastore, Class<T> type, MongoCursor<RawBsonDocument> cursor) {
+        this.cursor = cursor;
+        codec = datastore.getCodecRegistry().get(type);
+        this.datastore = datastore;
+    }
+
+    @Override
+    public void close() {
+        cursor.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor.hasNext();
+    }
+
+    @Override
+    @NonNull
+    public T next() {
+        return decode(cursor.next());
+    }
+
+    @Override
+    public int available() {
+        return cursor.available();
+    }
+
+    @Override
+    @Nullable
+    public T tryNext() {
+        RawBsonDocument document = cursor.tryNext();
+        return document != null ? decode(document) : null;
+    }
+
+    @Override
+    @Nullable
+    public ServerCursor getServerCursor() {
+        return cursor.getServerCursor();
+    }
+
+    @Override
+    @NonNull
+    public ServerAddress getServerAddress() {
+        return cursor.getServerAddress();
+    }
+
+    private T decode(RawBsonDocument document) {
+        T entity;
+        try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+            entity = codec.decode(reader, DecoderContext.builder().build());
+        }
+        datastore.trackChanges(entity, document);
+        return entity;
+    }
+}
@@ -5,12 +5,10 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
-import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter;
 import dev.morphia.query.OperationTarget;
 
-import org.bson.Document;
-import org.bson.codecs.Codec;
-import org.bson.codecs.EncoderContext;
+import org.bson.BsonDocument;
 
 /**
  * @morphia.internal
@@ -39,7 +37,6 @@ class SetEntityOperator extends UpdateOperator {
 
         return new OperationTarget(null, value()) {
             @Override
-            @SuppressWarnings("unchecked")
             public Object encode(MorphiaDatastore datastore) {
                 Object value = value();
                 EntityModel entityModel = datastore.getMapper().getEntityModel(value.getClass());
@@ -48,12 +45,7 @@ class SetEntityOperator extends UpdateOperator {
                     return super.encode(datastore);
                 }
 
-                Codec<Object> codec = datastore.getCodecRegistry().get((Class<Object>) value.getClass());
-                DocumentWriter writer = new DocumentWriter(datastore.getMapper().getConfig());
-
-                codec.encode(writer, value, EncoderContext.builder().build());
-
-                Document document = writer.getDocument();
+                BsonDocument document = MergingBsonDocumentWriter.encode(value, datastore.getMapper(), datastore.getCodecRegistry());
                 document.remove(versionProperty.getMappedName());
                 return document;
             }
@@ -8,13 +8,12 @@ import dev.morphia.annotations.internal.MorphiaInternal;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
-import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.MergingBsonDocument;
 import dev.morphia.query.OperationTarget;
 
-import org.bson.codecs.Codec;
-import org.bson.codecs.EncoderContext;
+import org.bson.BsonDocument;
 
-import static dev.morphia.mapping.codec.CodecHelper.document;
+import static dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter.encodeValue;
 
 /**
  * @morphia.internal
@@ -41,25 +40,20 @@ class SetOnInsertOperator extends UpdateOperator {
      */
     @MorphiaInternal
     @Override
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     public OperationTarget toOperationTarget(MorphiaDatastore datastore, EntityModel model, boolean validate) {
         var pathTarget = new PathTarget(datastore.getMapper(), model, field(), validate);
 
         Mapper mapper = pathTarget.mapper();
-        DocumentWriter writer = new DocumentWriter(mapper.getConfig());
-        document(writer, () -> {
-            insertValues.forEach((key, value) -> {
-                PathTarget keyTarget = new PathTarget(mapper, model, key, true);
-                writer.writeName(keyTarget.translatedPath());
-                Codec valueCodec = datastore.getCodecRegistry().get(value.getClass());
-                valueCodec.encode(writer, value, EncoderContext.builder().build());
-            });
+        BsonDocument document = new MergingBsonDocument();
+        insertValues.forEach((key, value) -> {
+            PathTarget keyTarget = new PathTarget(mapper, model, key, true);
+            document.put(keyTarget.translatedPath(), encodeValue(value, mapper, datastore.getCodecRegistry()));
         });
 
         return new OperationTarget(null, null) {
             @Override
             public Object encode(MorphiaDatastore datastore) {
-                return writer.getDocument();
+                return document;
             }
         };
     }
@@ -1,14 +1,22 @@
 package dev.morphia.transactions;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.mongodb.ClientSessionOptions;
 import com.mongodb.ServerAddress;
 import com.mongodb.TransactionOptions;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.TransactionBody;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertManyResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -33,6 +41,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * @hidden
@@ -43,17 +52,18 @@ import org.bson.Document;
 public class SessionDatastore extends MorphiaDatastore implements MorphiaSession {
 
     private final ClientSession session;
+    private final List<Runnable> pendingInvalidations = new ArrayList<>();
+    private final Queue<Runnable> pendingTracking = new ConcurrentLinkedQueue<>();
 
     /**
-     * Creates a new session.
+     * Creates a new session. The session shares the mapping and codecs of the datastore it is created from.
      *
      * @param datastore the datastore
      * @param session   the client session
      */
     @SuppressFBWarnings("EI_EXPOSE_REP2")
     public SessionDatastore(MorphiaDatastore datastore, ClientSession session) {
-        super(datastore);
-        operations(new TransactionalOperations());
+        super(datastore, client -> new TransactionalOperations(client, session));
         this.session = session;
     }
 
@@ -95,17 +105,34 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
     @Override
     public void commitTransaction() {
-        session.commitTransaction();
+        boolean committed = false;
+        try {
+            session.commitTransaction();
+            committed = true;
+        } finally {
+            transactionEnded(committed);
+        }
     }
 
     @Override
     public void abortTransaction() {
-        session.abortTransaction();
+        try {
+            session.abortTransaction();
+        } finally {
+            transactionEnded(false);
+        }
     }
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody) {
-        return session.withTransaction(transactionBody);
+        boolean committed = false;
+        try {
+            T result = session.withTransaction(transactionBody);
+            committed = true;
+            return result;
+        } finally {
+            transactionEnded(committed);
+        }
     }
 
     @Override
@@ -115,7 +142,14 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
     @Override
     public <T> T withTransaction(TransactionBody<T> transactionBody, TransactionOptions options) {
-        return session.withTransaction(transactionBody, options);
+        boolean committed = false;
+        try {
+            T result = session.withTransaction(transactionBody, options);
+            committed = true;
+            return result;
+        } finally {
+            transactionEnded(committed);
+        }
     }
 
     /**
@@ -187,34 +221,53 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         session.advanceClusterTime(clusterTime);
     }
 
-    private class TransactionalOperations extends DatastoreOperations {
+    private static class TransactionalOperations extends DatastoreOperations {
+        private final MongoClient client;
+        private final ClientSession session;
+
+        TransactionalOperations(MongoClient client, ClientSession session) {
+            this.client = client;
+            this.session = session;
+        }
+
+        @Override
+        public <T, R> AggregateIterable<R> aggregate(MongoCollection<T> collection, List<? extends Bson> pipeline, Class<R> resultType) {
+            return collection.aggregate(session, pipeline, resultType);
+        }
+
+        @Override
+        public <T> BulkWriteResult bulkWrite(MongoCollection<T> collection, List<? extends WriteModel<? extends T>> requests,
+                BulkWriteOptions options) {
+            return collection.bulkWrite(session, requests, options);
+        }
+
         @Override
-        public <T> long countDocuments(MongoCollection<T> collection, Document query, CountOptions options) {
+        public <T> long countDocuments(MongoCollection<T> collection, Bson query, CountOptions options) {
             return collection.countDocuments(session, query, options);
         }
 
         @Override
-        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteMany(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteMany(session, queryDocument, options);
         }
 
         @Override
-        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Document queryDocument, DeleteOptions options) {
+        public <T> DeleteResult deleteOne(MongoCollection<T> collection, Bson queryDocument, DeleteOptions options) {
             return collection.deleteOne(session, queryDocument, options);
         }
 
         @Override
-        public <E> FindIterable<E> find(MongoCollection<E> collection, Document query) {
+        public <E> FindIterable<E> find(MongoCollection<E> collection, Bson query) {
             return collection.find(session, query);
         }
 
         @Override
-        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Document queryDocument, FindAndDeleteOptions options) {
+        public <T> T findOneAndDelete(MongoCollection<T> mongoCollection, Bson queryDocument, FindAndDeleteOptions options) {
             return mongoCollection.findOneAndDelete(session, queryDocument, options);
         }
 
         @Override
-        public <T> T findOneAndUpdate(MongoCollection<T> collection, Document query, Document update, ModifyOptions options) {
+        public <T> T findOneAndUpdate(MongoCollection<T> collection, Bson query, Bson update, ModifyOptions options) {
             return collection.findOneAndUpdate(session, query, update, options);
         }
 
@@ -235,31 +288,31 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
 
         @Override
         public Document runCommand(Document command) {
-            return getMongoClient()
+            return client
                     .getDatabase("admin")
                     .runCommand(session, command);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateMany(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateMany(MongoCollection<T> collection, Bson query, List<? extends Bson> updates,
                 UpdateOptions options) {
             return collection.updateMany(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, Document updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, Bson updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
 
         @Override
-        public <T> UpdateResult updateOne(MongoCollection<T> collection, Document query, List<Document> updates,
+        public <T> UpdateResult updateOne(MongoCollection<T> collection, Bson query, List<? extends Bson> updates,
                 UpdateOptions options) {
             return collection.updateOne(session, query, updates, options);
         }
@@ -275,8 +328,55 @@ public class SessionDatastore extends MorphiaDatastore implements MorphiaSession
         return session.getClusterTime();
     }
 
+    @Override
+    public boolean isSessionBound() {
+        return true;
+    }
+
+    /**
+     * Drops the written documents from the entity cache. Within a transaction this is deferred until the transaction ends. Dropping them
+     * as each write returns would let a read outside the transaction cache the document as it was before the commit.
+     */
+    @Override
+    public void invalidateCache(String collection, @Nullable Object id) {
+        if (session.hasActiveTransaction()) {
+            pendingInvalidations.add(() -> super.invalidateCache(collection, id));
+        } else {
+            super.invalidateCache(collection, id);
+        }
+    }
+
+    /**
+     * Records the state of a tracked entity. Within a transaction the entity's previous state is discarded and the new state only
+     * recorded if the transaction commits so that an aborted write can not leave behind a state the database never had.
+     */
+    @Override
+    public void trackChanges(Object entity, BsonDocument document) {
+        if (session.hasActiveTransaction()) {
+            getChangeTracker().forget(entity);
+            pendingTracking.add(() -> super.trackChanges(entity, document));
+        } else {
+            super.trackChanges(entity, document);
+        }
+    }
+
     @Override
     public void close() {
-        session.close();
+        try {
+            session.close();
+        } finally {
+            transactionEnded(false);
+        }
+    }
+
+    private void transactionEnded(boolean committed) {
+        pendingInvalidations.forEach(Runnable::run);
+        pendingInvalidations.clear();
+        Runnable tracking;
+        while ((tracking = pendingTracking.poll()) != null) {
+            if (committed) {
+                tracking.run();
+            }
+        }
     }
 }
@@ -29,6 +29,10 @@ class MongoHolder implements AutoCloseable {
         }
     }
 
+    public String getConnectionString() {
+        return connectionString;
+    }
+
     public boolean isAlive() {
         return mongoDBContainer != null && mongoDBContainer.isRunning();
     }
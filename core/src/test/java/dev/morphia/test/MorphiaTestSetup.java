@@ -117,6 +117,10 @@ public class MorphiaTestSetup {
         return getMongoHolder().getMongoClient();
     }
 
+    protected String getConnectionString() {
+        return getMongoHolder().getConnectionString();
+    }
+
     protected Version getServerVersion() {
         return morphiaContainer.getServerVersion();
     }
@@ -22,9 +22,11 @@ import dev.morphia.query.FindOptions;
 import dev.morphia.query.MorphiaQuery;
 import dev.morphia.test.util.Comparanator;
 
+import org.bson.BsonDocument;
 import org.bson.BsonInvalidOperationException;
 import org.bson.Document;
 import org.bson.codecs.DecoderContext;
+import org.bson.conversions.Bson;
 import org.bson.json.JsonParseException;
 import org.bson.json.JsonWriterSettings;
 import org.jetbrains.annotations.NotNull;
@@ -212,7 +214,7 @@ public abstract class TemplatedTestBase extends TestBase {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected List<Document> runPipeline(String pipelineTemplate, Aggregation<Document> aggregation) {
         String pipelineName = format("%s/%s/pipeline.json", prefix(), pipelineTemplate);
-        List<Document> pipeline = ((AggregationImpl) aggregation).pipeline();
+        List<BsonDocument> pipeline = ((AggregationImpl) aggregation).pipeline();
 
         if (!skipPipelineCheck) {
             List<Document> target = loadPipeline(pipelineName);
@@ -228,9 +230,9 @@ public abstract class TemplatedTestBase extends TestBase {
         }
     }
 
-    private String toJson(List<Document> pipeline) {
+    private String toJson(List<? extends Bson> pipeline) {
         return pipeline.stream()
-                .map(d -> d.toJson(JSON_WRITER_SETTINGS, getDatabase().getCodecRegistry().get(Document.class)))
+                .map(d -> d.toBsonDocument(BsonDocument.class, getDatabase().getCodecRegistry()).toJson(JSON_WRITER_SETTINGS))
                 .collect(joining("\n, ", "[\n", "\n]"));
     }
 
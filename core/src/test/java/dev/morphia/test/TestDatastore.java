@@ -5,11 +5,15 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.mongodb.MongoWriteException;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.result.DeleteResult;
@@ -25,6 +29,7 @@ import dev.morphia.MissingIdException;
 import dev.morphia.ModifyOptions;
 import dev.morphia.MorphiaDatastore;
 import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.Cached;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.EntityListeners;
 import dev.morphia.annotations.Id;
@@ -32,10 +37,14 @@ import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.TrackChanges;
 import dev.morphia.annotations.Transient;
+import dev.morphia.cache.CacheStatistics;
+import dev.morphia.internal.ChangeTracker;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.metrics.InMemoryMetrics;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
@@ -54,7 +63,9 @@ import dev.morphia.test.models.Population;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.TestEntity;
 import dev.morphia.test.models.User;
+import dev.morphia.transactions.MorphiaSession;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.codecs.EncoderContext;
 import org.bson.types.ObjectId;
@@ -73,6 +84,7 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 
@@ -234,6 +246,36 @@ public class TestDatastore extends TestBase {
                 });
     }
 
+    @Test
+    public void testMetrics() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        withConfig(buildConfig()
+                .packages(of(LifecycleTestObj.class.getPackageName(), FacebookUser.class.getPackageName()))
+                .metrics(metrics), () -> {
+                    String users = getMapper().getEntityModel(FacebookUser.class).collectionName();
+                    getDs().insert(new FacebookUser(1, "John Doe"));
+                    getDs().insert(new FacebookUser(2, "Jane Doe"));
+                    assertThrows(MongoWriteException.class, () -> getDs().insert(new FacebookUser(1, "John Doe")));
+
+                    assertEquals(getDs().find(FacebookUser.class).iterator().toList().size(), 2);
+                    assertEquals(getDs().find(FacebookUser.class).count(), 2);
+
+                    assertEquals(metrics.operation("insertOne", users).count(), 3);
+                    assertEquals(metrics.failures("insertOne", users).count(), 1);
+                    assertEquals(metrics.operation("find", users).count(), 1);
+                    assertEquals(metrics.documents("find", users).total(), 2);
+                    assertEquals(metrics.operation("countDocuments", users).count(), 1);
+                    assertTrue(metrics.encodeTimes(FacebookUser.class).count() >= 3);
+                    assertEquals(metrics.decodeTimes(FacebookUser.class).count(), 2);
+                    assertTrue(metrics.decodeBytes(FacebookUser.class).total() > 0);
+
+                    getDs().save(new LifecycleTestObj());
+                    assertNotNull(getDs().find(LifecycleTestObj.class).first());
+                    assertEquals(metrics.lifecycle(LifecycleTestObj.class, PostLoad.class).count(), 1);
+                    assertTrue(metrics.lifecycle(LifecycleTestObj.class, PrePersist.class).count() > 0);
+                });
+    }
+
     @Test
     public void testDeleteWithCollation() {
         getDs().save(asList(new FacebookUser(1, "John Doe"),
@@ -601,6 +643,115 @@ public class TestDatastore extends TestBase {
                 .next().loginCount, 2);
     }
 
+    @Test
+    public void testCachedEntity() {
+        CachedEntity entity = new CachedEntity("first");
+        entity.address = new Address();
+        entity.address.setStreet("Main Street");
+        getDs().save(entity);
+        Query<CachedEntity> query = getDs().find(CachedEntity.class).filter(eq("_id", entity.id));
+
+        CachedEntity loaded = query.first();
+        assertEquals(loaded.name, "first");
+        CachedEntity hit = query.first();
+        assertNotSame(hit, loaded);
+        assertEquals(hit.address.getStreet(), "Main Street");
+        CacheStatistics statistics = getDs().getCacheStatistics(CachedEntity.class);
+        assertEquals(statistics.misses(), 1);
+        assertEquals(statistics.hits(), 1);
+        assertEquals(statistics.size(), 1);
+        try (MongoCursor<CachedEntity> cursor = query.iterator()) {
+            assertNotNull(cursor.getServerAddress());
+        }
+
+        getDs().getCollection(CachedEntity.class)
+                .updateOne(Filters.eq("_id", entity.id), new Document("$set", new Document("name", "outside")));
+        assertEquals(query.first().name, "first");
+
+        query.update(set("name", "updated"));
+        assertEquals(query.first().name, "updated");
+
+        entity.name = "saved";
+        getDs().save(entity);
+        assertEquals(query.first().name, "saved");
+
+        getDs().delete(entity);
+        assertNull(query.first());
+        assertEquals(getDs().getCacheStatistics(CachedEntity.class).hits(), 2);
+    }
+
+    @Test
+    public void testCachedEntityInTransaction() {
+        checkForReplicaSet();
+        CachedEntity entity = getDs().save(new CachedEntity("first"));
+        Query<CachedEntity> query = getDs().find(CachedEntity.class).filter(eq("_id", entity.id));
+
+        getDs().withTransaction(session -> {
+            entity.name = "saved";
+            session.save(entity);
+            assertEquals(query.first().name, "first");
+            return null;
+        });
+
+        assertEquals(query.first().name, "saved");
+    }
+
+    @Test
+    public void testTrackedChanges() {
+        Document changes = ChangeTracker.changes(BsonDocument.parse("{_id: 1, a: {b: 1, c: 2}, d: [1], e: 1}"),
+                BsonDocument.parse("{_id: 1, a: {b: 2}, d: [1, 2]}"), null);
+        assertEquals(changes, new Document("$set", BsonDocument.parse("{'a.b': 2, d: [1, 2]}"))
+                .append("$unset", BsonDocument.parse("{'a.c': 1, e: 1}")));
+
+        TrackedEntity entity = new TrackedEntity("first");
+        entity.details.put("color", "red");
+        entity.details.put("size", "large");
+        entity.address = new Address();
+        entity.address.setStreet("Main Street");
+        getDs().save(entity);
+        Query<TrackedEntity> query = getDs().find(TrackedEntity.class).filter(eq("_id", entity.id));
+
+        TrackedEntity loaded = query.first();
+        assertNotNull(getDs().getChangeTracker().snapshot(loaded));
+        assertEquals(loaded.address.getStreet(), "Main Street");
+
+        MongoCollection<Document> collection = getDs().getCollection(TrackedEntity.class).withDocumentClass(Document.class);
+        collection.updateOne(Filters.eq("_id", entity.id), new Document("$set", new Document("count", 42)));
+
+        loaded.details.put("color", "blue");
+        loaded.details.remove("size");
+        getDs().save(loaded);
+
+        Document stored = collection.find(Filters.eq("_id", entity.id)).first();
+        assertEquals(stored.getInteger("count"), 42);
+        assertEquals(stored.get("details", Document.class), new Document("color", "blue"));
+
+        loaded.name = "merged";
+        assertSame(getDs().merge(loaded, new InsertOneOptions().refresh(false)), loaded);
+        TrackedEntity merged = query.first();
+        assertEquals(merged.name, "merged");
+        assertEquals(merged.count, 42);
+    }
+
+    @Test
+    public void testTrackedChangesAfterAbort() {
+        checkForReplicaSet();
+        TrackedEntity entity = getDs().save(new TrackedEntity("first"));
+        Query<TrackedEntity> query = getDs().find(TrackedEntity.class).filter(eq("_id", entity.id));
+
+        try (MorphiaSession session = getDs().startSession()) {
+            session.startTransaction();
+            entity.name = "second";
+            session.save(entity);
+            session.abortTransaction();
+        }
+        assertNull(getDs().getChangeTracker().snapshot(entity));
+        assertEquals(query.first().name, "first");
+
+        getDs().save(entity);
+        assertEquals(query.first().name, "second");
+    }
+
     private static class LifecycleListener implements EntityListener<LifecycleTestObj> {
         private static boolean prePersist;
         private static boolean prePersistWithEntity;
@@ -732,4 +883,38 @@ public class TestDatastore extends TestBase {
         }
     }
 
+    @TrackChanges
+    @Entity("tracked")
+    private static class TrackedEntity {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+        private Map<String, String> details = new HashMap<>();
+        private Address address;
+
+        TrackedEntity() {
+        }
+
+        TrackedEntity(String name) {
+            this.name = name;
+        }
+    }
+
+    @Cached
+    @Entity("cached")
+    private static class CachedEntity {
+        @Id
+        private ObjectId id;
+        private String name;
+        private Address address;
+
+        CachedEntity() {
+        }
+
+        CachedEntity(String name) {
+            this.name = name;
+        }
+    }
+
 }
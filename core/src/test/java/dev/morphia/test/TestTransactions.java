@@ -11,13 +11,16 @@ import dev.morphia.Datastore;
 import dev.morphia.aggregation.stages.Lookup;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Reference;
+import dev.morphia.annotations.Transient;
 import dev.morphia.query.filters.Filters;
 import dev.morphia.test.mapping.lazy.TestLazyCircularReference.ReferencedEntity;
 import dev.morphia.test.mapping.lazy.TestLazyCircularReference.RootEntity;
 import dev.morphia.test.models.Rectangle;
 import dev.morphia.test.models.User;
 import dev.morphia.transactions.MorphiaSession;
+import dev.morphia.transactions.SessionDatastore;
 
 import org.bson.types.ObjectId;
 import org.testng.Assert;
@@ -30,6 +33,7 @@ import static dev.morphia.query.updates.UpdateOperators.inc;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 //@Tags(@Tag("transactions"))
 public class TestTransactions extends TemplatedTestBase {
@@ -299,6 +303,70 @@ public class TestTransactions extends TemplatedTestBase {
         assertEquals(getDs().find(Rectangle.class).first().getWidth(), rectangle.getWidth() + 13, 0.5);
     }
 
+    @Test
+    public void sessionSharesMapping() {
+        try (SessionDatastore session = getDs().startSession()) {
+            assertSame(session.getMapper(), getDs().getMapper());
+            assertSame(session.morphiaCodecProviders, getDs().morphiaCodecProviders);
+            assertEquals(session.getCodecRegistry().get(Company.class).getEncoderClass(), Company.class);
+        }
+
+        Company company = new Company();
+        company.name = "MongoDB";
+        Employee employee = new Employee();
+        employee.email = "employee@mongodb.com";
+        employee.company = company;
+
+        getDs().withTransaction(session -> {
+            session.save(company);
+            session.save(employee);
+
+            assertNull(getDs().find(Company.class).first());
+            Employee found = session.find(Employee.class).first();
+            assertNotNull(found);
+            assertNotNull(found.company);
+            assertEquals(found.company.name, company.name);
+
+            return null;
+        });
+    }
+
+    @Test
+    public void listenersRunWithTheSession() {
+        createCollection(Audited.class);
+        Audited audited = new Audited();
+
+        getDs().withTransaction(session -> {
+            session.save(audited);
+            assertSame(audited.datastore, session);
+            return null;
+        });
+
+        getDs().save(audited);
+        assertSame(audited.datastore, getDs());
+    }
+
+    @Test
+    public void lazyReferencesLoadThroughTheSession() {
+        checkForProxyTypes();
+        createCollection(RootEntity.class);
+        createCollection(ReferencedEntity.class);
+
+        getDs().withTransaction(session -> {
+            ReferencedEntity ref = new ReferencedEntity();
+            ref.setFoo("bar");
+            RootEntity root = new RootEntity();
+            root.setR(ref);
+            session.save(ref);
+            session.save(root);
+
+            RootEntity found = session.find(RootEntity.class).filter(Filters.eq("_id", root.getId())).first();
+            assertNotNull(found);
+            assertEquals(found.getR().getFoo(), "bar");
+            return null;
+        });
+    }
+
     @Test
     public void testFetchAfterTransactionalDelete() {
         checkForProxyTypes();
@@ -328,6 +396,25 @@ public class TestTransactions extends TemplatedTestBase {
         String name;
     }
 
+    private void createCollection(Class<?> type) {
+        String name = getMapper().getEntityModel(type).collectionName();
+        getDs().getCollection(type).drop();
+        getDatabase().createCollection(name);
+    }
+
+    @Entity
+    private static class Audited {
+        @Id
+        private ObjectId id;
+        @Transient
+        private Datastore datastore;
+
+        @PrePersist
+        void audit(Datastore datastore) {
+            this.datastore = datastore;
+        }
+    }
+
     @Entity
     private static class Employee {
         @Id
@@ -30,6 +30,7 @@ import dev.morphia.annotations.Id;
 import dev.morphia.annotations.Indexed;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.MorphiaCursor;
 import dev.morphia.query.Operations;
@@ -54,6 +55,7 @@ import dev.morphia.test.query.TestQuery.CappedPic;
 import dev.morphia.test.query.TestQuery.ContainsPic;
 import dev.morphia.test.query.TestQuery.Pic;
 
+import org.bson.BsonDocument;
 import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
@@ -1344,4 +1346,16 @@ public class TestUpdateOperations extends TestBase {
         assertTrue(json.contains(format), format("failed to find '%s' in:%n%s", format, json));
     }
 
+    @Test(dataProvider = "paths")
+    public void testBsonTranslations(TranslationParams params) {
+        CodecRegistry registry = getDs().getCodecRegistry();
+        EntityModel model = getMapper().getEntityModel(Hotel.class);
+
+        BsonDocument document = new Operations(model, List.of(params.operator), false)
+                .toDocument(getDs())
+                .toBsonDocument(BsonDocument.class, registry);
+
+        assertEquals(new Operations(model, List.of(params.operator), false).toBsonDocument(getDs()), document);
+    }
+
 }
@@ -10,7 +10,9 @@ import com.mongodb.client.result.UpdateResult;
 
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
 import dev.morphia.ModifyOptions;
+import dev.morphia.ReplaceOptions;
 import dev.morphia.UpdateOptions;
 import dev.morphia.VersionMismatchException;
 import dev.morphia.annotations.Entity;
@@ -296,6 +298,33 @@ public class TestVersioning extends TestBase {
         assertThrows(VersionMismatchException.class, () -> getDs().save(initial));
     }
 
+    @Test
+    public void testMultiSavesInBatches() {
+        List<VersionedType> initial = of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial, new InsertManyOptions().batchSize(2));
+        initial.forEach(type -> assertEquals(type.version, 1));
+
+        VersionedType stale = getDs().find(VersionedType.class)
+                .filter(eq("_id", initial.get(1).getId()))
+                .first();
+        getDs().save(initial.get(1));
+
+        List<VersionedType> updated = of(initial.get(0), stale, initial.get(2));
+        assertThrows(VersionMismatchException.class, () -> getDs().save(updated, new InsertManyOptions()
+                .batchSize(2)
+                .ordered(false)));
+
+        assertEquals(initial.get(0).version, 2);
+        assertEquals(stale.version, 1);
+        assertEquals(initial.get(2).version, 1);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("_id", initial.get(0).getId())).first().version, 2);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("_id", initial.get(2).getId())).first().version, 1);
+
+        getDs().replace(of(initial.get(0), initial.get(1), initial.get(2)), new ReplaceOptions().batchSize(2));
+        assertEquals(getDs().find(VersionedType.class).filter(eq("version", 3L)).count(), 2);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("version", 2L)).count(), 1);
+    }
+
     @Test
     public void testPrimitive() {
         Primitive Primitive = new Primitive();
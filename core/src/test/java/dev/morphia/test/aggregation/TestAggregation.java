@@ -16,6 +16,8 @@ import dev.morphia.test.aggregation.model.Book;
 import dev.morphia.test.aggregation.model.CountResult;
 import dev.morphia.test.aggregation.model.Human;
 import dev.morphia.test.aggregation.model.Martian;
+import dev.morphia.test.models.Circle;
+import dev.morphia.test.models.Shape;
 import dev.morphia.test.models.User;
 import dev.morphia.test.models.geo.GeoCity;
 
@@ -116,6 +118,19 @@ public class TestAggregation extends TestBase {
         assertEquals(human.name, martian.name);
     }
 
+    @Test
+    public void testResultSubtypes() {
+        getDs().save(List.of(new Circle(1), new Circle(2)));
+
+        List<Shape> shapes = getDs().aggregate(Circle.class)
+                .sort(sort().ascending("radius"))
+                .execute(Shape.class)
+                .toList();
+        assertEquals(shapes.size(), 2);
+        assertEquals(((Circle) shapes.get(0)).getRadius(), 1.0);
+        assertEquals(((Circle) shapes.get(1)).getRadius(), 2.0);
+    }
+
     @Test
     public void testResultTypesAlternateCollection() {
         String alternate = "alternate";
@@ -1,11 +1,22 @@
 package dev.morphia.test.annotations;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCommandException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
 
 import dev.morphia.annotations.Collation;
 import dev.morphia.annotations.Entity;
@@ -28,11 +39,18 @@ import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.MappedInterface;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.types.ObjectId;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
 import static com.mongodb.client.model.CollationAlternate.SHIFTED;
 import static com.mongodb.client.model.CollationCaseFirst.UPPER;
 import static com.mongodb.client.model.CollationMaxVariable.SPACE;
@@ -181,6 +199,77 @@ public class IndexHelperTest extends TestBase {
         });
     }
 
+    @Test
+    public void createIndexesOnlyCreatesMissing() {
+        List<String> packages = getMapper().getConfig().packages();
+        packages.add(IndexedClass.class.getPackageName());
+        withConfig(buildConfig().packages(packages), () -> {
+            List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+            CommandListener listener = new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    if (event.getCommandName().equals("createIndexes")) {
+                        commands.add(event.getCommand().clone());
+                    }
+                }
+            };
+            ListAppender<ILoggingEvent> warnings = new ListAppender<>();
+            Logger logger = (Logger) LoggerFactory.getLogger(IndexHelper.class);
+            warnings.start();
+            logger.addAppender(warnings);
+            try (MongoClient client = MongoClients.create(MongoClientSettings.builder()
+                    .applyConnectionString(new ConnectionString(getConnectionString()))
+                    .addCommandListener(listener)
+                    .build())) {
+                String collectionName = getDs().getCollection(IndexedClass.class).getNamespace().getCollectionName();
+                MongoCollection<Document> collection = client.getDatabase(getDatabase().getName()).getCollection(collectionName);
+                EntityModel model = getMapper().getEntityModel(IndexedClass.class);
+                collection.drop();
+
+                getIndexHelper().createIndexes(collection, List.of(model), true);
+                collection.dropIndex("latitude_1");
+                collection.createIndex(new Document("extra", 1));
+                commands.clear();
+                getIndexHelper().createIndexes(collection, List.of(model), true);
+
+                assertEquals(commands.size(), 1, commands.toString());
+                List<String> created = commands.get(0).getArray("indexes").stream()
+                        .map(index -> index.asDocument().getString("name").getValue())
+                        .collect(Collectors.toList());
+                assertEquals(created, List.of("latitude_1"));
+                Set<String> names = getIndexInfo(IndexedClass.class).stream()
+                        .map(document -> document.getString("name"))
+                        .collect(Collectors.toSet());
+                assertEquals(names, Set.of("_id_", "latitude_1", "searchme", "indexName_1", "extra_1"));
+                assertTrue(logged(warnings, "extra_1", "is not declared"), messages(warnings));
+
+                collection.dropIndex("latitude_1");
+                collection.createIndex(new Document("latitude", 1), new com.mongodb.client.model.IndexOptions().sparse(true));
+                try {
+                    getIndexHelper().createIndexes(collection, List.of(model), false);
+                } catch (MongoCommandException ignored) {
+                    // the server rejects the conflicting index
+                }
+                assertTrue(logged(warnings, "latitude", "may conflict"), messages(warnings));
+            } finally {
+                logger.detachAppender(warnings);
+            }
+        });
+    }
+
+    private static boolean logged(ListAppender<ILoggingEvent> appender, String... fragments) {
+        return appender.list.stream()
+                .filter(event -> event.getLevel() == Level.WARN)
+                .map(ILoggingEvent::getFormattedMessage)
+                .anyMatch(message -> Arrays.stream(fragments).allMatch(message::contains));
+    }
+
+    private static String messages(ListAppender<ILoggingEvent> appender) {
+        return appender.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .collect(Collectors.joining("\n"));
+    }
+
     @Test
     public void findField() {
         EntityModel model = getMapper().getEntityModel(IndexedClass.class);
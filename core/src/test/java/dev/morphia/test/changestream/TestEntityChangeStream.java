@@ -0,0 +1,196 @@
+package dev.morphia.test.changestream;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import dev.morphia.changestream.ChangeStreamCursor;
+import dev.morphia.changestream.CollectionResumeTokenStore;
+import dev.morphia.changestream.ResumeTokenStore;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.filters.Filters;
+import dev.morphia.test.TestBase;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gt;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+public class TestEntityChangeStream extends TestBase {
+    @Test
+    public void pipeline() {
+        getMapper().map(Article.class);
+        List<?> pipeline = getDs().watch(Article.class)
+                .filter(eq("title", "Morphia"), Filters.or(gt("views", 10), eq("title", "MongoDB")))
+                .operationTypes(OperationType.INSERT, OperationType.REPLACE)
+                .pipeline();
+
+        assertEquals(pipeline, List.of(new Document("$match", new Document("fullDocument.t", "Morphia")
+                .append("$or", List.of(
+                        new Document("fullDocument.views", new Document("$gt", 10)),
+                        new Document("fullDocument.t", "MongoDB")))
+                .append("operationType", new Document("$in", List.of("insert", "replace"))))));
+        assertEquals(getDs().watch(Article.class).pipeline(), List.of());
+    }
+
+    @Test
+    public void discriminators() {
+        getMapper().map(Shape.class, Square.class, Circle.class);
+        EntityModel model = getMapper().getEntityModel(Square.class);
+        List<?> pipeline = getDs().watch(Square.class)
+                .operationTypes(OperationType.INSERT)
+                .pipeline();
+
+        assertEquals(pipeline, List.of(new Document("$match", new Document("$and", List.of(
+                new Document("operationType", new Document("$in", List.of("insert"))),
+                new Document("$or", List.of(
+                        new Document("fullDocument", null),
+                        new Document("fullDocument." + model.discriminatorKey(),
+                                new Document("$in", List.of(model.discriminator()))))))))));
+    }
+
+    @Test
+    public void skipsOtherTypesInTheCollection() {
+        checkForReplicaSet();
+        getMapper().map(Shape.class, Square.class, Circle.class);
+
+        try (ChangeStreamCursor<Square> cursor = getDs().watch(Square.class).iterator()) {
+            getDs().save(new Circle(1));
+            getDs().save(new Square(2));
+
+            ChangeStreamDocument<Square> event = cursor.next();
+            assertNotNull(event.getFullDocument());
+            assertEquals(event.getFullDocument().side, 2);
+        }
+    }
+
+    @Test
+    public void decodesEntities() {
+        checkForReplicaSet();
+        getMapper().map(Article.class);
+
+        try (ChangeStreamCursor<Article> cursor = getDs().watch(Article.class)
+                .filter(gt("views", 10))
+                .iterator()) {
+            getDs().save(List.of(new Article("skipped", 1), new Article("watched", 20)));
+
+            ChangeStreamDocument<Article> event = cursor.next();
+            assertEquals(event.getOperationType(), OperationType.INSERT);
+            assertNotNull(event.getFullDocument());
+            assertEquals(event.getFullDocument().title, "watched");
+            assertEquals(event.getFullDocument().views, 20);
+        }
+    }
+
+    @Test
+    public void resumesFromSavedToken() {
+        checkForReplicaSet();
+        getMapper().map(Article.class);
+        MapTokenStore store = new MapTokenStore();
+
+        try (ChangeStreamCursor<Article> cursor = getDs().watch(Article.class)
+                .resumeTokens("articles", store)
+                .iterator()) {
+            getDs().save(List.of(new Article("first", 1), new Article("second", 2), new Article("third", 3)));
+            assertEquals(cursor.next().getFullDocument().title, "first");
+            assertEquals(cursor.next().getFullDocument().title, "second");
+            cursor.checkpoint();
+        }
+
+        try (ChangeStreamCursor<Article> cursor = getDs().watch(Article.class)
+                .resumeTokens("articles", store)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .iterator()) {
+            assertEquals(cursor.next().getFullDocument().title, "third");
+        }
+    }
+
+    @Test
+    public void collectionTokenStore() {
+        CollectionResumeTokenStore store = new CollectionResumeTokenStore(getDatabase());
+        assertNull(store.load("stream"));
+
+        BsonDocument token = BsonDocument.parse("{_data: 'first'}");
+        store.save("stream", token);
+        assertEquals(store.load("stream"), token);
+
+        token = BsonDocument.parse("{_data: 'second'}");
+        store.save("stream", token);
+        assertEquals(store.load("stream"), token);
+        assertEquals(getDatabase().getCollection(CollectionResumeTokenStore.DEFAULT_COLLECTION).countDocuments(), 1);
+    }
+
+    private static class MapTokenStore implements ResumeTokenStore {
+        private final Map<String, BsonDocument> tokens = new HashMap<>();
+
+        @Override
+        public BsonDocument load(String name) {
+            return tokens.get(name);
+        }
+
+        @Override
+        public void save(String name, BsonDocument token) {
+            tokens.put(name, token);
+        }
+    }
+
+    @Entity(value = "articles", useDiscriminator = false)
+    private static class Article {
+        @Id
+        private ObjectId id;
+        @Property("t")
+        private String title;
+        private int views;
+
+        private Article() {
+        }
+
+        private Article(String title, int views) {
+            this.title = title;
+            this.views = views;
+        }
+    }
+
+    @Entity("shapes")
+    private static class Shape {
+        @Id
+        private ObjectId id;
+    }
+
+    @Entity("shapes")
+    private static class Square extends Shape {
+        private int side;
+
+        private Square() {
+        }
+
+        private Square(int side) {
+            this.side = side;
+        }
+    }
+
+    @Entity("shapes")
+    private static class Circle extends Shape {
+        private int radius;
+
+        private Circle() {
+        }
+
+        private Circle(int radius) {
+            this.radius = radius;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import dev.morphia.annotations.Property;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CityPopulation;
@@ -61,6 +62,26 @@ public class PathTargetTest extends TestBase {
         });
     }
 
+    @Test
+    public void cachedResolution() {
+        withTestConfig(List.of(State.class, CityPopulation.class), () -> {
+            Mapper mapper = getMapper();
+
+            PathTarget first = new PathTarget(mapper, State.class, "biggestCity.population");
+            Assert.assertEquals(first.translatedPath(), "biggestCity.pop");
+            PathTarget second = new PathTarget(mapper, State.class, "biggestCity.population");
+            Assert.assertEquals(second.translatedPath(), "biggestCity.pop");
+            Assert.assertSame(second.target(), first.target());
+
+            Assert.assertEquals(new PathTarget(mapper, State.class, "biggestCity.missing", false).translatedPath(),
+                    "biggestCity.missing");
+            for (int i = 0; i < 2; i++) {
+                Assert.assertThrows(ValidationException.class,
+                        () -> new PathTarget(mapper, State.class, "biggestCity.missing").translatedPath());
+            }
+        });
+    }
+
     @Test
     public void disableValidation() {
         withTestConfig(List.of(FatherEntity.class), () -> {
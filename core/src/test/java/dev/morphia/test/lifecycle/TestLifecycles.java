@@ -24,6 +24,9 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Transient;
 import dev.morphia.mapping.DateStorage;
+import dev.morphia.mapping.codec.pojo.LifecycleDecoder;
+import dev.morphia.mapping.codec.pojo.LifecycleEncoder;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.query.FindOptions;
 import dev.morphia.test.TestBase;
@@ -126,6 +129,46 @@ public class TestLifecycles extends TestBase {
         Assert.assertTrue(a.bs.get(0).isPreLoad());
     }
 
+    @Test
+    public void testDocumentCallbacks() {
+        withTestConfig(List.of(DocumentCallbacks.class), () -> {
+            DocumentCallbacks entity = new DocumentCallbacks();
+            entity.name = "original";
+            getDs().save(entity);
+
+            Document stored = getDatabase().getCollection(getMapper().getEntityModel(DocumentCallbacks.class).collectionName())
+                    .find(new Document("_id", entity.id))
+                    .first();
+            Assert.assertEquals(stored.getString("added"), "prePersist");
+            Assert.assertEquals(stored.getString("name"), "original");
+
+            DocumentCallbacks loaded = getDs().find(DocumentCallbacks.class)
+                    .filter(eq("_id", entity.id))
+                    .first();
+            Assert.assertEquals(loaded.name, "preLoad");
+            Assert.assertEquals(loaded.added, "prePersist");
+        });
+    }
+
+    @Test
+    public void testCodecsFollowListenerEvents() {
+        withTestConfig(List.of(SimpleEntity.class), () -> {
+            getMapper().addInterceptor(new NonNullValidation());
+            MorphiaCodec<SimpleEntity> codec = (MorphiaCodec<SimpleEntity>) getDs().getCodecRegistry().get(SimpleEntity.class);
+            assertTrue(codec.getEncoder() instanceof LifecycleEncoder);
+            assertFalse(codec.getDecoder() instanceof LifecycleDecoder);
+
+            LoadListener listener = new LoadListener();
+            getMapper().addInterceptor(listener);
+            assertTrue(codec.getDecoder() instanceof LifecycleDecoder);
+
+            SimpleEntity entity = new SimpleEntity();
+            getDs().save(entity);
+            Assert.assertNotNull(getDs().find(SimpleEntity.class).filter(eq("_id", entity.id)).first());
+            Assert.assertEquals(listener.loaded, 1);
+        });
+    }
+
     @Test
     public void testGlobalInterceptorRunsAfterEntityCallback() {
         getMapper().addInterceptor(new NonNullValidation());
@@ -282,12 +325,56 @@ public class TestLifecycles extends TestBase {
 
     }
 
+    private static class LoadListener implements EntityListener<Object> {
+        private int loaded;
+
+        @Override
+        public boolean hasAnnotation(@NonNull Class<? extends Annotation> type) {
+            return PostLoad.class.equals(type);
+        }
+
+        @Override
+        public void postLoad(@NonNull Object entity, @NonNull Document document, @NonNull Datastore datastore) {
+            loaded++;
+        }
+    }
+
+    @Entity
+    private static class SimpleEntity {
+        @Id
+        private ObjectId id;
+    }
+
     private static class NonNullValidationException extends RuntimeException {
         NonNullValidationException(PropertyModel model) {
             super("NonNull field is null " + model.getFullName());
         }
     }
 
+    @Entity
+    private static class DocumentCallbacks {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Transient
+        private String added;
+
+        @PrePersist
+        void prePersist(Document document) {
+            document.put("added", "prePersist");
+        }
+
+        @PreLoad
+        void preLoad(Document document) {
+            document.put("name", "preLoad");
+        }
+
+        @PostLoad
+        void postLoad(Document document) {
+            added = document.getString("added");
+        }
+    }
+
     @Entity
     private static class SomeEntity {
         @Id
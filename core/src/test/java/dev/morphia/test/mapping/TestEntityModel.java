@@ -1,11 +1,16 @@
 package dev.morphia.test.mapping;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
+import dev.morphia.annotations.AlsoLoad;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.EntityPlan;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.generics.Another;
 import dev.morphia.test.models.generics.Child;
@@ -15,8 +20,12 @@ import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static java.util.Arrays.stream;
 import static java.util.List.of;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
 @SuppressWarnings("DataFlowIssue")
 public class TestEntityModel extends TestBase {
@@ -40,6 +49,23 @@ public class TestEntityModel extends TestBase {
         }
     }
 
+    @Test
+    public void plan() {
+        EntityModel model = getMapper().getEntityModel(PlannedEntity.class);
+        EntityPlan plan = model.plan();
+        assertSame(model.plan(), plan);
+        assertSame(plan.idProperty(), model.getIdProperty());
+        assertEquals(stream(plan.properties()).map(PropertyModel::getName).collect(Collectors.toList()), of("name", "count"));
+        assertSame(plan.property("n"), model.getProperty("name"));
+        assertSame(plan.property("name"), model.getProperty("name"));
+        assertSame(plan.property("old"), model.getProperty("name"));
+        assertNull(plan.property("missing"));
+
+        model.getProperty("count").alternateNames("total");
+        assertNotSame(model.plan(), plan);
+        assertSame(model.plan().property("total"), model.getProperty("count"));
+    }
+
     @Test
     public void subTypes() {
         getMapper().map(EmbeddedType.class, Another.class, Child.class);
@@ -50,6 +76,16 @@ public class TestEntityModel extends TestBase {
         Assert.assertTrue(subTypes.contains(mapper.getEntityModel(Child.class)));
     }
 
+    @Entity
+    private static class PlannedEntity {
+        @Id
+        ObjectId id;
+        @Property("n")
+        @AlsoLoad("old")
+        String name;
+        int count;
+    }
+
     @Entity
     interface TestEntityInterface {
     }
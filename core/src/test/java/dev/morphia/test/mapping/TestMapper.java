@@ -1,20 +1,117 @@
 package dev.morphia.test.mapping;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.generics.ChildEntity;
+import dev.morphia.test.models.versioned.Versioned;
+import dev.morphia.test.models.versioned.VersionedChildEntity;
 
+import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
 
 public class TestMapper extends TestBase {
+    private static final String INDEXED = "dev.morphia.test.indexed";
+
+    @Test
+    public void testEntityIndex() throws Exception {
+        Path indexed = Files.createTempDirectory("morphia-index");
+        entity(indexed, INDEXED + ".Listed");
+        entity(indexed, INDEXED + ".Unlisted");
+        index(indexed, INDEXED + ".Listed", "com.example.Missing");
+        Path scanned = Files.createTempDirectory("morphia-scan");
+        entity(scanned, INDEXED + ".Scanned");
+
+        for (String packageName : List.of(INDEXED, INDEXED + ".*")) {
+            List<String> mapped = withClassLoader(new URL[] { indexed.toUri().toURL(), scanned.toUri().toURL() }, () -> {
+                Mapper mapper = new Mapper(buildConfig());
+                mapper.map(packageName);
+                return mapper.getMappedEntities().stream()
+                        .map(model -> model.getType().getName())
+                        .collect(Collectors.toList());
+            });
+            assertTrue(mapped.contains(INDEXED + ".Listed"), packageName + ": " + mapped);
+            assertFalse(mapped.contains(INDEXED + ".Unlisted"), "Only indexed types of an indexed directory should be mapped: " + mapped);
+            assertTrue(mapped.contains(INDEXED + ".Scanned"), "Directories without an index should be scanned: " + mapped);
+        }
+    }
+
+    @Test
+    public void testEntityIndexWithDefaultPackages() throws Exception {
+        Path indexed = Files.createTempDirectory("morphia-index");
+        entity(indexed, INDEXED + ".Listed");
+        entity(indexed, INDEXED + ".Unlisted");
+        index(indexed, INDEXED + ".Listed");
+        Path scanned = Files.createTempDirectory("morphia-scan");
+        entity(scanned, "com.example.app.Scanned");
+        // an application configuration which leaves morphia.packages at its default of every package
+        Path config = scanned.resolve("META-INF/morphia-config.properties");
+        Files.createDirectories(config.getParent());
+        Files.writeString(config, "morphia.database=" + TEST_DB_NAME + "\n");
+
+        Path main = Files.createTempDirectory("morphia-main").resolve("MapDefaults.java");
+        Files.writeString(main, String.join("\n",
+                "public class MapDefaults {",
+                "    public static void main(String[] args) {",
+                "        var mapper = new dev.morphia.mapping.Mapper(dev.morphia.config.MorphiaConfig.load());",
+                "        System.out.println(\"packages=\" + mapper.getConfig().packages());",
+                "        mapper.getConfig().packages().forEach(mapper::map);",
+                "        mapper.getMappedEntities().forEach(model -> System.out.println(model.getType().getName()));",
+                "    }",
+                "}"));
+
+        // the default of mapping every package would also map the test classes, so this runs without them
+        Path testClasses = Path.of(getClass().getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<String> classpath = new ArrayList<>(List.of(indexed.toString(), scanned.toString()));
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!Path.of(entry).equals(testClasses)) {
+                classpath.add(entry);
+            }
+        }
+        Process process = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", String.join(File.pathSeparator, classpath), main.toString())
+                .redirectErrorStream(true)
+                .start();
+        List<String> output;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+            output = reader.lines().collect(Collectors.toList());
+        }
+        assertEquals(process.waitFor(), 0, String.join("\n", output));
+
+        assertTrue(output.contains("packages=[.*]"), output.toString());
+        assertTrue(output.contains(INDEXED + ".Listed"), output.toString());
+        assertFalse(output.contains(INDEXED + ".Unlisted"), output.toString());
+        assertTrue(output.contains("com.example.app.Scanned"), "Directories without an index should be scanned: " + output);
+    }
+
     @Test
     public void testMapperCopying() {
         withConfig(buildConfig(ChildEntity.class), () -> {
@@ -57,4 +154,31 @@ public class TestMapper extends TestBase {
                                 clonedEntity.getType().getName())));
     }
 
+    private static void entity(Path root, String name) throws IOException {
+        new ByteBuddy()
+                .subclass(Object.class)
+                .name(name)
+                .annotateType(AnnotationDescription.Builder.ofType(Entity.class).build())
+                .defineField("id", ObjectId.class, Visibility.PRIVATE)
+                .annotateField(AnnotationDescription.Builder.ofType(Id.class).build())
+                .make()
+                .saveIn(root.toFile());
+    }
+
+    private static void index(Path root, String... types) throws IOException {
+        Path index = root.resolve(Mapper.ENTITY_INDEX);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, "# generated\n" + String.join("\n", types) + "\n");
+    }
+
+    private static <T> T withClassLoader(URL[] urls, Callable<T> body) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(urls, original)) {
+            thread.setContextClassLoader(loader);
+            return body.call();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
 }
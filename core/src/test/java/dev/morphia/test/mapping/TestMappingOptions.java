@@ -17,13 +17,20 @@ import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.test.TestBase;
 
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.codecs.DecoderContext;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static dev.morphia.Morphia.*;
+import static dev.morphia.mapping.AccessorStrategy.METHOD_HANDLES;
 import static dev.morphia.mapping.DiscriminatorFunction.lowerSimpleName;
 import static dev.morphia.mapping.NamingStrategy.lowerCase;
+import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.filters.Filters.ne;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
@@ -33,6 +40,78 @@ import static org.testng.Assert.assertTrue;
 @SuppressWarnings({ "ConstantConditions", "unused" })
 public class TestMappingOptions extends TestBase {
 
+    @Test
+    public void methodHandleAccessors() {
+        withConfig(buildConfig(HasList.class, HasArrays.class).accessorStrategy(METHOD_HANDLES), () -> {
+            HasList hasList = new HasList();
+            hasList.names = List.of("one", "two");
+            getDs().save(hasList);
+
+            HasList loaded = getDs().find(HasList.class).first();
+            assertEquals(loaded.id, hasList.id);
+            assertEquals(loaded.names, hasList.names);
+
+            HasArrays hasArrays = new HasArrays();
+            hasArrays.count = 42;
+            hasArrays.values = new int[] { 1, 2, 3 };
+            getDs().save(hasArrays);
+
+            HasArrays found = getDs().find(HasArrays.class).first();
+            assertEquals(found.count, 42);
+            assertEquals(found.values, new int[] { 1, 2, 3 });
+        });
+    }
+
+    @Test
+    public void discriminatorFirst() {
+        withConfig(buildConfig(Shape.class, Circle.class).discriminatorFirst(true), () -> {
+            Circle circle = new Circle();
+            circle.name = "circle";
+            circle.radius = 2;
+            getDs().save(circle);
+
+            Shape loaded = getDs().find(Shape.class).filter(eq("_id", circle.id)).first();
+            assertTrue(loaded instanceof Circle);
+            assertEquals(((Circle) loaded).radius, 2);
+
+            ObjectId id = new ObjectId();
+            getDatabase().getCollection("shapes").insertOne(new Document("_id", id)
+                    .append("name", "trailing")
+                    .append("radius", 3)
+                    .append("_t", Circle.class.getSimpleName()));
+
+            loaded = getDs().find(Shape.class).filter(eq("_id", id)).first();
+            assertEquals(loaded.getClass(), Circle.class);
+            assertEquals(loaded.name, "trailing");
+            assertEquals(((Circle) loaded).radius, 3);
+        });
+    }
+
+    @Test
+    public void discriminatorFirstReadsDocumentsOnce() {
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString("plain"))
+                .append("extra", new BsonString("ignored"))
+                .append("_t", new BsonString(Shape.class.getSimpleName()));
+
+        // scanned for the discriminator then decoded
+        assertEquals(namesRead(buildConfig(Shape.class, Circle.class), document), 8);
+        // the two leading fields are checked then the document is decoded
+        assertEquals(namesRead(buildConfig(Shape.class, Circle.class).discriminatorFirst(true), document), 6);
+    }
+
+    private int namesRead(MorphiaConfig config, BsonDocument document) {
+        int[] names = new int[1];
+        withConfig(config, () -> {
+            CountingReader reader = new CountingReader(document);
+            Shape shape = getDs().getCodecRegistry().get(Shape.class).decode(reader, DecoderContext.builder().build());
+            assertEquals(shape.getClass(), Shape.class);
+            assertEquals(shape.name, "plain");
+            names[0] = reader.names;
+        });
+        return names[0];
+    }
+
     @Test
     public void emptyListStoredWithOptions() {
         final HasList hl = new HasList();
@@ -309,6 +388,14 @@ public class TestMappingOptions extends TestBase {
         withConfig(buildConfig().storeNulls(storeNulls), body);
     }
 
+    @Entity
+    private static class HasArrays {
+        @Id
+        private ObjectId id;
+        private int count;
+        private int[] values;
+    }
+
     @Entity
     private static class HasList implements Serializable {
         @Id
@@ -378,4 +465,30 @@ public class TestMappingOptions extends TestBase {
     @Entity(discriminatorKey = "_e", discriminator = "b")
     private static class EmbeddedDiscriminator {
     }
+
+    @Entity("shapes")
+    private static class Shape {
+        @Id
+        ObjectId id;
+        String name;
+    }
+
+    @Entity("shapes")
+    private static class Circle extends Shape {
+        private int radius;
+    }
+
+    private static class CountingReader extends BsonDocumentReader {
+        private int names;
+
+        CountingReader(BsonDocument document) {
+            super(document);
+        }
+
+        @Override
+        public String readName() {
+            names++;
+            return super.readName();
+        }
+    }
 }
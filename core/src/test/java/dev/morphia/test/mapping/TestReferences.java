@@ -11,6 +11,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import com.mongodb.DBRef;
 import com.mongodb.client.model.ReturnDocument;
@@ -27,6 +28,7 @@ import dev.morphia.annotations.Reference;
 import dev.morphia.config.MorphiaConfig;
 import dev.morphia.mapping.PropertyDiscovery;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
+import dev.morphia.metrics.InMemoryMetrics;
 import dev.morphia.query.FindOptions;
 import dev.morphia.test.models.Author;
 import dev.morphia.test.models.Book;
@@ -44,6 +46,7 @@ import static dev.morphia.Morphia.createDatastore;
 import static dev.morphia.aggregation.stages.Lookup.lookup;
 import static dev.morphia.aggregation.stages.Unwind.unwind;
 import static dev.morphia.mapping.experimental.MorphiaReference.wrap;
+import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.filters.Filters.eq;
 import static dev.morphia.query.filters.Filters.in;
 import static dev.morphia.query.updates.UpdateOperators.setOnInsert;
@@ -278,6 +281,75 @@ public class TestReferences extends ProxyTestBase {
                 .forEach(f -> assertEquals(f.getClass(), Long.class));
     }
 
+    @Test
+    public void testBatchedReferences() {
+        InMemoryMetrics metrics = new InMemoryMetrics();
+        withConfig(buildConfig().metrics(metrics), () -> {
+            Plan plan1 = getDs().save(new Plan("Trial 1"));
+            Plan plan2 = getDs().save(new Plan("Trial 2"));
+
+            getDs().save(List.of(new Org("Test Org1", plan1), new Org("Test Org2", plan2), new Org("Test Org3", plan1),
+                    new Org("Test Org4", null)));
+
+            List<Org> orgs = getDs().find(Org.class)
+                    .iterator(new FindOptions()
+                            .batchReferences(true)
+                            .batchSize(2)
+                            .sort(ascending("name")))
+                    .toList();
+
+            assertEquals(orgs.size(), 4);
+            assertEquals(orgs.get(0).plan.id, plan1.id);
+            assertEquals(orgs.get(1).plan.id, plan2.id);
+            assertEquals(orgs.get(2).plan.id, plan1.id);
+            assertNull(orgs.get(3).plan);
+
+            // one query per batch of two orgs rather than one per reference
+            String plans = getMapper().getEntityModel(Plan.class).collectionName();
+            assertEquals(metrics.operation("find", plans).count(), 2);
+            assertEquals(metrics.referenceCounts(Plan.class).total(), 3);
+
+            Ref ref = getDs().save(new Ref("batched"));
+            Ref other = getDs().save(new Ref("listed"));
+            Container container = new Container();
+            container.singleRef = ref;
+            container.collectionRef = List.of(other, ref);
+            getDs().save(container);
+
+            Container loaded = getDs().find(Container.class)
+                    .iterator(new FindOptions().batchReferences(true))
+                    .next();
+            assertEquals(loaded.singleRef, ref);
+            assertEquals(loaded.collectionRef, List.of(other, ref));
+            // the single and the list references are loaded together
+            assertEquals(metrics.operation("find", getMapper().getEntityModel(Ref.class).collectionName()).count(), 1);
+        });
+    }
+
+    @Test
+    public void testBatchedLazyReferences() {
+        checkForProxyTypes();
+
+        List<Source> sources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Source source = new Source();
+            source.setLazy(getDs().save(new Target()));
+            sources.add(source);
+        }
+        getDs().save(sources);
+
+        List<Source> loaded = getDs().find(Source.class)
+                .iterator(new FindOptions().batchReferences(true))
+                .toList();
+        assertEquals(loaded.size(), 3);
+        loaded.forEach(source -> assertNotFetched(source.getLazy()));
+
+        assertEquals(loaded.get(0).getLazy().getFoo(), "bar");
+        loaded.forEach(source -> assertFetched(source.getLazy()));
+        assertEquals(loaded.stream().map(source -> source.getLazy().getId()).collect(Collectors.toSet()),
+                sources.stream().map(source -> source.getLazy().getId()).collect(Collectors.toSet()));
+    }
+
     @Test
     public void testInQueryAgainstReferences() {
 
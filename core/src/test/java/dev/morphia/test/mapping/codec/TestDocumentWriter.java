@@ -1,20 +1,37 @@
 package dev.morphia.test.mapping.codec;
 
+import java.util.List;
 import java.util.Map;
 
+import dev.morphia.aggregation.AggregationImpl;
 import dev.morphia.mapping.codec.writer.DocumentState.MergingDocument;
 import dev.morphia.mapping.codec.writer.DocumentWriter;
+import dev.morphia.mapping.codec.writer.MergingBsonDocumentWriter;
 import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.filters.Filter;
 import dev.morphia.query.filters.Filters;
 import dev.morphia.test.TestBase;
 import dev.morphia.test.models.User;
 
+import org.bson.BsonDocument;
+import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
 import org.json.JSONException;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.max;
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.stages.Facet.facet;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.aggregation.stages.Limit.limit;
+import static dev.morphia.aggregation.stages.Match.match;
+import static dev.morphia.aggregation.stages.Sort.sort;
+import static dev.morphia.aggregation.stages.Unwind.unwind;
 import static dev.morphia.mapping.codec.CodecHelper.array;
 import static dev.morphia.mapping.codec.CodecHelper.document;
 import static dev.morphia.query.filters.Filters.*;
@@ -103,6 +120,47 @@ public class TestDocumentWriter extends TestBase {
         }
     }
 
+    @Test
+    public void mergingBsonWriter() {
+        List<Filter> filters = of(gte("field1", 100), lt("field1", 1000),
+                or(eq("name", "A"), eq("name", "B")), or(eq("name", "C"), eq("name", "D")));
+        DocumentWriter documentWriter = new DocumentWriter(getMapper().getConfig());
+        MergingBsonDocumentWriter bsonWriter = new MergingBsonDocumentWriter();
+        for (BsonWriter writer : of(documentWriter, bsonWriter)) {
+            document(writer, () -> {
+                for (Filter filter : filters) {
+                    Codec codec = getDs().getCodecRegistry().get(filter.getClass());
+                    codec.encode(writer, filter.entityType(User.class).isValidating(false), EncoderContext.builder().build());
+                }
+            });
+        }
+
+        assertEquals(bsonWriter.getDocument(),
+                documentWriter.getDocument().toBsonDocument(BsonDocument.class, getDs().getCodecRegistry()));
+        assertEquals(bsonWriter.getDocument().getDocument("field1").size(), 2);
+        assertEquals(bsonWriter.getDocument().getArray("$and").size(), 2);
+    }
+
+    @Test
+    public void mergingBsonStages() {
+        var aggregation = (AggregationImpl<User>) getDs().aggregate(User.class)
+                .pipeline(match(gte("age", 21), lt("age", 65)),
+                        unwind("likes"),
+                        group(id("$name"))
+                                .field("total", sum("$age"))
+                                .field("oldest", max("$age")),
+                        facet()
+                                .field("top", match(eq("total", 1)), limit(2)),
+                        sort().descending("total"),
+                        limit(10));
+
+        List<BsonDocument> expected = aggregation.getStages().stream()
+                .map(stage -> DocumentWriter.encode(stage, getMapper(), getDs().getCodecRegistry())
+                        .toBsonDocument(BsonDocument.class, getDs().getCodecRegistry()))
+                .toList();
+        assertEquals(aggregation.pipeline(), expected);
+    }
+
     @Test
     public void nestedArrays() {
         DocumentWriter writer = new DocumentWriter(getMapper().getConfig());
@@ -0,0 +1,85 @@
+package dev.morphia.test.mapping.lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Lazy;
+import dev.morphia.test.mapping.ProxyTestBase;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import static dev.morphia.query.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+public class TestLazyDecoding extends ProxyTestBase {
+    @Test
+    public void decodesOnFirstUse() {
+        Owner owner = new Owner();
+        for (int i = 0; i < 10; i++) {
+            owner.items.add(new Item("item" + i, i));
+        }
+        getDs().save(owner);
+
+        Owner loaded = getDs().find(Owner.class).filter(eq("_id", owner.id)).first();
+        assertIsProxy(loaded.items);
+        assertNotFetched(loaded.items);
+        assertNull(loaded.missing);
+
+        assertEquals(loaded.items.size(), 10);
+        assertFetched(loaded.items);
+        assertEquals(loaded.items.get(3).name, "item3");
+        assertEquals(loaded.items.get(3).count, 3);
+    }
+
+    @Test
+    public void savesUnusedValuesAsRead() {
+        Owner owner = new Owner();
+        owner.items.add(new Item("first", 1));
+        owner.items.add(new Item("second", 2));
+        getDs().save(owner);
+        Document before = getDatabase().getCollection("owners").find().first();
+
+        Owner loaded = getDs().find(Owner.class).first();
+        loaded.name = "renamed";
+        getDs().save(loaded);
+        assertNotFetched(loaded.items);
+
+        Document after = getDatabase().getCollection("owners").find().first();
+        assertEquals(after.get("items"), before.get("items"));
+        assertEquals(after.getString("name"), "renamed");
+
+        loaded.items.add(new Item("third", 3));
+        getDs().save(loaded);
+        assertEquals(getDs().find(Owner.class).first().items.size(), 3);
+    }
+
+    @Entity("owners")
+    private static class Owner {
+        @Id
+        private ObjectId id;
+        private String name = "owner";
+        @Lazy
+        private List<Item> items = new ArrayList<>();
+        @Lazy
+        private List<Item> missing;
+    }
+
+    @Entity
+    private static class Item {
+        private String name;
+        private int count;
+
+        private Item() {
+        }
+
+        private Item(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package dev.morphia.test.mapping.validation.fieldrules;
+
+import java.util.List;
+
+import dev.morphia.annotations.Lazy;
+import dev.morphia.mapping.validation.ConstraintViolationException;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.TestEntity;
+
+import org.testng.annotations.Test;
+
+public class LazyOnUnproxiableTypeTest extends TestBase {
+
+    @Test(expectedExceptions = ConstraintViolationException.class)
+    public void testLazyOnFinalType() {
+        getMapper().map(LazyOnFinal.class);
+    }
+
+    @Test
+    public void testLazyOnInterface() {
+        getMapper().map(LazyOnInterface.class);
+    }
+
+    private static class LazyOnFinal extends TestEntity {
+        @Lazy
+        private String name;
+    }
+
+    private static class LazyOnInterface extends TestEntity {
+        @Lazy
+        private List<String> names;
+    }
+}
@@ -1,28 +1,40 @@
 package dev.morphia.test.query;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import com.mongodb.CursorType;
 import com.mongodb.MongoNamespace;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.CollationStrength;
 
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.aggregation.AggregationOptions;
 import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
@@ -33,10 +45,13 @@ import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
 import dev.morphia.query.CountOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.Page;
+import dev.morphia.query.ParallelDecodingCursor;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.ValidationException;
 import dev.morphia.test.TestBase;
+import dev.morphia.transactions.MorphiaSession;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CustomId;
 import dev.morphia.test.models.Rectangle;
@@ -45,10 +60,12 @@ import dev.morphia.test.models.UsesCustomIdObject;
 
 import org.awaitility.Awaitility;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Test;
 
 import static com.mongodb.client.model.Collation.builder;
+import static dev.morphia.aggregation.stages.Sort.sort;
 import static dev.morphia.query.ArraySlice.limit;
 import static dev.morphia.query.Sort.ascending;
 import static dev.morphia.query.Sort.descending;
@@ -664,6 +681,41 @@ public class TestQuery extends TestBase {
                 .filter(eq("bad.name", "blargle"));
     }
 
+    @Test
+    public void testKeysetPagination() {
+        List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 95; i++) {
+            rectangles.add(new Rectangle(i % 7, i % 3));
+        }
+        getDs().save(rectangles);
+
+        List<ObjectId> expected = getDs().find(Rectangle.class)
+                .iterator(new FindOptions().sort(descending("height"), ascending("width"), ascending("_id")))
+                .toList().stream()
+                .map(Rectangle::getId)
+                .collect(Collectors.toList());
+
+        List<ObjectId> paged = new ArrayList<>();
+        String next = null;
+        String second = null;
+        int pages = 0;
+        do {
+            Page<Rectangle> page = getDs().find(Rectangle.class)
+                    .page(10, next, descending("height"), ascending("width"));
+            page.items().forEach(rectangle -> paged.add(rectangle.getId()));
+            next = page.next();
+            second = second == null ? next : second;
+            pages++;
+        } while (next != null);
+
+        assertEquals(pages, 10);
+        assertEquals(paged, expected);
+
+        String token = second;
+        assertThrows(IllegalArgumentException.class, () -> getDs().find(Rectangle.class).page(10, token, ascending("width")));
+        assertThrows(IllegalArgumentException.class, () -> getDs().find(Rectangle.class).page(10, "not a token"));
+    }
+
     @Test
     public void testMixedProjection() {
         getDs().save(new ContainsRenamedFields("Frank", "Zappa"));
@@ -834,6 +886,157 @@ public class TestQuery extends TestBase {
                 .first());
     }
 
+    @Test
+    public void testParallelDecode() {
+        List<HasIntId> entities = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entities.add(new HasIntId(i));
+        }
+        getDs().save(entities);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<HasIntId> found = getDs().find(HasIntId.class)
+                    .iterator(new FindOptions()
+                            .sort(ascending("_id"))
+                            .batchSize(50)
+                            .decodeOn(executor, 64))
+                    .toList();
+            assertEquals(found.size(), 1000);
+            for (int i = 0; i < found.size(); i++) {
+                assertEquals(found.get(i).id, i);
+            }
+
+            List<HasIntId> aggregated = getDs().aggregate(HasIntId.class)
+                    .pipeline(sort().ascending("_id"))
+                    .execute(HasIntId.class, new AggregationOptions()
+                            .batchSize(50)
+                            .decodeOn(executor))
+                    .toList();
+            assertEquals(aggregated.size(), 1000);
+            for (int i = 0; i < aggregated.size(); i++) {
+                assertEquals(aggregated.get(i).id, i);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelDecodeWithinSession() {
+        List<HasIntId> entities = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entities.add(new HasIntId(i));
+        }
+        getDs().save(entities);
+
+        AtomicInteger submitted = new AtomicInteger();
+        Executor counting = command -> {
+            submitted.incrementAndGet();
+            command.run();
+        };
+        try (MorphiaSession session = getDs().startSession()) {
+            List<HasIntId> found = session.find(HasIntId.class)
+                    .iterator(new FindOptions()
+                            .batchSize(10)
+                            .decodeOn(counting))
+                    .toList();
+            assertEquals(found.size(), 100);
+        }
+        assertEquals(submitted.get(), 0, "A session's results should be decoded on the calling thread");
+    }
+
+    @Test
+    public void testParallelDecodePrefetchesNextBatch() {
+        CountDownLatch fetched = new CountDownLatch(1);
+        BatchedCursor cursor = new BatchedCursor(fetched, List.of(new Document("_id", 1), new Document("_id", 2)),
+                List.of(new Document("_id", 3)));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (ParallelDecodingCursor<Integer> decoding = new ParallelDecodingCursor<>(cursor, document -> {
+            int id = document.getInt32("_id").getValue();
+            if (id == 2) {
+                // the tail of the first batch only finishes decoding once the next batch has been requested
+                try {
+                    assertTrue(fetched.await(10, TimeUnit.SECONDS), "The next batch should be fetched while the first is decoding");
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return id;
+        }, executor, 4, true)) {
+            List<Integer> ids = new ArrayList<>();
+            decoding.forEachRemaining(ids::add);
+            assertEquals(ids, List.of(1, 2, 3));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPartitions() {
+        List<HasIntId> entities = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entities.add(new HasIntId(i));
+        }
+        getDs().save(entities);
+        getDs().getCollection(HasIntId.class).withDocumentClass(Document.class)
+                .insertOne(new Document("_id", "not an int"));
+
+        List<Query<HasIntId>> partitions = getDs().find(HasIntId.class).partitions(4);
+        assertTrue(partitions.size() > 1, "The query should have been split");
+        assertEquals(partitions.stream().mapToLong(Query::count).sum(), 1001);
+
+        List<Integer> ids = getDs().find(HasIntId.class)
+                .filter(gte("_id", 500))
+                .stream(new FindOptions(), 4)
+                .map(entity -> entity.id)
+                .collect(Collectors.toList());
+        assertEquals(ids.size(), 500);
+        assertEquals(new HashSet<>(ids).size(), 500);
+        assertTrue(ids.stream().allMatch(id -> id >= 500));
+
+        List<Query<HasIntId>> upper = getDs().find(HasIntId.class).filter(gte("_id", 500)).partitions(4);
+        assertTrue(upper.size() > 1, "The query should have been split");
+        assertEquals(upper.stream().mapToLong(Query::count).sum(), 500);
+        assertTrue(upper.stream().allMatch(partition -> partition.count() > 0),
+                "The boundaries should be sampled from the documents the query matches");
+
+        try (MorphiaSession session = getDs().startSession()) {
+            assertEquals(session.find(HasIntId.class)
+                    .filter(gte("_id", 500))
+                    .stream(new FindOptions(), 4)
+                    .count(), 500);
+        }
+
+        assertEquals(getDs().find(HasIntId.class).partitions(1).size(), 1);
+        assertThrows(IllegalArgumentException.class, () -> getDs().find(HasIntId.class).partitions(0));
+    }
+
+    @Test
+    public void testParallelDecodeTryNextOnTailable() throws Exception {
+        assertCapped(CappedPic.class, 1000);
+        for (int i = 0; i < 3; i++) {
+            getDs().save(new CappedPic());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (MongoCursor<CappedPic> tail = getDs().find(CappedPic.class)
+                .iterator(new FindOptions()
+                        .cursorType(CursorType.TailableAwait)
+                        .decodeOn(executor))) {
+            List<CappedPic> found = new ArrayList<>();
+            while (found.size() < 3) {
+                CappedPic pic = tail.tryNext();
+                if (pic != null) {
+                    found.add(pic);
+                }
+            }
+            assertNull(CompletableFuture.supplyAsync(tail::tryNext).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testProject() {
         getDs().save(new ContainsRenamedFields("Frank", "Zappa"));
@@ -1676,4 +1879,71 @@ public class TestQuery extends TestBase {
         @SuppressWarnings("unused")
         private ObjectId id;
     }
+
+    /**
+     * Serves documents in fixed batches, counting down the latch when asked for the second
+     */
+    private static class BatchedCursor implements MongoCursor<RawBsonDocument> {
+        private final CountDownLatch fetched;
+        private final Deque<List<Document>> batches;
+        private final Deque<RawBsonDocument> current = new ArrayDeque<>();
+        private int fetches;
+
+        @SafeVarargs
+        BatchedCursor(CountDownLatch fetched, List<Document>... batches) {
+            this.fetched = fetched;
+            this.batches = new ArrayDeque<>(List.of(batches));
+            fetch();
+        }
+
+        private void fetch() {
+            List<Document> batch = batches.poll();
+            if (batch != null) {
+                if (fetches++ > 0) {
+                    fetched.countDown();
+                }
+                batch.forEach(document -> current.add(RawBsonDocument.parse(document.toJson())));
+            }
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current.isEmpty()) {
+                fetch();
+            }
+            return !current.isEmpty();
+        }
+
+        @Override
+        public RawBsonDocument next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return current.remove();
+        }
+
+        @Override
+        public int available() {
+            return current.size();
+        }
+
+        @Override
+        public RawBsonDocument tryNext() {
+            return hasNext() ? next() : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return new ServerAddress();
+        }
+    }
 }
@@ -0,0 +1,527 @@
+package dev.morphia.critter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import dev.morphia.mapping.EntityModelImporter;
+
+import static java.lang.String.format;
+
+/**
+ * Generates, at build time, the accessors and instance creators for each entity type so that entities can be read and written without
+ * reflection at runtime. The models themselves are still built by the {@code Mapper}. For each {@code @Entity} and
+ * {@code @ExternalEntity} a {@code <Type>_Critter} class is generated next to the entity. It is an {@link EntityModelImporter} which maps
+ * the entity when the datastore is created and swaps in the generated accessors and creator. The importers are listed for the
+ * {@link java.util.ServiceLoader} once all the sources have been processed, merged with those listed by earlier compilations of the same
+ * output so that incremental builds keep the entities not recompiled.
+ * <p>
+ * Fields visible to the generated code are read and written directly. Private and final fields, and those of superclasses the generated
+ * code can not see, are reached through method handles resolved once from a private lookup in to the declaring type. Array-typed fields
+ * keep the converting accessors configured by the mapper and types without a no-arg constructor keep using the default instance creators.
+ *
+ * @since 3.0
+ */
+@SupportedAnnotationTypes({ CritterProcessor.ENTITY, CritterProcessor.EXTERNAL_ENTITY })
+public class CritterProcessor extends AbstractProcessor {
+    static final String ENTITY = "dev.morphia.annotations.Entity";
+    static final String EXTERNAL_ENTITY = "dev.morphia.annotations.ExternalEntity";
+    static final String SERVICES = "META-INF/services/" + EntityModelImporter.class.getName();
+
+    private final Set<String> generated = new TreeSet<>();
+    private final Set<String> compiled = new HashSet<>();
+    private Elements elements;
+    private Types types;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+        filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!compiled.isEmpty()) {
+                writeServices();
+            }
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type);
+        }
+        for (TypeElement annotation : annotations) {
+            for (TypeElement entity : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (isSupported(entity)) {
+                    TypeElement target = annotation.getQualifiedName().contentEquals(EXTERNAL_ENTITY)
+                            ? externalTarget(entity)
+                            : entity;
+                    if (target != null) {
+                        generate(entity, target);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records the importer each compiled type would have so that those listed by an earlier compilation but no longer generated are
+     * dropped.
+     */
+    private void collect(TypeElement type) {
+        compiled.add(qualifiedName(type));
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(member);
+        }
+    }
+
+    private boolean isSupported(TypeElement entity) {
+        if (entity.getKind() != ElementKind.CLASS || entity.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        Element enclosing = entity;
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            if (enclosing instanceof TypeElement type && type.getNestingKind() == NestingKind.MEMBER
+                    && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private TypeElement externalTarget(TypeElement entity) {
+        for (AnnotationMirror mirror : entity.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotation.getQualifiedName().contentEquals(EXTERNAL_ENTITY)) {
+                for (var entry : mirror.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("target")) {
+                        AnnotationValue value = entry.getValue();
+                        return (TypeElement) ((DeclaredType) value.getValue()).asElement();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private void generate(TypeElement entity, TypeElement target) {
+        String packageName = elements.getPackageOf(entity).getQualifiedName().toString();
+        String className = generatedName(entity);
+        String qualifiedName = qualifiedName(entity);
+        if (generated.contains(qualifiedName)) {
+            return;
+        }
+        boolean visibleTarget = isVisible(target, packageName);
+        List<VariableElement> fields = visibleTarget ? mappableFields(target, packageName) : List.of();
+        ExecutableElement constructor = visibleTarget ? noArgConstructor(target) : null;
+        boolean creator = constructor != null;
+        boolean handles = fields.stream().anyMatch(field -> !isAccessible(field, packageName))
+                || creator && !isAccessible(constructor, packageName);
+
+        try (PrintWriter writer = new PrintWriter(filer.createSourceFile(qualifiedName, entity).openWriter())) {
+            String targetName = types.erasure(target.asType()).toString();
+            if (!packageName.isEmpty()) {
+                writer.println(format("package %s;", packageName));
+                writer.println();
+            }
+            if (handles) {
+                writer.println("import java.lang.invoke.MethodHandle;");
+                writer.println("import java.lang.invoke.MethodHandles;");
+                writer.println("import java.lang.reflect.Field;");
+                writer.println("import java.lang.reflect.Modifier;");
+            }
+            writer.println("import java.util.List;");
+            writer.println();
+            writer.println("import dev.morphia.MorphiaDatastore;");
+            writer.println("import dev.morphia.mapping.EntityModelImporter;");
+            writer.println("import dev.morphia.mapping.Mapper;");
+            if (handles) {
+                writer.println("import dev.morphia.mapping.MappingException;");
+            }
+            writer.println("import dev.morphia.mapping.codec.FieldAccessor;");
+            writer.println("import dev.morphia.mapping.codec.MorphiaCodecProvider;");
+            writer.println("import dev.morphia.mapping.codec.MorphiaInstanceCreator;");
+            writer.println("import dev.morphia.mapping.codec.pojo.EntityModel;");
+            writer.println("import dev.morphia.mapping.codec.pojo.PropertyModel;");
+            writer.println();
+            writer.println("import org.bson.codecs.pojo.PropertyAccessor;");
+            writer.println();
+            if (handles) {
+                writer.println("import static java.lang.invoke.MethodType.methodType;");
+                writer.println();
+            }
+            writer.println(format("@javax.annotation.processing.Generated(\"%s\")", getClass().getName()));
+            writer.println(format("public final class %s implements EntityModelImporter {", className));
+            writer.println("    @Override");
+            writer.println("    public MorphiaCodecProvider getCodecProvider(MorphiaDatastore datastore) {");
+            writer.println("        return null;");
+            writer.println("    }");
+            writer.println();
+            writer.println("    @Override");
+            writer.println("    public List<EntityModel> getModels(Mapper mapper) {");
+            writer.println(format("        EntityModel model = mapper.mapEntity(%s.class);", types.erasure(entity.asType())));
+            writer.println("        if (model == null) {");
+            writer.println("            return List.of();");
+            writer.println("        }");
+            writer.println("        apply(model);");
+            writer.println("        return List.of(model);");
+            writer.println("    }");
+            writer.println();
+            writer.println("    private static void apply(EntityModel model) {");
+            if (!fields.isEmpty()) {
+                writer.println("        for (PropertyModel property : model.getProperties()) {");
+                writer.println("            if (property.getAccessor() == null || property.getAccessor().getClass() != FieldAccessor.class) {");
+                writer.println("                continue;");
+                writer.println("            }");
+                writer.println("            switch (property.getName()) {");
+                for (int i = 0; i < fields.size(); i++) {
+                    writer.println(format("                case \"%s\":", fields.get(i).getSimpleName()));
+                    if (isAccessible(fields.get(i), packageName)) {
+                        writer.println(format("                    property.accessor(new Accessor%d());", i));
+                    } else {
+                        writer.println(format("                    if (Accessor%d.GETTER != null && Accessor%1$d.SETTER != null) {", i));
+                        writer.println(format("                        property.accessor(new Accessor%d());", i));
+                        writer.println("                    }");
+                    }
+                    writer.println("                    break;");
+                }
+                writer.println("                default:");
+                writer.println("                    break;");
+                writer.println("            }");
+                writer.println("        }");
+            }
+            if (creator && isAccessible(constructor, packageName)) {
+                writer.println("        model.instanceCreatorFactory(Creator::new);");
+            } else if (creator) {
+                writer.println("        if (Creator.CONSTRUCTOR != null) {");
+                writer.println("            model.instanceCreatorFactory(Creator::new);");
+                writer.println("        }");
+            }
+            writer.println("    }");
+
+            for (int i = 0; i < fields.size(); i++) {
+                VariableElement field = fields.get(i);
+                if (isAccessible(field, packageName)) {
+                    writeAccessor(writer, i, targetName, field);
+                } else {
+                    writeHandleAccessor(writer, i, field);
+                }
+            }
+
+            if (creator) {
+                writeCreator(writer, targetName, isAccessible(constructor, packageName));
+            }
+            if (handles) {
+                writeLookups(writer);
+            }
+            writer.println("}");
+            generated.add(qualifiedName);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, format("Could not generate %s: %s", qualifiedName, e.getMessage()), entity);
+        }
+    }
+
+    private void writeAccessor(PrintWriter writer, int index, String targetName, VariableElement field) {
+        String fieldType = boxed(types.erasure(field.asType()));
+        writer.println();
+        writer.println(format("    private static final class Accessor%d implements PropertyAccessor<Object> {", index));
+        writer.println("        @Override");
+        writer.println("        public <S> Object get(S instance) {");
+        writer.println(format("            return ((%s) instance).%s;", targetName, field.getSimpleName()));
+        writer.println("        }");
+        writer.println();
+        writer.println("        @Override");
+        writer.println("        public <S> void set(S instance, Object value) {");
+        writer.println(format("            ((%s) instance).%s = (%s) value;", targetName, field.getSimpleName(), fieldType));
+        writer.println("        }");
+        writer.println("    }");
+    }
+
+    /**
+     * Writes an accessor for a field the generated code can not reach directly. The handles are constants so the JIT can inline them just
+     * as it would a direct field access.
+     */
+    private void writeHandleAccessor(PrintWriter writer, int index, VariableElement field) {
+        String owner = types.erasure(field.getEnclosingElement().asType()).toString();
+        writer.println();
+        writer.println(format("    private static final class Accessor%d implements PropertyAccessor<Object> {", index));
+        writer.println(format("        private static final MethodHandle GETTER = getter(%s.class, \"%s\");", owner, field.getSimpleName()));
+        writer.println(format("        private static final MethodHandle SETTER = setter(%s.class, \"%s\");", owner, field.getSimpleName()));
+        writer.println();
+        writer.println("        @Override");
+        writer.println("        public <S> Object get(S instance) {");
+        writer.println("            try {");
+        writer.println("                return (Object) GETTER.invokeExact((Object) instance);");
+        writer.println("            } catch (RuntimeException | Error e) {");
+        writer.println("                throw e;");
+        writer.println("            } catch (Throwable e) {");
+        writer.println("                throw new MappingException(e.getMessage(), e);");
+        writer.println("            }");
+        writer.println("        }");
+        writer.println();
+        writer.println("        @Override");
+        writer.println("        public <S> void set(S instance, Object value) {");
+        writer.println("            try {");
+        writer.println("                SETTER.invokeExact((Object) instance, value);");
+        writer.println("            } catch (RuntimeException | Error e) {");
+        writer.println("                throw e;");
+        writer.println("            } catch (Throwable e) {");
+        writer.println("                throw new MappingException(e.getMessage(), e);");
+        writer.println("            }");
+        writer.println("        }");
+        writer.println("    }");
+    }
+
+    private void writeCreator(PrintWriter writer, String targetName, boolean accessible) {
+        writer.println();
+        writer.println("    private static final class Creator implements MorphiaInstanceCreator {");
+        if (!accessible) {
+            writer.println(format("        private static final MethodHandle CONSTRUCTOR = constructor(%s.class);", targetName));
+            writer.println();
+        }
+        writer.println(format("        private %s instance;", targetName));
+        writer.println();
+        writer.println("        @Override");
+        writer.println("        public Object getInstance() {");
+        writer.println("            if (instance == null) {");
+        if (accessible) {
+            writer.println(format("                instance = new %s();", targetName));
+        } else {
+            writer.println("                try {");
+            writer.println(format("                    instance = (%s) CONSTRUCTOR.invokeExact();", targetName));
+            writer.println("                } catch (RuntimeException | Error e) {");
+            writer.println("                    throw e;");
+            writer.println("                } catch (Throwable e) {");
+            writer.println("                    throw new MappingException(e.getMessage(), e);");
+            writer.println("                }");
+        }
+        writer.println("            }");
+        writer.println("            return instance;");
+        writer.println("        }");
+        writer.println();
+        writer.println("        @Override");
+        writer.println("        public void set(Object value, PropertyModel model) {");
+        writer.println("            model.getAccessor().set(getInstance(), value);");
+        writer.println("        }");
+        writer.println("    }");
+    }
+
+    /**
+     * Writes the helpers resolving the handles. A handle which can not be resolved, e.g. because the declaring type's module does not open
+     * its package to the entity's, is left null and the mapper's reflective accessor is kept instead.
+     */
+    private void writeLookups(PrintWriter writer) {
+        writer.println();
+        writer.println("    private static MethodHandle getter(Class<?> owner, String name) {");
+        writer.println("        try {");
+        writer.println("            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())");
+        writer.println("                    .unreflectGetter(owner.getDeclaredField(name))");
+        writer.println("                    .asType(methodType(Object.class, Object.class));");
+        writer.println("        } catch (ReflectiveOperationException | RuntimeException e) {");
+        writer.println("            return null;");
+        writer.println("        }");
+        writer.println("    }");
+        writer.println();
+        writer.println("    private static MethodHandle setter(Class<?> owner, String name) {");
+        writer.println("        try {");
+        writer.println("            Field field = owner.getDeclaredField(name);");
+        writer.println("            if (Modifier.isFinal(field.getModifiers())) {");
+        writer.println("                // handles may only write final fields that have been made accessible");
+        writer.println("                field.setAccessible(true);");
+        writer.println("            }");
+        writer.println("            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())");
+        writer.println("                    .unreflectSetter(field)");
+        writer.println("                    .asType(methodType(void.class, Object.class, Object.class));");
+        writer.println("        } catch (ReflectiveOperationException | RuntimeException e) {");
+        writer.println("            return null;");
+        writer.println("        }");
+        writer.println("    }");
+        writer.println();
+        writer.println("    private static MethodHandle constructor(Class<?> type) {");
+        writer.println("        try {");
+        writer.println("            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())");
+        writer.println("                    .findConstructor(type, methodType(void.class))");
+        writer.println("                    .asType(methodType(type));");
+        writer.println("        } catch (ReflectiveOperationException | RuntimeException e) {");
+        writer.println("            return null;");
+        writer.println("        }");
+        writer.println("    }");
+    }
+
+    private void writeServices() {
+        Set<String> importers = new TreeSet<>(generated);
+        importers.addAll(previousImporters());
+        try {
+            FileObject services = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (Writer writer = services.openWriter()) {
+                for (String importer : importers) {
+                    writer.write(importer);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, format("Could not write %s: %s", SERVICES, e.getMessage()));
+        }
+    }
+
+    /**
+     * @return the importers listed by an earlier compilation which were not compiled again and still exist
+     */
+    private Set<String> previousImporters() {
+        Set<String> previous = new TreeSet<>();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICES);
+            try (Reader reader = resource.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                lines.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !compiled.contains(line))
+                        .filter(line -> elements.getTypeElement(line) != null)
+                        .forEach(previous::add);
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // no earlier compilation
+        }
+        return previous;
+    }
+
+    /**
+     * @return the fields the mapper could map, the subclass' field first when a name is declared more than once
+     */
+    private List<VariableElement> mappableFields(TypeElement type, String packageName) {
+        List<VariableElement> fields = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        TypeElement current = type;
+        while (current != null && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            boolean visibleType = isVisible(current, packageName);
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (seen.add(field.getSimpleName().toString()) && visibleType && isMappable(field)) {
+                    fields.add(field);
+                }
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(superclass) : null;
+        }
+        return fields;
+    }
+
+    private boolean isMappable(VariableElement field) {
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        TypeMirror type = field.asType();
+        return type.getKind() != TypeKind.ARRAY || types.erasure(type).toString().equals("byte[]");
+    }
+
+    /**
+     * @return true if the generated code can read and write the field directly
+     */
+    private boolean isAccessible(VariableElement field, String packageName) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || samePackage((TypeElement) field.getEnclosingElement(), packageName);
+    }
+
+    private boolean isAccessible(ExecutableElement constructor, String packageName) {
+        Set<Modifier> modifiers = constructor.getModifiers();
+        return modifiers.contains(Modifier.PUBLIC)
+                || !modifiers.contains(Modifier.PRIVATE) && samePackage((TypeElement) constructor.getEnclosingElement(), packageName);
+    }
+
+    private ExecutableElement noArgConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return null;
+        }
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+        if (constructors.size() != 1 || !constructors.get(0).getParameters().isEmpty()) {
+            return null;
+        }
+        return constructors.get(0);
+    }
+
+    private boolean isVisible(TypeElement type, String packageName) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || !modifiers.contains(Modifier.PUBLIC) && !samePackage(type, packageName)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean samePackage(TypeElement type, String packageName) {
+        PackageElement element = elements.getPackageOf(type);
+        return element.getQualifiedName().contentEquals(packageName);
+    }
+
+    private String qualifiedName(TypeElement entity) {
+        String packageName = elements.getPackageOf(entity).getQualifiedName().toString();
+        String className = generatedName(entity);
+        return packageName.isEmpty() ? className : packageName + "." + className;
+    }
+
+    private String generatedName(TypeElement entity) {
+        StringBuilder name = new StringBuilder(entity.getSimpleName());
+        Element enclosing = entity.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("_Critter").toString();
+    }
+
+    private String boxed(TypeMirror type) {
+        return type.getKind().isPrimitive()
+                ? types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString()
+                : type.toString();
+    }
+}
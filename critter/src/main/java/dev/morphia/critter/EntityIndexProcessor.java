@@ -0,0 +1,152 @@
+package dev.morphia.critter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import dev.morphia.mapping.Mapper;
+
+import static java.lang.String.format;
+
+/**
+ * Lists, at build time, every type which is mapped by {@code @Entity} or {@code @ExternalEntity}, directly or through a supertype, in to
+ * {@value Mapper#ENTITY_INDEX}. When the mapper finds this index on the classpath it maps the configured packages from it rather than
+ * scanning the classpath for them.
+ * <p>
+ * Entries from an earlier, incremental, compilation are kept as long as their types still exist and were not recompiled. Every module
+ * containing entities should be compiled with this processor since modules without an index are not scanned once any index is present.
+ *
+ * @since 3.0
+ */
+@SupportedAnnotationTypes("*")
+public class EntityIndexProcessor extends AbstractProcessor {
+    private static final List<String> MAPPING_ANNOTATIONS = List.of(CritterProcessor.ENTITY, CritterProcessor.EXTERNAL_ENTITY);
+
+    private final Set<String> entities = new TreeSet<>();
+    private final Set<String> compiled = new HashSet<>();
+    private Elements elements;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        elements = processingEnv.getElementUtils();
+        filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!compiled.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            collect(type);
+        }
+        return false;
+    }
+
+    private void collect(TypeElement type) {
+        String name = elements.getBinaryName(type).toString();
+        compiled.add(name);
+        if (isMapped(type)) {
+            entities.add(name);
+        }
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements())) {
+            collect(member);
+        }
+    }
+
+    private boolean isMapped(TypeElement type) {
+        for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (MAPPING_ANNOTATIONS.contains(annotation.getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        if (isMapped(type.getSuperclass())) {
+            return true;
+        }
+        for (TypeMirror mirror : type.getInterfaces()) {
+            if (isMapped(mirror)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isMapped(TypeMirror mirror) {
+        return mirror.getKind() == TypeKind.DECLARED && isMapped((TypeElement) ((DeclaredType) mirror).asElement());
+    }
+
+    private void writeIndex() {
+        Set<String> previous = previousEntries();
+        if (previous == null && entities.isEmpty()) {
+            return;
+        }
+        Set<String> index = new TreeSet<>(entities);
+        if (previous != null) {
+            index.addAll(previous);
+        }
+        try {
+            FileObject resource = filer.createResource(StandardLocation.CLASS_OUTPUT, "", Mapper.ENTITY_INDEX);
+            try (Writer writer = resource.openWriter()) {
+                for (String entity : index) {
+                    writer.write(entity);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, format("Could not write %s: %s", Mapper.ENTITY_INDEX, e.getMessage()));
+        }
+    }
+
+    /**
+     * @return the entries of the index written by an earlier compilation which are still valid or null if there is no such index
+     */
+    private Set<String> previousEntries() {
+        Set<String> previous = new TreeSet<>();
+        try {
+            FileObject resource = filer.getResource(StandardLocation.CLASS_OUTPUT, "", Mapper.ENTITY_INDEX);
+            try (Reader reader = resource.openReader(true); BufferedReader lines = new BufferedReader(reader)) {
+                lines.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !compiled.contains(line))
+                        .filter(line -> elements.getTypeElement(line.replace('$', '.')) != null)
+                        .forEach(previous::add);
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            return null;
+        }
+        return previous;
+    }
+}
@@ -0,0 +1,225 @@
+package dev.morphia.test.critter;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import dev.morphia.critter.CritterProcessor;
+import dev.morphia.mapping.EntityModelImporter;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import org.testng.annotations.Test;
+
+import static dev.morphia.config.ManualMorphiaConfig.configure;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestCritterProcessor {
+    private static final String BOOK = """
+            package app;
+
+            import dev.morphia.annotations.Entity;
+            import dev.morphia.annotations.Id;
+            import org.bson.types.ObjectId;
+
+            @Entity("books")
+            public class Book {
+                @Id
+                ObjectId id;
+                String title;
+                private int pages;
+
+                @Entity("chapters")
+                public static class Chapter {
+                    @Id
+                    ObjectId id;
+                    String name;
+                }
+            }
+            """;
+
+    private static final String AUTHOR = """
+            package app;
+
+            import dev.morphia.annotations.Entity;
+            import dev.morphia.annotations.Id;
+            import org.bson.types.ObjectId;
+
+            @Entity("authors")
+            public class Author {
+                @Id
+                ObjectId id;
+                String name;
+            }
+            """;
+
+    private static final String ITEM = """
+            package app.base;
+
+            public abstract class Item {
+                private String sku;
+                protected int stock;
+            }
+            """;
+
+    private static final String MAGAZINE = """
+            package app;
+
+            import java.util.ArrayList;
+            import java.util.List;
+
+            import app.base.Item;
+            import dev.morphia.annotations.Entity;
+            import dev.morphia.annotations.Id;
+            import org.bson.types.ObjectId;
+
+            @Entity("magazines")
+            public class Magazine extends Item {
+                @Id
+                private ObjectId id;
+                private String title;
+                private final List<String> tags = new ArrayList<>();
+
+                private Magazine() {
+                }
+            }
+            """;
+
+    @Test
+    public void generatesImporters() throws Exception {
+        Path output = Files.createTempDirectory("critter");
+        compile(output, Map.of("app/Book.java", BOOK));
+
+        assertEquals(services(output), List.of("app.Book_Chapter_Critter", "app.Book_Critter"));
+        assertTrue(Files.exists(output.resolve("app/Book_Critter.class")));
+    }
+
+    @Test
+    public void mergesIncrementalBuilds() throws Exception {
+        Path output = Files.createTempDirectory("critter");
+        compile(output, Map.of("app/Book.java", BOOK));
+        compile(output, Map.of("app/Author.java", AUTHOR));
+        assertEquals(services(output), List.of("app.Author_Critter", "app.Book_Chapter_Critter", "app.Book_Critter"));
+
+        compile(output, Map.of("app/Book.java", BOOK.replace("    @Entity(\"chapters\")\n", "")));
+        assertEquals(services(output), List.of("app.Author_Critter", "app.Book_Critter"));
+    }
+
+    @Test
+    public void appliesGeneratedAccessors() throws Exception {
+        Path output = Files.createTempDirectory("critter");
+        compile(output, Map.of("app/Book.java", BOOK));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { output.toUri().toURL() }, getClass().getClassLoader())) {
+            EntityModelImporter importer = (EntityModelImporter) loader.loadClass("app.Book_Critter")
+                    .getConstructor()
+                    .newInstance();
+            assertNull(importer.getCodecProvider(null), "The datastore's own codec provider should be used");
+
+            List<EntityModel> models = importer.getModels(new Mapper(configure()));
+            assertEquals(models.size(), 1);
+            EntityModel model = models.get(0);
+            assertEquals(model.getType(), loader.loadClass("app.Book"));
+
+            PropertyModel title = model.getProperty("title");
+            assertTrue(title.getAccessor().getClass().getName().startsWith("app.Book_Critter$"), title.getAccessor().toString());
+            PropertyModel pages = model.getProperty("pages");
+            assertTrue(pages.getAccessor().getClass().getName().startsWith("app.Book_Critter$"), pages.getAccessor().toString());
+
+            Object book = model.getInstanceCreator().getInstance();
+            title.setValue(book, "Dune");
+            pages.setValue(book, 412);
+            assertEquals(title.getValue(book), "Dune");
+            assertEquals(pages.getValue(book), 412);
+        }
+    }
+
+    @Test
+    public void reachesPrivateMembers() throws Exception {
+        Path output = Files.createTempDirectory("critter");
+        compile(output, Map.of("app/base/Item.java", ITEM, "app/Magazine.java", MAGAZINE));
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { output.toUri().toURL() }, getClass().getClassLoader())) {
+            EntityModelImporter importer = (EntityModelImporter) loader.loadClass("app.Magazine_Critter")
+                    .getConstructor()
+                    .newInstance();
+            EntityModel model = importer.getModels(new Mapper(configure())).get(0);
+
+            List<String> reflective = model.getProperties().stream()
+                    .filter(property -> !property.getAccessor().getClass().getName().startsWith("app.Magazine_Critter$"))
+                    .map(PropertyModel::getName)
+                    .collect(Collectors.toList());
+            assertEquals(reflective, List.of(), "No property should be left on a reflective accessor");
+            assertEquals(model.getProperties().size(), 5);
+
+            Object magazine = model.getInstanceCreator().getInstance();
+            assertEquals(magazine.getClass(), loader.loadClass("app.Magazine"));
+            for (String name : List.of("title", "sku")) {
+                model.getProperty(name).setValue(magazine, name + " value");
+                assertEquals(model.getProperty(name).getValue(magazine), name + " value");
+            }
+            PropertyModel stock = model.getProperty("stock");
+            stock.setValue(magazine, 12);
+            assertEquals(stock.getValue(magazine), 12);
+
+            PropertyModel tags = model.getProperty("tags");
+            tags.setValue(magazine, new ArrayList<>(List.of("weekly")));
+            assertEquals(tags.getValue(magazine), List.of("weekly"));
+        }
+    }
+
+    /**
+     * Compiles the sources with the processor in to the output directory, failing on any warning as a {@code -Werror} build would.
+     */
+    private static void compile(Path output, Map<String, String> sources) throws IOException {
+        Path sourceRoot = Files.createTempDirectory("critter-src");
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            Path file = sourceRoot.resolve(entry.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, entry.getValue());
+            files.add(file.toFile());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Path generated = Files.createDirectories(sourceRoot.resolve("generated"));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            String classpath = System.getProperty("java.class.path") + File.pathSeparator + output;
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-Werror", "-classpath", classpath, "-d", output.toString(), "-s", generated.toString()),
+                    null, fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(new CritterProcessor()));
+            boolean success = task.call();
+
+            String messages = diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() != Diagnostic.Kind.NOTE)
+                    .map(Object::toString)
+                    .collect(Collectors.joining("\n"));
+            assertTrue(success && messages.isEmpty(), messages);
+        }
+    }
+
+    private static List<String> services(Path output) throws IOException {
+        return Files.readAllLines(output.resolve("META-INF/services/" + EntityModelImporter.class.getName())).stream()
+                .filter(line -> !line.isBlank())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,42 @@
+package dev.morphia.reactive;
+
+import java.util.function.Supplier;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Creates the publisher to subscribe to anew for each subscriber so any work done ahead of a write, e.g. bumping versions, only happens
+ * once the write is subscribed to. Should creating the publisher fail, the failure is signalled to the subscriber.
+ *
+ * @param <T> the value type
+ */
+final class DeferredPublisher<T> implements Publisher<T> {
+    private final Supplier<Publisher<T>> supplier;
+
+    DeferredPublisher(Supplier<Publisher<T>> supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Publisher<T> publisher;
+        try {
+            publisher = supplier.get();
+        } catch (RuntimeException e) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(e);
+            return;
+        }
+        publisher.subscribe(subscriber);
+    }
+}
@@ -0,0 +1,44 @@
+package dev.morphia.reactive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Publishes a single, already known value once it is requested.
+ *
+ * @param <T> the value type
+ */
+final class JustPublisher<T> implements Publisher<T> {
+    private final T value;
+
+    JustPublisher(T value) {
+        this.value = value;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new Subscription() {
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Demand must be positive: " + n));
+                } else {
+                    subscriber.onNext(value);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package dev.morphia.reactive;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Maps each item of a publisher one for one. Demand is passed through untouched so the wrapped publisher's backpressure is preserved.
+ * Should the mapping fail, the subscription is cancelled and the failure is signalled downstream.
+ *
+ * @param <S> the source type
+ * @param <T> the mapped type
+ */
+final class MappingPublisher<S, T> implements Publisher<T> {
+    private final Publisher<S> source;
+    private final Function<S, T> mapper;
+    private final Consumer<Throwable> onError;
+
+    MappingPublisher(Publisher<S> source, Function<S, T> mapper) {
+        this(source, mapper, error -> {
+        });
+    }
+
+    MappingPublisher(Publisher<S> source, Function<S, T> mapper, Consumer<Throwable> onError) {
+        this.source = source;
+        this.mapper = mapper;
+        this.onError = onError;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        source.subscribe(new MappingSubscriber(subscriber));
+    }
+
+    private class MappingSubscriber implements Subscriber<S> {
+        private final Subscriber<? super T> downstream;
+        private Subscription subscription;
+        private boolean done;
+
+        MappingSubscriber(Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (done) {
+                return;
+            }
+            T mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (RuntimeException e) {
+                subscription.cancel();
+                onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            onError.accept(throwable);
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+    }
+}
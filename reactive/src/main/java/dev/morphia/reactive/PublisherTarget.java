@@ -0,0 +1,124 @@
+package dev.morphia.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.CursorType;
+import com.mongodb.client.model.Collation;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.FindPublisher;
+
+import dev.morphia.query.FindTarget;
+
+import org.bson.BsonValue;
+import org.bson.conversions.Bson;
+
+/**
+ * Applies {@link dev.morphia.query.FindOptions} to a reactive find.
+ */
+class PublisherTarget implements FindTarget {
+    private final FindPublisher<?> publisher;
+
+    PublisherTarget(FindPublisher<?> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void allowDiskUse(@Nullable Boolean allowDiskUse) {
+        publisher.allowDiskUse(allowDiskUse);
+    }
+
+    @Override
+    public void batchSize(int batchSize) {
+        publisher.batchSize(batchSize);
+    }
+
+    @Override
+    public void collation(@Nullable Collation collation) {
+        publisher.collation(collation);
+    }
+
+    @Override
+    public void comment(@Nullable BsonValue comment) {
+        publisher.comment(comment);
+    }
+
+    @Override
+    public void cursorType(CursorType cursorType) {
+        publisher.cursorType(cursorType);
+    }
+
+    @Override
+    public void hint(@Nullable Bson hint) {
+        publisher.hint(hint);
+    }
+
+    @Override
+    public void hintString(@Nullable String hint) {
+        publisher.hintString(hint);
+    }
+
+    @Override
+    public void let(@Nullable Bson variables) {
+        publisher.let(variables);
+    }
+
+    @Override
+    public void limit(int limit) {
+        publisher.limit(limit);
+    }
+
+    @Override
+    public void max(@Nullable Bson max) {
+        publisher.max(max);
+    }
+
+    @Override
+    public void maxAwaitTime(long maxAwaitTime, TimeUnit timeUnit) {
+        publisher.maxAwaitTime(maxAwaitTime, timeUnit);
+    }
+
+    @Override
+    public void maxTime(long maxTime, TimeUnit timeUnit) {
+        publisher.maxTime(maxTime, timeUnit);
+    }
+
+    @Override
+    public void min(@Nullable Bson min) {
+        publisher.min(min);
+    }
+
+    @Override
+    public void noCursorTimeout(boolean noCursorTimeout) {
+        publisher.noCursorTimeout(noCursorTimeout);
+    }
+
+    @Override
+    public void partial(boolean partial) {
+        publisher.partial(partial);
+    }
+
+    @Override
+    public void projection(@Nullable Bson projection) {
+        publisher.projection(projection);
+    }
+
+    @Override
+    public void returnKey(boolean returnKey) {
+        publisher.returnKey(returnKey);
+    }
+
+    @Override
+    public void showRecordId(boolean showRecordId) {
+        publisher.showRecordId(showRecordId);
+    }
+
+    @Override
+    public void skip(int skip) {
+        publisher.skip(skip);
+    }
+
+    @Override
+    public void sort(@Nullable Bson sort) {
+        publisher.sort(sort);
+    }
+}
@@ -0,0 +1,322 @@
+package dev.morphia.reactive;
+
+import java.util.List;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+
+import dev.morphia.Datastore;
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertManyOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.MorphiaDatastore;
+import dev.morphia.MorphiaDatastore.VersionBumpInfo;
+import dev.morphia.VersionMismatchException;
+import dev.morphia.aggregation.AggregationImpl;
+import dev.morphia.aggregation.stages.Stage;
+import dev.morphia.annotations.Entity;
+import dev.morphia.internal.CollectionConfigurable;
+import dev.morphia.internal.CollectionConfiguration;
+import dev.morphia.internal.ReadConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.PropertyModel;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.reactivestreams.Publisher;
+
+import static dev.morphia.query.filters.Filters.eq;
+
+/**
+ * A non-blocking counterpart to {@link Datastore} built on the reactive streams driver. The mapping, codecs, filters, updates, and
+ * aggregation stages of the datastore it is created from are shared as is so entities, queries, and pipelines behave the same through
+ * either. Results are published as the driver delivers them and demand is passed through to the driver so cursors are only advanced, a
+ * batch at a time, as subscribers request more.
+ * <p>
+ * Eager references are loaded through the blocking datastore as entities are decoded. Entities with eager references are best read with
+ * lazy references instead when blocking is not an option.
+ *
+ * @since 3.0
+ */
+public class ReactiveDatastore {
+    private final MorphiaDatastore datastore;
+    private final MongoDatabase database;
+
+    /**
+     * Creates a reactive datastore sharing the mapping of the given datastore.
+     *
+     * @param datastore the datastore whose mapping to use
+     * @param client    the reactive client to use
+     */
+    public ReactiveDatastore(Datastore datastore, MongoClient client) {
+        this.datastore = (MorphiaDatastore) datastore;
+        this.database = client.getDatabase(this.datastore.getMapper().getConfig().database())
+                .withCodecRegistry(this.datastore.getCodecRegistry());
+    }
+
+    /**
+     * Runs an aggregation pipeline against the collection of a mapped type.
+     *
+     * @param source     the type whose collection to aggregate
+     * @param resultType the type of the results
+     * @param stages     the pipeline stages
+     * @param <S>        the source type
+     * @param <R>        the result type
+     * @return the results
+     */
+    public <S, R> Publisher<R> aggregate(Class<S> source, Class<R> resultType, Stage... stages) {
+        AggregationImpl<S> aggregation = new AggregationImpl<>(datastore, source, datastore.getCollection(source));
+        aggregation.pipeline(stages);
+        return getCollection(source, null)
+                .withCodecRegistry(aggregation.resultRegistry(resultType))
+                .aggregate(aggregation.pipeline(), resultType);
+    }
+
+    /**
+     * Deletes an entity by its ID.
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return the result of the delete
+     */
+    public <T> Publisher<DeleteResult> delete(T entity) {
+        return delete(entity, new DeleteOptions());
+    }
+
+    /**
+     * Deletes an entity by its ID.
+     *
+     * @param entity  the entity to delete
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the result of the delete
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options) {
+        return new DeferredPublisher<>(() -> {
+            Object id = getMapper().getId(entity);
+            return id != null
+                    ? find((Class<T>) entity.getClass())
+                            .filter(eq("_id", id))
+                            .delete(options)
+                    : new JustPublisher<>(DeleteResult.acknowledged(0));
+        });
+    }
+
+    /**
+     * Creates a query for a mapped type.
+     *
+     * @param type the type to query
+     * @param <T>  the type
+     * @return the query
+     */
+    public <T> ReactiveQuery<T> find(Class<T> type) {
+        return new ReactiveQuery<>(this, type);
+    }
+
+    /**
+     * @return the blocking datastore whose mapping this datastore shares
+     */
+    public Datastore getDatastore() {
+        return datastore;
+    }
+
+    /**
+     * @return the mapper
+     */
+    public Mapper getMapper() {
+        return datastore.getMapper();
+    }
+
+    /**
+     * @return the codec registry
+     */
+    public CodecRegistry getCodecRegistry() {
+        return datastore.getCodecRegistry();
+    }
+
+    /**
+     * @return the database
+     */
+    public MongoDatabase getDatabase() {
+        return database;
+    }
+
+    /**
+     * Inserts an entity.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return the result of the insert
+     */
+    public <T> Publisher<InsertOneResult> insert(T entity) {
+        return insert(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Inserts an entity.
+     *
+     * @param entity  the entity to insert
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the result of the insert
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<InsertOneResult> insert(T entity, InsertOneOptions options) {
+        MongoCollection<T> collection = getCollection((Class<T>) entity.getClass(), options);
+        return new DeferredPublisher<>(() -> {
+            VersionBumpInfo info = datastore.updateVersioning(entity);
+            datastore.getChangeTracker().forget(entity);
+            return rollbackOnError(collection.insertOne(entity, options.driver()), info);
+        });
+    }
+
+    /**
+     * Inserts a list of entities of the same type.
+     *
+     * @param entities the entities to insert
+     * @param <T>      the entity type
+     * @return the result of the insert
+     */
+    public <T> Publisher<InsertManyResult> insert(List<T> entities) {
+        return insert(entities, new InsertManyOptions());
+    }
+
+    /**
+     * Inserts a list of entities of the same type.
+     *
+     * @param entities the entities to insert
+     * @param options  the options to apply
+     * @param <T>      the entity type
+     * @return the result of the insert
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<InsertManyResult> insert(List<T> entities, InsertManyOptions options) {
+        if (entities.isEmpty()) {
+            throw new IllegalArgumentException("No entities to insert");
+        }
+        MongoCollection<T> collection = getCollection((Class<T>) entities.get(0).getClass(), options);
+        return new DeferredPublisher<>(() -> {
+            List<VersionBumpInfo> infos = entities.stream()
+                    .map(datastore::updateVersioning)
+                    .toList();
+            entities.forEach(entity -> datastore.getChangeTracker().forget(entity));
+            return new MappingPublisher<>(collection.insertMany(entities, options.driver()), result -> result,
+                    error -> infos.forEach(VersionBumpInfo::rollbackVersion));
+        });
+    }
+
+    /**
+     * Saves an entity, inserting it if it has no ID and replacing the stored document otherwise. Versioned entities are only replaced if
+     * the stored version matches and fail with a {@link VersionMismatchException} otherwise.
+     *
+     * @param entity the entity to save
+     * @param <T>    the entity type
+     * @return the saved entity
+     */
+    public <T> Publisher<T> save(T entity) {
+        return save(entity, new InsertOneOptions());
+    }
+
+    /**
+     * Saves an entity, inserting it if it has no ID and replacing the stored document otherwise. Versioned entities are only replaced if
+     * the stored version matches and fail with a {@link VersionMismatchException} otherwise.
+     *
+     * @param entity  the entity to save
+     * @param options the options to apply
+     * @param <T>     the entity type
+     * @return the saved entity
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Publisher<T> save(T entity, InsertOneOptions options) {
+        Class<T> type = (Class<T>) entity.getClass();
+        EntityModel model = getMapper().getEntityModel(type);
+        MongoCollection<T> collection = getCollection(type, options);
+        String collectionName = collection.getNamespace().getCollectionName();
+        return new DeferredPublisher<>(() -> {
+            PropertyModel idProperty = model.getIdProperty();
+            Object id = idProperty != null ? idProperty.getValue(entity) : null;
+            VersionBumpInfo info = datastore.updateVersioning(entity);
+            datastore.getChangeTracker().forget(entity);
+
+            Publisher<T> write;
+            if (id == null || info.isFirstVersion()) {
+                write = new MappingPublisher<>(collection.insertOne(entity, options.driver()), result -> entity);
+            } else {
+                Document filter = new Document("_id", id);
+                info.filter(filter);
+                model.getShardKeys().forEach(property -> filter.put(property.getMappedName(), property.getValue(entity)));
+                ReplaceOptions replaceOptions = new ReplaceOptions()
+                        .bypassDocumentValidation(options.bypassDocumentValidation())
+                        .upsert(!info.versioned());
+                write = new MappingPublisher<>(collection.replaceOne(filter, entity, replaceOptions), result -> {
+                    if (info.versioned() && result.getModifiedCount() != 1) {
+                        throw new VersionMismatchException(type, id);
+                    }
+                    return entity;
+                });
+            }
+            write = rollbackOnError(write, info);
+            return id != null ? invalidating(write, collectionName, id) : write;
+        });
+    }
+
+    <T> MongoCollection<T> getCollection(Class<T> type, @Nullable CollectionConfiguration options) {
+        EntityModel model = getMapper().getEntityModel(type);
+        MongoCollection<T> collection = database.getCollection(model.collectionName(), type);
+        Entity annotation = model.getEntityAnnotation();
+        if (annotation != null && !annotation.concern().equals("")) {
+            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+        }
+
+        if (options instanceof CollectionConfigurable && ((CollectionConfigurable<?>) options).collection() != null) {
+            collection = database.getCollection(((CollectionConfigurable<?>) options).collection(), type)
+                    .withWriteConcern(collection.getWriteConcern());
+        }
+        if (options instanceof ReadConfigurable) {
+            ReadConfigurable<?> read = (ReadConfigurable<?>) options;
+            if (read.readConcern() != null) {
+                collection = collection.withReadConcern(read.readConcern());
+            }
+            if (read.readPreference() != null) {
+                collection = collection.withReadPreference(read.readPreference());
+            }
+        }
+        if (options instanceof WriteConfigurable && ((WriteConfigurable<?>) options).writeConcern() != null) {
+            collection = collection.withWriteConcern(((WriteConfigurable<?>) options).writeConcern());
+        }
+        return collection;
+    }
+
+    /**
+     * Discards anything cached for the entities a write touched once the write has completed.
+     */
+    <R> Publisher<R> invalidating(Publisher<R> publisher, String collection, @Nullable Object id) {
+        return new MappingPublisher<>(publisher, result -> {
+            datastore.invalidateCache(collection, id);
+            return result;
+        }, error -> datastore.invalidateCache(collection, id));
+    }
+
+    /**
+     * Restores the version of an entity should the write fail.
+     */
+    private static <R> Publisher<R> rollbackOnError(Publisher<R> publisher, VersionBumpInfo info) {
+        return info.versioned()
+                ? new MappingPublisher<>(publisher, result -> result, error -> info.rollbackVersion())
+                : publisher;
+    }
+
+    MorphiaDatastore datastore() {
+        return datastore;
+    }
+}
@@ -0,0 +1,206 @@
+package dev.morphia.reactive;
+
+import java.util.List;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.lang.Nullable;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.query.CountOptions;
+import dev.morphia.query.DefaultQueryFactory;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.MorphiaQuery;
+import dev.morphia.query.Operations;
+import dev.morphia.query.filters.Filter;
+import dev.morphia.query.updates.UpdateOperator;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.reactivestreams.Publisher;
+
+import static dev.morphia.mapping.codec.CodecHelper.coalesce;
+
+/**
+ * A query against a {@link ReactiveDatastore}. Filters are built and encoded exactly as they are for
+ * {@link dev.morphia.query.Query} and results are published as the driver fetches them. The batch size set in {@link FindOptions} bounds
+ * how many documents are fetched ahead of a subscriber's demand.
+ *
+ * @param <T> the entity type
+ * @since 3.0
+ */
+public class ReactiveQuery<T> {
+    private final ReactiveDatastore datastore;
+    private final Class<T> type;
+    private final MorphiaQuery<T> query;
+
+    ReactiveQuery(ReactiveDatastore datastore, Class<T> type) {
+        this.datastore = datastore;
+        this.type = type;
+        query = (MorphiaQuery<T>) new DefaultQueryFactory().createQuery(datastore.datastore(), type, null);
+    }
+
+    /**
+     * Counts the entities matching this query.
+     *
+     * @return the count
+     */
+    public Publisher<Long> count() {
+        return count(new CountOptions());
+    }
+
+    /**
+     * Counts the entities matching this query.
+     *
+     * @param options the options to apply
+     * @return the count
+     */
+    public Publisher<Long> count(CountOptions options) {
+        return datastore.getCollection(type, options).countDocuments(query.toBsonDocument(), options);
+    }
+
+    /**
+     * Deletes the first entity matching this query.
+     *
+     * @return the result of the delete
+     */
+    public Publisher<DeleteResult> delete() {
+        return delete(new DeleteOptions());
+    }
+
+    /**
+     * Deletes the entities matching this query.
+     *
+     * @param options the options to apply
+     * @return the result of the delete
+     */
+    public Publisher<DeleteResult> delete(DeleteOptions options) {
+        MongoCollection<T> collection = datastore.getCollection(type, options);
+        BsonDocument filter = query.toBsonDocument();
+        Publisher<DeleteResult> result = options.multi()
+                ? collection.deleteMany(filter, options)
+                : collection.deleteOne(filter, options);
+        return datastore.invalidating(result, collection.getNamespace().getCollectionName(), idValue(filter));
+    }
+
+    /**
+     * Disables validation of paths against the mapped model.
+     *
+     * @return this
+     */
+    public ReactiveQuery<T> disableValidation() {
+        query.disableValidation();
+        return this;
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @return the matching entities
+     */
+    public Publisher<T> execute() {
+        return execute(new FindOptions());
+    }
+
+    /**
+     * Executes the query.
+     *
+     * @param options the options to apply
+     * @return the matching entities
+     */
+    public Publisher<T> execute(FindOptions options) {
+        FindPublisher<T> publisher = datastore.getCollection(type, options).find(query.toBsonDocument());
+        options.apply(new PublisherTarget(publisher), datastore.getMapper(), type);
+        return publisher;
+    }
+
+    /**
+     * Adds filters to this query.
+     *
+     * @param filters the filters to add
+     * @return this
+     */
+    public ReactiveQuery<T> filter(Filter... filters) {
+        query.filter(filters);
+        return this;
+    }
+
+    /**
+     * Finds the first entity matching this query.
+     *
+     * @return the entity, if any
+     */
+    public Publisher<T> first() {
+        return first(new FindOptions());
+    }
+
+    /**
+     * Finds the first entity matching this query.
+     *
+     * @param options the options to apply
+     * @return the entity, if any
+     */
+    public Publisher<T> first(FindOptions options) {
+        FindPublisher<T> publisher = datastore.getCollection(type, options).find(query.toBsonDocument());
+        options.apply(new PublisherTarget(publisher), datastore.getMapper(), type);
+        return publisher.first();
+    }
+
+    /**
+     * @return the filter this query sends to the server
+     */
+    public Document toDocument() {
+        return query.toDocument();
+    }
+
+    /**
+     * Updates the first entity matching this query.
+     *
+     * @param first   the first update operator
+     * @param updates the remaining update operators
+     * @return the result of the update
+     */
+    public Publisher<UpdateResult> update(UpdateOperator first, UpdateOperator... updates) {
+        return update(new UpdateOptions(), first, updates);
+    }
+
+    /**
+     * Updates the entities matching this query.
+     *
+     * @param options the options to apply
+     * @param first   the first update operator
+     * @param updates the remaining update operators
+     * @return the result of the update
+     */
+    public Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        EntityModel model = datastore.getMapper().getEntityModel(type);
+        List<UpdateOperator> operators = coalesce(first, updates);
+        BsonDocument update = new Operations(model, operators, query.isValidate())
+                .toBsonDocument(datastore.datastore());
+
+        BsonDocument filter = query.toBsonDocument();
+        if (options.isUpsert() && model.useDiscriminator()) {
+            filter.put(model.discriminatorKey(), new BsonString(model.discriminator()));
+        }
+
+        MongoCollection<T> collection = datastore.getCollection(type, options);
+        Publisher<UpdateResult> result = options.multi()
+                ? collection.updateMany(filter, update, options)
+                : collection.updateOne(filter, update, options);
+        return datastore.invalidating(result, collection.getNamespace().getCollectionName(), idValue(filter));
+    }
+
+    @Nullable
+    private static Object idValue(BsonDocument filter) {
+        BsonValue id = filter.get("_id");
+        return id != null && !(id.isDocument() && id.asDocument().keySet().stream().anyMatch(key -> key.startsWith("$")))
+                ? id
+                : null;
+    }
+}
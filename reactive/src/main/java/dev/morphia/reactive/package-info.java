@@ -0,0 +1,9 @@
+/**
+ * A non-blocking datastore built on the reactive streams driver which shares the mapping and codecs of a {@link dev.morphia.Datastore}.
+ *
+ * @since 3.0
+ */
+@NonNullApi
+package dev.morphia.reactive;
+
+import com.mongodb.lang.NonNullApi;
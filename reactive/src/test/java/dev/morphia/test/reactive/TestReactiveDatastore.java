@@ -0,0 +1,284 @@
+package dev.morphia.test.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+
+import dev.morphia.VersionMismatchException;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Version;
+import dev.morphia.query.FindOptions;
+import dev.morphia.reactive.ReactiveDatastore;
+import dev.morphia.test.TestBase;
+
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static dev.morphia.aggregation.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.expressions.Expressions.field;
+import static dev.morphia.aggregation.stages.Group.group;
+import static dev.morphia.aggregation.stages.Group.id;
+import static dev.morphia.config.ManualMorphiaConfig.configure;
+import static dev.morphia.query.filters.Filters.eq;
+import static dev.morphia.query.filters.Filters.gte;
+import static dev.morphia.query.updates.UpdateOperators.inc;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+public class TestReactiveDatastore extends TestBase {
+    private MongoClient client;
+    private ReactiveDatastore reactive;
+
+    public TestReactiveDatastore() {
+        super(configure().packages(List.of(Book.class.getPackageName())));
+    }
+
+    @BeforeMethod
+    public void reactive() {
+        client = MongoClients.create(getConnectionString());
+        reactive = new ReactiveDatastore(getDs(), client);
+    }
+
+    @AfterMethod
+    public void close() {
+        client.close();
+    }
+
+    @Test
+    public void crud() {
+        Book book = single(reactive.save(new Book("Dune", "Herbert", 10)));
+        assertNotNull(book.id);
+        assertEquals(book.version, Long.valueOf(1));
+
+        assertEquals(single(reactive.find(Book.class).filter(eq("_id", book.id)).first()), book);
+        assertEquals(getDs().find(Book.class).first(), book);
+
+        UpdateResult update = single(reactive.find(Book.class)
+                .filter(eq("title", "Dune"))
+                .update(inc("copies", 5)));
+        assertEquals(update.getModifiedCount(), 1);
+        assertEquals(single(reactive.find(Book.class).first()).copies, 15);
+
+        DeleteResult delete = single(reactive.delete(book));
+        assertEquals(delete.getDeletedCount(), 1);
+        assertEquals(single(reactive.find(Book.class).count()), Long.valueOf(0));
+    }
+
+    @Test
+    public void versioning() {
+        Book book = single(reactive.save(new Book("Emma", "Austen", 1)));
+        Book stale = getDs().find(Book.class).first();
+
+        book.copies = 2;
+        single(reactive.save(book));
+        assertEquals(book.version, Long.valueOf(2));
+
+        stale.copies = 3;
+        try {
+            single(reactive.save(stale));
+            fail("The stale entity should not have been saved");
+        } catch (VersionMismatchException e) {
+            assertEquals(stale.version, Long.valueOf(1));
+        }
+    }
+
+    @Test
+    public void writesWaitForSubscription() {
+        Book book = new Book("Persuasion", "Austen", 1);
+        Publisher<Book> save = reactive.save(book);
+        assertNull(book.version);
+        assertEquals(single(reactive.find(Book.class).count()), Long.valueOf(0));
+
+        single(save);
+        assertEquals(book.version, Long.valueOf(1));
+        assertEquals(single(reactive.find(Book.class).count()), Long.valueOf(1));
+    }
+
+    @Test
+    public void primitiveVersions() {
+        Ledger ledger = single(reactive.save(new Ledger()));
+        assertEquals(ledger.version, 1);
+
+        ledger.balance = 10;
+        single(reactive.save(ledger));
+        assertEquals(ledger.version, 2);
+        assertEquals(single(reactive.find(Ledger.class).count()), Long.valueOf(1));
+        assertEquals(getDs().find(Ledger.class).first().balance, 10);
+    }
+
+    @Test
+    public void backpressure() {
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            books.add(new Book("Book " + i, i % 2 == 0 ? "Even" : "Odd", i));
+        }
+        single(reactive.insert(books));
+
+        Collector<Book> collector = new Collector<>(3);
+        reactive.find(Book.class)
+                .filter(gte("copies", 5))
+                .execute(new FindOptions().batchSize(3))
+                .subscribe(collector);
+
+        assertEquals(collector.await().size(), 15);
+        assertFalse(collector.overrun, "More was published than requested");
+    }
+
+    @Test
+    public void aggregate() {
+        single(reactive.insert(List.of(new Book("A", "Austen", 1), new Book("B", "Austen", 2), new Book("C", "Bronte", 4))));
+
+        List<Total> totals = all(reactive.aggregate(Book.class, Total.class,
+                group(id(field("author")))
+                        .field("copies", sum(field("copies")))));
+
+        assertEquals(totals.size(), 2);
+        Total austen = totals.stream().filter(total -> total.id.equals("Austen")).findFirst().orElseThrow();
+        assertEquals(austen.copies, 3);
+    }
+
+    private static <T> T single(Publisher<T> publisher) {
+        List<T> items = all(publisher);
+        assertEquals(items.size(), 1, "Expected a single result: " + items);
+        return items.get(0);
+    }
+
+    private static <T> List<T> all(Publisher<T> publisher) {
+        Collector<T> collector = new Collector<>(Long.MAX_VALUE);
+        publisher.subscribe(collector);
+        return collector.await();
+    }
+
+    private static class Collector<T> implements Subscriber<T> {
+        private final CompletableFuture<List<T>> done = new CompletableFuture<>();
+        private final List<T> items = new ArrayList<>();
+        private final long demand;
+        private Subscription subscription;
+        private long requested;
+        private boolean overrun;
+
+        Collector(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            request();
+        }
+
+        @Override
+        public synchronized void onNext(T item) {
+            items.add(item);
+            overrun |= items.size() > requested;
+            if (items.size() == requested) {
+                request();
+            }
+        }
+
+        private synchronized void request() {
+            requested = demand == Long.MAX_VALUE ? demand : requested + demand;
+            subscription.request(demand);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public synchronized void onComplete() {
+            done.complete(items);
+        }
+
+        List<T> await() {
+            try {
+                return done.get(30, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            } catch (InterruptedException | TimeoutException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Entity("books")
+    public static class Book {
+        @Id
+        private ObjectId id;
+        private String title;
+        private String author;
+        private int copies;
+        @Version
+        private Long version;
+
+        public Book() {
+        }
+
+        Book(String title, String author, int copies) {
+            this.title = title;
+            this.author = author;
+            this.copies = copies;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Book)) {
+                return false;
+            }
+            Book book = (Book) o;
+            return copies == book.copies && Objects.equals(id, book.id) && Objects.equals(title, book.title)
+                    && Objects.equals(author, book.author) && Objects.equals(version, book.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, title, author, copies, version);
+        }
+
+        @Override
+        public String toString() {
+            return "Book{id=" + id + ", title='" + title + "', copies=" + copies + ", version=" + version + '}';
+        }
+    }
+
+    @Entity("ledgers")
+    public static class Ledger {
+        @Id
+        private ObjectId id = new ObjectId();
+        private int balance;
+        @Version
+        private long version;
+    }
+
+    @Entity
+    public static class Total {
+        @Id
+        private String id;
+        private int copies;
+    }
+}